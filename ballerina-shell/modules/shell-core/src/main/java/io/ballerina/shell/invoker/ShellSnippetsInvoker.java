@@ -103,6 +103,12 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
      * or a temp file.
      */
     private File bufferFile;
+    /**
+     * Offline project that is loaded from the buffer file. The project is kept across the
+     * snippets and only the content of its document is replaced, so that the package resolution
+     * and the compiled dependencies are reused instead of loading a new project for each snippet.
+     */
+    private Project bufferProject;
 
     protected ShellSnippetsInvoker() {
         this.scheduler = new Scheduler(false);
@@ -250,11 +256,22 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
     protected Project getProject(String source, boolean isOffline) throws InvokerException {
         try {
             File mainBal = writeToFile(source);
+            if (isOffline && bufferProject != null) {
+                Module module = bufferProject.currentPackage().getDefaultModule();
+                DocumentId documentId = module.documentIds().iterator().next();
+                module.document(documentId).modify().withContent(source).apply();
+                return bufferProject;
+            }
+
             BuildOptions buildOptions = BuildOptions.builder()
                     .setOffline(isOffline)
                     .targetDir(ProjectUtils.getTemporaryTargetPath())
                     .build();
-            return SingleFileProject.load(mainBal.toPath(), buildOptions);
+            Project project = SingleFileProject.load(mainBal.toPath(), buildOptions);
+            if (isOffline) {
+                bufferProject = project;
+            }
+            return project;
         } catch (IOException e) {
             addErrorDiagnostic("File writing failed: " + e.getMessage());
             throw new InvokerException(e);
@@ -323,6 +340,8 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
                 addErrorDiagnostic("Import resolution failed. Module not found.");
                 throw new InvokerException();
             }
+            // The offline project has to be reloaded to resolve the newly pulled module.
+            resetBufferProject();
         }
     }
 
@@ -519,6 +538,14 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
         return StringUtils.highlightDiagnostic(document.textDocument(), diagnostic);
     }
 
+    /**
+     * Discards the offline project kept across the snippets, so that the next snippet is
+     * compiled in a newly loaded project.
+     */
+    protected void resetBufferProject() {
+        this.bufferProject = null;
+    }
+
     /**
      * Helper method to write a string source to a file.
      *
@@ -18,6 +18,7 @@
 package io.ballerina.runtime.api;
 
 import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.async.MethodInvoker;
 import io.ballerina.runtime.api.async.StrandMetadata;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BFunctionPointer;
@@ -174,6 +175,22 @@ public abstract class Runtime {
     public abstract Object invokeMethodAsync(BObject object, String methodName, String strandName,
                                              StrandMetadata metadata, Callback callback, Object... args);
 
+    /**
+     * Resolve an object method into an invoker, which can be used to invoke the method repeatedly. The method, its
+     * parameters and whether it can be executed concurrently are resolved once when creating the invoker, instead of
+     * on each invocation.
+     *
+     * @param object     Object Value.
+     * @param methodName Name of the method.
+     * @param strandName Name for newly created strands which are used to execute the method. This is optional and can
+     *                   be null.
+     * @param metadata   Meta data of new strands.
+     * @param returnType Expected return type of this method.
+     * @return {@link MethodInvoker} to invoke the method.
+     */
+    public abstract MethodInvoker getMethodInvoker(BObject object, String methodName, String strandName,
+                                                   StrandMetadata metadata, Type returnType);
+
     public abstract void registerListener(BObject listener);
 
     public abstract void deregisterListener(BObject listener);
@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.api.async;
+
+import io.ballerina.runtime.api.values.BFuture;
+
+import java.util.Map;
+
+/**
+ * Represents an object method that is resolved once, so that it can be invoked repeatedly without looking up the
+ * method, its parameters and its isolation on each invocation. Listeners can use this to dispatch each incoming
+ * request to the same service method.
+ *
+ * @since 2201.11.0
+ */
+public interface MethodInvoker {
+
+    /**
+     * Invoke the resolved method asynchronously. The method is executed concurrently if both the object and the method
+     * are isolated, and sequentially per object otherwise.
+     *
+     * @param callback   Callback which will get notified once the method execution is done.
+     * @param properties Set of properties for strand.
+     * @param args       Ballerina function arguments.
+     * @return {@link BFuture} containing return value for executing this method.
+     */
+    BFuture invoke(Callback callback, Map<String, Object> properties, Object... args);
+
+    /**
+     * Returns whether the resolved method is executed concurrently.
+     *
+     * @return true if both the object and the method are isolated
+     */
+    boolean isIsolated();
+}
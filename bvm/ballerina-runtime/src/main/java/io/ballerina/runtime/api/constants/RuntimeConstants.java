@@ -59,6 +59,10 @@ public final class RuntimeConstants {
     public static final String BALLERINA_HOME = "ballerina.home";
     public static final String BALLERINA_PACKAGE_PREFIX = "ballerina" + ORG_NAME_SEPARATOR;
     public static final String BALLERINA_MAX_POOL_SIZE_ENV_VAR = "BALLERINA_MAX_POOL_SIZE";
+    public static final String BALLERINA_QUERY_PARALLELISM_ENV_VAR = "BALLERINA_QUERY_PARALLELISM";
+    public static final String BALLERINA_QUERY_PARALLELISM_PROPERTY = "ballerina.query.parallelism";
+    public static final String BALLERINA_ARRAY_PARALLELISM_ENV_VAR = "BALLERINA_ARRAY_PARALLELISM";
+    public static final String BALLERINA_ARRAY_PARALLELISM_PROPERTY = "ballerina.array.parallelism";
     public static final Module BALLERINA_LANG_ERROR_PKG_ID = new Module(BALLERINA_BUILTIN_PKG_PREFIX,
                                                                         "lang.error", "0");
 
@@ -79,6 +83,7 @@ public final class RuntimeConstants {
     public static final String BOOLEAN_LANG_LIB = "lang.boolean";
     public static final String TRANSACTION_LANG_LIB = "lang.transaction";
     public static final String REGEXP_LANG_LIB = "lang.regexp";
+    public static final String QUERY_LANG_LIB = "lang.query";
 
     // Workers
     public static final String DEFAULT_WORKER_NAME = "default";
@@ -129,6 +134,9 @@ public final class RuntimeConstants {
     public static final String SYSTEM_PROP_BAL_DEBUG = "debug";
     public static final String SYSTEM_PROP_PROFILE_DEBUG = "profilerDebug";
 
+    // Name of the system property to mark a training run used to generate a class data sharing archive
+    public static final String SYSTEM_PROP_CDS_TRAINING_RUN = "ballerina.cds.trainingRun";
+
     // Transaction constants
     public static final String GLOBAL_TRANSACTION_ID = "globalTransactionId";
     public static final String TRANSACTION_URL = "transactionUrl";
@@ -23,6 +23,7 @@ import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.PredefinedTypes;
 import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.async.MethodInvoker;
 import io.ballerina.runtime.api.async.StrandMetadata;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.types.ObjectType;
@@ -38,6 +39,7 @@ import io.ballerina.runtime.internal.errors.ErrorCodes;
 import io.ballerina.runtime.internal.errors.ErrorHelper;
 import io.ballerina.runtime.internal.launch.LaunchUtils;
 import io.ballerina.runtime.internal.scheduling.AsyncUtils;
+import io.ballerina.runtime.internal.scheduling.ObjectMethodInvoker;
 import io.ballerina.runtime.internal.scheduling.RuntimeRegistry;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
 import io.ballerina.runtime.internal.scheduling.Strand;
@@ -329,6 +331,13 @@ public class BalRuntime extends Runtime {
                                  PredefinedTypes.TYPE_NULL, args);
     }
 
+    @Override
+    public MethodInvoker getMethodInvoker(BObject object, String methodName, String strandName,
+                                          StrandMetadata metadata, Type returnType) {
+        validateArgs(object, methodName);
+        return new ObjectMethodInvoker(scheduler, (ObjectValue) object, methodName, strandName, metadata, returnType);
+    }
+
     private void validateArgs(BObject object, String methodName) {
         if (object == null) {
             throw ErrorCreator.createError(StringUtils.fromString("object cannot be null"));
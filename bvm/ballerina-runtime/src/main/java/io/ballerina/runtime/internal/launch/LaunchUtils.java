@@ -46,6 +46,7 @@ import java.util.ServiceLoader;
 import java.util.Set;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.DOT;
+import static io.ballerina.runtime.api.constants.RuntimeConstants.SYSTEM_PROP_CDS_TRAINING_RUN;
 import static io.ballerina.runtime.internal.configurable.providers.toml.TomlConstants.CONFIG_DATA_ENV_VARIABLE;
 import static io.ballerina.runtime.internal.configurable.providers.toml.TomlConstants.CONFIG_FILES_ENV_VARIABLE;
 import static io.ballerina.runtime.internal.configurable.providers.toml.TomlConstants.CONFIG_FILE_NAME;
@@ -73,6 +74,17 @@ public final class LaunchUtils {
         startTrapSignalHandler();
     }
 
+    /**
+     * Exits the program if it is started as a training run to generate a class data sharing archive. This is called
+     * after the types and the value creators of all the modules are initialized, but before the configurable
+     * variables are resolved and any user code is executed, so that the training run has no side effects.
+     */
+    public static void exitIfCdsTrainingRun() {
+        if (Boolean.getBoolean(SYSTEM_PROP_CDS_TRAINING_RUN)) {
+            Runtime.getRuntime().exit(0);
+        }
+    }
+
     public static void startTrapSignalHandler() {
         try {
             Signal.handle(new Signal("TRAP"), signal -> outStream.println(StrandDump.getStrandDump()));
@@ -29,6 +29,7 @@ import io.ballerina.runtime.api.types.ObjectType;
 import io.ballerina.runtime.api.types.Parameter;
 import io.ballerina.runtime.api.types.RemoteMethodType;
 import io.ballerina.runtime.api.types.ResourceMethodType;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BError;
@@ -48,6 +49,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
 import java.util.function.Supplier;
 
 /**
@@ -143,9 +146,98 @@ public final class AsyncUtils {
         blockStrand(parent);
         AtomicInteger callCount = new AtomicInteger(0);
         BFunctionType funcType = (BFunctionType) TypeUtils.getImpliedType(func.getType());
-        scheduleNextFunction(func, funcType, parent, strandName, metadata, noOfIterations, callCount, argsSupplier,
-                futureResultConsumer, returnValueSupplier, scheduler);
+        // The parameters are the same for all the iterations, hence the default values are computed only if the
+        // function has defaultable parameters
+        scheduleNextFunction(func, funcType, hasDefaultableParams(func), parent, strandName, metadata, noOfIterations,
+                callCount, argsSupplier, futureResultConsumer, returnValueSupplier, scheduler);
+    }
+
+    /**
+     * Invoke Function Pointer given number of times, splitting the invocations into the given number of consecutive
+     * partitions. The partitions are executed concurrently, each in its own strand group, while the invocations of a
+     * partition are executed one after the other in the order of their indexes. The strand is blocked until all the
+     * partitions are completed. Hence, this should only be used with isolated functions. The arguments are used as
+     * they are, without computing default values, hence this should not be used with the functions which may have
+     * defaultable parameters, as reported by {@link #hasDefaultableParams(BFunctionPointer)}.
+     * <p>
+     * A partition stops at its first invocation that panics. If any of the invocations panics, the parent strand panics
+     * with the error of the invocation with the smallest index, which is the error that sequential invocation would
+     * have resulted in, once all the partitions are completed.
+     *
+     * @param func                Function Pointer to be invoked.
+     * @param strandName          Name for newly creating strands which are used to execute the function pointer. This
+     *                            is optional and can be null.
+     * @param metadata            Meta data of new strands.
+     * @param noOfIterations      Number of invocations of the function pointer.
+     * @param noOfPartitions      Number of partitions the invocations are split into.
+     * @param argsSupplier        Function which provides the arguments of the invocation with the given index.
+     * @param resultConsumer      Consumer used to process the result of the invocation with the given index. This may
+     *                            be called concurrently from different threads.
+     * @param returnValueSupplier Suppler used to set the final return value for the parent function invocation.
+     * @param scheduler           The scheduler for invoking functions
+     */
+    public static void invokeFunctionPointerAsyncInPartitions(BFunctionPointer<Object[], ?> func, String strandName,
+                                                              StrandMetadata metadata, int noOfIterations,
+                                                              int noOfPartitions, IntFunction<Object[]> argsSupplier,
+                                                              ObjIntConsumer<Object> resultConsumer,
+                                                              Supplier<Object> returnValueSupplier,
+                                                              Scheduler scheduler) {
+        if (noOfIterations <= 0) {
+            return;
+        }
+        int partitionCount = Math.max(Math.min(noOfPartitions, noOfIterations), 1);
+        Strand parent = Scheduler.getStrand();
+        blockStrand(parent);
+        AtomicInteger completedCount = new AtomicInteger(0);
+        BError[] errors = new BError[partitionCount];
+        Type retType = ((BFunctionType) TypeUtils.getImpliedType(func.getType())).retType;
+        PartitionInvoker invoker = new PartitionInvoker(func, strandName, metadata, retType, argsSupplier,
+                resultConsumer, scheduler, parent);
+        for (int i = 0; i < partitionCount; i++) {
+            int partition = i;
+            int startIndex = (int) ((long) noOfIterations * partition / partitionCount);
+            int endIndex = (int) ((long) noOfIterations * (partition + 1) / partitionCount);
+            invoker.invoke(startIndex, endIndex, error -> {
+                errors[partition] = error;
+                if (completedCount.incrementAndGet() != partitionCount) {
+                    return;
+                }
+                for (BError partitionError : errors) {
+                    if (partitionError != null) {
+                        handleRuntimeErrors(parent, partitionError);
+                        return;
+                    }
+                }
+                parent.returnValue = returnValueSupplier.get();
+                scheduler.unblockStrand(parent);
+            });
+        }
+    }
 
+    /**
+     * Get the maximum number of partitions of which the invocations can be executed concurrently. This is read from
+     * the given system property, or from the given environment variable if the property is not set. It is read on
+     * each call, so that it can be changed at run time, e.g., by tests.
+     *
+     * @param propertyName       name of the system property
+     * @param envVarName         name of the environment variable
+     * @param defaultParallelism maximum number of partitions if the value is not set
+     * @return the maximum number of partitions, which is one if the value is invalid
+     */
+    public static int getParallelism(String propertyName, String envVarName, int defaultParallelism) {
+        String parallelism = System.getProperty(propertyName);
+        if (parallelism == null) {
+            parallelism = System.getenv(envVarName);
+        }
+        if (parallelism == null) {
+            return defaultParallelism;
+        }
+        try {
+            return Math.max(Integer.parseInt(parallelism.trim()), 1);
+        } catch (NumberFormatException e) {
+            // The invocations are executed sequentially if the value is invalid
+            return 1;
+        }
     }
 
     public static void getArgsWithDefaultValues(Scheduler scheduler, BObject object,
@@ -178,6 +270,11 @@ public final class AsyncUtils {
         getArgsWithDefaultValues(scheduler, callback, valueCreator, 0, args, parameters, new ArrayList<>());
     }
 
+    static void getArgsWithDefaultValues(Scheduler scheduler, ValueCreator valueCreator, Parameter[] parameters,
+                                         Callback callback, Object... args) {
+        getArgsWithDefaultValues(scheduler, callback, valueCreator, 0, args, parameters, new ArrayList<>());
+    }
+
     private static void getArgsWithDefaultValues(Scheduler scheduler, Callback callback, ValueCreator valueCreator,
                                                  int startArg, Object[] args, Parameter[] parameters,
                                                  List<Object> argsWithDefaultValues) {
@@ -234,7 +331,30 @@ public final class AsyncUtils {
         scheduler.schedule(args, defaultFunc, future);
     }
 
-    private static MethodType getObjectMethodType(String methodName, ObjectType objectType) {
+    /**
+     * Checks whether the default values of the parameters of the given Function Pointer may have to be computed when
+     * it is invoked. This is the case when the function has defaultable parameters, or when its parameters are not
+     * known.
+     *
+     * @param func Function Pointer to be invoked.
+     * @return true if the function may have defaultable parameters
+     */
+    public static boolean hasDefaultableParams(BFunctionPointer<?, ?> func) {
+        BFunctionType funcType = (BFunctionType) TypeUtils.getImpliedType(func.getType());
+        Parameter[] parameters = funcType.getParameters();
+        return funcType.getPackage() == null || parameters == null || hasDefaultableParams(parameters);
+    }
+
+    static boolean hasDefaultableParams(Parameter[] parameters) {
+        for (Parameter parameter : parameters) {
+            if (parameter.isDefault) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static MethodType getObjectMethodType(String methodName, ObjectType objectType) {
         Map<String, MethodType> methodTypesMap = new HashMap<>();
         if (objectType.getTag() == TypeTags.SERVICE_TAG) {
             BServiceType serviceType = (BServiceType) objectType;
@@ -254,18 +374,19 @@ public final class AsyncUtils {
         return methodTypesMap.get(methodName);
     }
 
-    private static void scheduleNextFunction(BFunctionPointer<Object[], ?> func, BFunctionType funcType, Strand parent,
-                                             String strandName, StrandMetadata metadata, int noOfIterations,
-                                             AtomicInteger callCount, Supplier<Object[]> argsSupplier,
-                                             Consumer<Object> futureResultConsumer,
+    private static void scheduleNextFunction(BFunctionPointer<Object[], ?> func, BFunctionType funcType,
+                                             boolean hasDefaultableParams, Strand parent, String strandName,
+                                             StrandMetadata metadata, int noOfIterations, AtomicInteger callCount,
+                                             Supplier<Object[]> argsSupplier, Consumer<Object> futureResultConsumer,
                                              Supplier<Object> returnValueSupplier, Scheduler scheduler) {
         AsyncFunctionCallback callback = new AsyncFunctionCallback(parent) {
             @Override
             public void notifySuccess(Object result) {
                 futureResultConsumer.accept(getFutureResult());
                 if (callCount.incrementAndGet() != noOfIterations) {
-                    scheduleNextFunction(func, funcType, parent, strandName, metadata, noOfIterations, callCount,
-                            argsSupplier, futureResultConsumer, returnValueSupplier, scheduler);
+                    scheduleNextFunction(func, funcType, hasDefaultableParams, parent, strandName, metadata,
+                            noOfIterations, callCount, argsSupplier, futureResultConsumer, returnValueSupplier,
+                            scheduler);
                 } else {
                     setReturnValues(returnValueSupplier.get());
                 }
@@ -276,6 +397,12 @@ public final class AsyncUtils {
                 handleRuntimeErrors(parent, error);
             }
         };
+        if (!hasDefaultableParams) {
+            FutureValue future = scheduler.createFuture(parent, null, null, funcType.retType, strandName, metadata);
+            scheduleFunctionPointer(func, parent, future, getArgValuesWithStrand(argsSupplier.get()), callback,
+                    scheduler);
+            return;
+        }
         AsyncUtils.getArgsWithDefaultValues(scheduler, func, new Callback() {
             @Override
             public void notifySuccess(Object result) {
@@ -292,14 +419,35 @@ public final class AsyncUtils {
     private static void invokeFunctionPointerAsync(BFunctionPointer<Object[], ?> func, Strand parent,
                                                    FutureValue future, Object[] args,
                                                    AsyncFunctionCallback callback, Scheduler scheduler) {
-        future.callback = callback;
-        callback.setFuture(future);
         Object[] argsWithStrand = new Object[args.length + 1];
         System.arraycopy(args, 0, argsWithStrand, 1, args.length);
+        scheduleFunctionPointer(func, parent, future, argsWithStrand, callback, scheduler);
+    }
+
+    private static void scheduleFunctionPointer(BFunctionPointer<Object[], ?> func, Strand parent, FutureValue future,
+                                                Object[] argsWithStrand, AsyncFunctionCallback callback,
+                                                Scheduler scheduler) {
+        future.callback = callback;
+        callback.setFuture(future);
         argsWithStrand[0] = future.strand;
         scheduler.scheduleLocal(argsWithStrand, func, parent, future);
     }
 
+    /**
+     * Returns the argument values from the arguments given as pairs of the argument value and whether it is provided,
+     * leaving the first element of the returned array for the strand.
+     *
+     * @param args arguments with their provided flags
+     * @return argument values preceded by a slot for the strand
+     */
+    private static Object[] getArgValuesWithStrand(Object[] args) {
+        Object[] argsWithStrand = new Object[args.length / 2 + 1];
+        for (int i = 1; i < argsWithStrand.length; i++) {
+            argsWithStrand[i] = args[(i - 1) * 2];
+        }
+        return argsWithStrand;
+    }
+
     private static void blockStrand(Strand strand) {
         if (!strand.blockedOnExtern) {
             strand.blockedOnExtern = true;
@@ -313,6 +461,43 @@ public final class AsyncUtils {
         parent.scheduler.unblockStrand(parent);
     }
 
+    /**
+     * Invokes a function pointer for each index of a partition, scheduling the invocation of the next index once the
+     * invocation of the current index is completed.
+     */
+    private record PartitionInvoker(BFunctionPointer<Object[], ?> func, String strandName, StrandMetadata metadata,
+                                    Type retType, IntFunction<Object[]> argsSupplier,
+                                    ObjIntConsumer<Object> resultConsumer, Scheduler scheduler, Strand parent) {
+
+        /**
+         * Invoke the function pointer for the indexes from the start index, inclusive, to the end index, exclusive.
+         *
+         * @param index      index of the invocation to be scheduled
+         * @param endIndex   end index of the partition
+         * @param onComplete consumer called with the error of the partition, or null, once the partition is completed
+         */
+        void invoke(int index, int endIndex, Consumer<BError> onComplete) {
+            Callback callback = new Callback() {
+                @Override
+                public void notifySuccess(Object result) {
+                    resultConsumer.accept(result, index);
+                    if (index + 1 < endIndex) {
+                        invoke(index + 1, endIndex, onComplete);
+                    } else {
+                        onComplete.accept(null);
+                    }
+                }
+
+                @Override
+                public void notifyFailure(BError error) {
+                    onComplete.accept(error);
+                }
+            };
+            FutureValue future = scheduler.createFuture(parent, callback, null, retType, strandName, metadata);
+            scheduler.schedule(getArgValuesWithStrand(argsSupplier.apply(index)), func.getFunction(), future);
+        }
+    }
+
     private static class Unblocker implements BiConsumer<Object, Throwable> {
 
         private final Strand strand;
@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.async.MethodInvoker;
+import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BFuture;
+import io.ballerina.runtime.internal.values.FutureValue;
+import io.ballerina.runtime.internal.values.ObjectValue;
+import io.ballerina.runtime.internal.values.ValueCreator;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * {@link MethodInvoker} implementation which resolves the method type, the value creator used to compute the default
+ * values and the isolation of an object method once, when the invoker is created.
+ * <p>
+ * If none of the parameters of the method have default values, the arguments are used as they are and the method is
+ * scheduled directly, without going through the callback chain which computes the default values.
+ *
+ * @since 2201.11.0
+ */
+public class ObjectMethodInvoker implements MethodInvoker {
+
+    private final Scheduler scheduler;
+    private final ObjectValue object;
+    private final String methodName;
+    private final String strandName;
+    private final StrandMetadata metadata;
+    private final Type returnType;
+    private final boolean isIsolated;
+    private final Parameter[] parameters;
+    private final ValueCreator valueCreator;
+    private final boolean hasDefaultableParams;
+
+    public ObjectMethodInvoker(Scheduler scheduler, ObjectValue object, String methodName, String strandName,
+                               StrandMetadata metadata, Type returnType) {
+        this.scheduler = scheduler;
+        this.object = object;
+        this.methodName = methodName;
+        this.strandName = strandName;
+        this.metadata = metadata;
+        this.returnType = returnType;
+
+        ObjectType objectType = (ObjectType) TypeUtils.getImpliedType(object.getType());
+        MethodType methodType = AsyncUtils.getObjectMethodType(methodName, objectType);
+        if (methodType == null) {
+            throw ErrorCreator.createError(StringUtils.fromString("No such method: " + methodName));
+        }
+        this.isIsolated = objectType.isIsolated() && objectType.isIsolated(methodName);
+        this.parameters = methodType.getParameters();
+
+        Module module = objectType.getPackage();
+        this.valueCreator = module == null ? null :
+                ValueCreator.getValueCreator(ValueCreator.getLookupKey(module, module.isTestPkg()));
+        this.hasDefaultableParams = AsyncUtils.hasDefaultableParams(parameters);
+    }
+
+    @Override
+    public BFuture invoke(Callback callback, Map<String, Object> properties, Object... args) {
+        try {
+            FutureValue future = scheduler.createFuture(null, callback, properties, returnType, strandName, metadata);
+            if (args.length == 0 || valueCreator == null) {
+                schedule(args, future);
+            } else if (!hasDefaultableParams) {
+                schedule(getArgValues(args), future);
+            } else {
+                AsyncUtils.getArgsWithDefaultValues(scheduler, valueCreator, parameters, new Callback() {
+                    @Override
+                    public void notifySuccess(Object result) {
+                        schedule((Object[]) result, future);
+                    }
+
+                    @Override
+                    public void notifyFailure(BError error) {
+                        callback.notifyFailure(error);
+                    }
+                }, args);
+            }
+            return future;
+        } catch (BError e) {
+            callback.notifyFailure(e);
+        } catch (Throwable e) {
+            callback.notifyFailure(ErrorCreator.createError(StringUtils.fromString(e.getMessage())));
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isIsolated() {
+        return isIsolated;
+    }
+
+    private void schedule(Object[] argValues, FutureValue future) {
+        Function<Object[], Object> func;
+        if (argValues.length == 1) {
+            Object argValue = argValues[0];
+            func = o -> object.call((Strand) o[0], methodName, argValue);
+        } else {
+            func = o -> object.call((Strand) o[0], methodName, argValues);
+        }
+
+        if (isIsolated) {
+            scheduler.schedule(new Object[1], func, future);
+        } else {
+            scheduler.scheduleToObjectGroup(new Object[1], func, future);
+        }
+    }
+
+    /**
+     * Returns the argument values from the arguments given as pairs of the argument value and whether it is provided.
+     *
+     * @param args arguments with their provided flags
+     * @return argument values
+     */
+    private static Object[] getArgValues(Object[] args) {
+        Object[] argValues = new Object[args.length / 2];
+        for (int i = 0; i < argValues.length; i++) {
+            argValues[i] = args[i * 2];
+        }
+        return argValues;
+    }
+}
@@ -27,9 +27,10 @@ import io.ballerina.runtime.internal.values.ChannelDetails;
 import io.ballerina.runtime.internal.values.ErrorValue;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import static io.ballerina.runtime.internal.scheduling.State.BLOCK_AND_YIELD;
 
@@ -40,7 +41,12 @@ import static io.ballerina.runtime.internal.scheduling.State.BLOCK_AND_YIELD;
  */
 public class WDChannels {
 
-    private Map<String, WorkerDataChannel> wDChannels;
+    // Separates the channel name and the function invocation in the channel names generated by the compiler
+    private static final String INVOCATION_SEPARATOR = ":";
+
+    private volatile Map<String, WorkerDataChannel> wDChannels;
+    // Channels of the latest function invocation, indexed by the slots the compiler assigns to the channel names
+    private volatile InvocationChannels invocationChannels;
     private final List<ErrorValue> errors = new ArrayList<>();
 
     // A worker receive field for multiple receive action.
@@ -48,18 +54,62 @@ public class WDChannels {
     }
 
     //TODO try to generalize this to a normal data channel, in that case we won't need these classes.
-    public synchronized WorkerDataChannel getWorkerDataChannel(String name) {
-        if (this.wDChannels == null) {
-            this.wDChannels = new HashMap<>();
+    public WorkerDataChannel getWorkerDataChannel(String name) {
+        // Channels are looked up on every send and receive, hence the existing channels are returned without locking
+        Map<String, WorkerDataChannel> channels = getChannels();
+        WorkerDataChannel channel = channels.get(name);
+        if (channel != null) {
+            return channel;
         }
-        WorkerDataChannel channel = this.wDChannels.get(name);
-        if (channel == null) {
-            channel = new WorkerDataChannel(name);
-            this.wDChannels.put(name, channel);
+        return channels.computeIfAbsent(name, WorkerDataChannel::new);
+    }
+
+    /**
+     * Returns the channel with the given slot of the given function invocation. The slot is assigned to the channel
+     * name at compile time, hence sends and receives of the latest invocation find the channel by the index without
+     * building its name. The channels are still created and kept by their names, so that the lookups by the name
+     * return the same channel.
+     *
+     * @param invocation  function invocation the channel belongs to
+     * @param slot        slot assigned to the channel name at compile time
+     * @param channelName name of the channel without the invocation
+     * @return the worker data channel
+     */
+    public WorkerDataChannel getWorkerDataChannel(int invocation, int slot, String channelName) {
+        InvocationChannels channels = getInvocationChannels(invocation);
+        WorkerDataChannel channel = channels.get(slot);
+        if (channel != null) {
+            return channel;
         }
+        channel = getWorkerDataChannel(channelName + INVOCATION_SEPARATOR + invocation);
+        channels.set(slot, channel);
         return channel;
     }
 
+    private InvocationChannels getInvocationChannels(int invocation) {
+        InvocationChannels channels = this.invocationChannels;
+        if (channels == null || channels.invocation != invocation) {
+            // Only the latest invocation is kept, the channels of the other invocations are found by their names
+            channels = new InvocationChannels(invocation);
+            this.invocationChannels = channels;
+        }
+        return channels;
+    }
+
+    private Map<String, WorkerDataChannel> getChannels() {
+        Map<String, WorkerDataChannel> channels = this.wDChannels;
+        if (channels == null) {
+            synchronized (this) {
+                channels = this.wDChannels;
+                if (channels == null) {
+                    channels = new ConcurrentHashMap<>();
+                    this.wDChannels = channels;
+                }
+            }
+        }
+        return channels;
+    }
+
     public Object receiveDataMultipleChannels(Strand strand, ReceiveField[] receiveFields, Type targetType)
             throws Throwable {
         if (strand.workerReceiveMap == null) {
@@ -166,15 +216,78 @@ public class WDChannels {
         }
     }
 
-    public synchronized void removeCompletedChannels(Strand strand, String channelName) {
-        if (this.wDChannels != null) {
-            WorkerDataChannel channel = this.wDChannels.get(channelName);
+    private synchronized void removeCompletedChannels(Strand strand, String channelName) {
+        Map<String, WorkerDataChannel> channels = this.wDChannels;
+        if (channels != null) {
+            WorkerDataChannel channel = channels.get(channelName);
             // callCount is incremented to 2 when the message passing is completed.
-            if (channel != null && channel.callCount == 2) {
-                this.wDChannels.remove(channelName);
+            if (channel != null && channel.callCount == 2 && channels.remove(channelName, channel)) {
                 strand.channelDetails.remove(new ChannelDetails(channelName, true, false));
             }
         }
     }
 
+    public synchronized void removeCompletedChannels(Strand strand, int invocation, int slot, String channelName) {
+        String name = channelName + INVOCATION_SEPARATOR + invocation;
+        removeCompletedChannels(strand, name);
+        InvocationChannels channels = this.invocationChannels;
+        Map<String, WorkerDataChannel> namedChannels = this.wDChannels;
+        if (channels != null && channels.invocation == invocation &&
+                (namedChannels == null || !namedChannels.containsKey(name))) {
+            channels.clear(slot);
+        }
+    }
+
+    /**
+     * The channels of a function invocation, indexed by the slots of the channel names. The slots are assigned per
+     * module, hence the array grows to the largest slot used by the invocation.
+     */
+    private static class InvocationChannels {
+
+        private static final int INITIAL_CAPACITY = 8;
+
+        private final int invocation;
+        private volatile AtomicReferenceArray<WorkerDataChannel> channels =
+                new AtomicReferenceArray<>(INITIAL_CAPACITY);
+
+        private InvocationChannels(int invocation) {
+            this.invocation = invocation;
+        }
+
+        private WorkerDataChannel get(int slot) {
+            AtomicReferenceArray<WorkerDataChannel> channels = this.channels;
+            return slot < channels.length() ? channels.get(slot) : null;
+        }
+
+        private void set(int slot, WorkerDataChannel channel) {
+            AtomicReferenceArray<WorkerDataChannel> channels = this.channels;
+            if (slot >= channels.length()) {
+                channels = grow(slot);
+            }
+            // A channel set in an array which is being replaced is lost, and is found by its name again
+            channels.set(slot, channel);
+        }
+
+        private void clear(int slot) {
+            AtomicReferenceArray<WorkerDataChannel> channels = this.channels;
+            if (slot < channels.length()) {
+                channels.set(slot, null);
+            }
+        }
+
+        private synchronized AtomicReferenceArray<WorkerDataChannel> grow(int slot) {
+            AtomicReferenceArray<WorkerDataChannel> channels = this.channels;
+            if (slot < channels.length()) {
+                return channels;
+            }
+            AtomicReferenceArray<WorkerDataChannel> newChannels =
+                    new AtomicReferenceArray<>(Math.max(channels.length() * 2, slot + 1));
+            for (int i = 0; i < channels.length(); i++) {
+                newChannels.set(i, channels.get(i));
+            }
+            this.channels = newChannels;
+            return newChannels;
+        }
+    }
+
 }
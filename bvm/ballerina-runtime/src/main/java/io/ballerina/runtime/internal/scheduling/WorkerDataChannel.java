@@ -20,8 +20,7 @@ package io.ballerina.runtime.internal.scheduling;
 import io.ballerina.runtime.internal.ErrorUtils;
 import io.ballerina.runtime.internal.values.ErrorValue;
 
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.ArrayDeque;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -35,6 +34,9 @@ import static io.ballerina.runtime.internal.scheduling.State.BLOCK_AND_YIELD;
  */
 public class WorkerDataChannel {
 
+    // Queued in place of the nil messages, since the message queue cannot hold nulls
+    private static final Object NIL_MESSAGE = new Object();
+
     private Strand receiver;
     private WaitingSender waitingSender;
     private WaitingSender flushSender;
@@ -49,8 +51,8 @@ public class WorkerDataChannel {
     protected String chnlName;
     protected int callCount = 0;
 
-    @SuppressWarnings("rawtypes")
-    private final Queue<WorkerResult> channel = new LinkedList<>();
+    // Async messages are queued as they are, while sync messages are wrapped in a WorkerResult to mark them as sync
+    private final ArrayDeque<Object> channel = new ArrayDeque<>();
     private State state;
 
     public WorkerDataChannel() {
@@ -106,7 +108,7 @@ public class WorkerDataChannel {
         }
         try {
             acquireChannelLock();
-            this.channel.add(new WorkerResult(data));
+            this.channel.add(data == null ? NIL_MESSAGE : data);
             this.senderCounter++;
             if (this.receiver != null && receiver.scheduler != null) {
                 this.receiver.scheduler.unblockStrand(this.receiver);
@@ -193,12 +195,12 @@ public class WorkerDataChannel {
             if (isClosed()) {
                 return ErrorUtils.createNoMessageError(chnlName);
             }
-            WorkerResult result = this.channel.peek();
-            if (result != null) {
+            Object message = this.channel.poll();
+            if (message != null) {
                 this.receiverCounter++;
-                this.channel.remove();
 
-                if (result.isSync) {
+                WorkerResult syncResult = message instanceof WorkerResult workerResult ? workerResult : null;
+                if (syncResult != null) {
                     // sync sender will pick the this.error as result, which is null
                     if (this.waitingSender != null) {
                         Strand waiting = this.waitingSender.waitingStrand;
@@ -219,7 +221,14 @@ public class WorkerDataChannel {
                     this.flushSender = null;
                 }
                 callCount++;
-                return isMultiple ? result : result.value;
+                if (syncResult != null) {
+                    return isMultiple ? syncResult : syncResult.value;
+                }
+                if (message == NIL_MESSAGE) {
+                    // A multiple receive needs a non-null result to distinguish a nil message from no message
+                    return isMultiple ? new WorkerResult(null) : null;
+                }
+                return message;
             } else if (this.panic != null && this.senderCounter == this.receiverCounter + 1) {
                 this.receiverCounter++;
                 callCount++;
@@ -361,11 +370,11 @@ public class WorkerDataChannel {
     }
 
     /**
-     * This represents a worker result value. This is done as a value to be used in the
-     * queues used for worker communication. In this way, the queue can distinguish the
-     * case of a value not there when the peek, by returning null, and then, if they
-     * return a WorkerResult, the value inside it can be either null or not to mention
-     * Ballerina null value and non-null value.
+     * This represents a worker result value. This is used to mark the sync messages in the
+     * queues used for worker communication, and to return a nil message from a multiple
+     * receive. In this way, the receiver can distinguish the case of a value not there,
+     * by a null, and then, if a WorkerResult is returned, the value inside it can be either
+     * null or not to mention Ballerina null value and non-null value.
      */
     public static class WorkerResult {
 
@@ -60,6 +60,10 @@ public class BRecordType extends BStructureType implements RecordType {
 
     private final Map<String, BFunctionPointer<Object, ?>> defaultValues = new LinkedHashMap<>();
 
+    private FieldsPopulator fieldsPopulator;
+    private int fieldsPopulatorIndex;
+    private volatile boolean fieldsPopulated = true;
+
     /**
      * Create a {@code BRecordType} which represents the user defined record type.
      *
@@ -144,7 +148,7 @@ public class BRecordType extends BStructureType implements RecordType {
     @Override
     public <V extends Object> V getEmptyValue() {
         MapValue<BString, Object> implicitInitValue = new MapValueImpl<>(this);
-        this.fields.entrySet().stream()
+        getFields().entrySet().stream()
                 .filter(entry -> !SymbolFlags.isFlagOn(entry.getValue().getFlags(), SymbolFlags.OPTIONAL))
                 .forEach(entry -> {
                     Object value = entry.getValue().getFieldType().getEmptyValue();
@@ -153,6 +157,43 @@ public class BRecordType extends BStructureType implements RecordType {
         return (V) implicitInitValue;
     }
 
+    @Override
+    public Map<String, Field> getFields() {
+        if (!fieldsPopulated) {
+            populateFields();
+        }
+        return fields;
+    }
+
+    @Override
+    public void setFields(Map<String, Field> fields) {
+        this.fields = fields;
+        this.fieldsPopulator = null;
+        this.fieldsPopulated = true;
+    }
+
+    /**
+     * Defers creating the fields of the record type until they are first accessed. The fields are created by the
+     * given populator of the module that defines the record type.
+     *
+     * @param fieldsPopulator fields populator of the module
+     * @param typeIndex       index of the record type within the module
+     */
+    public void setFieldsPopulator(FieldsPopulator fieldsPopulator, int typeIndex) {
+        this.fieldsPopulator = fieldsPopulator;
+        this.fieldsPopulatorIndex = typeIndex;
+        this.fieldsPopulated = false;
+    }
+
+    private synchronized void populateFields() {
+        if (fieldsPopulated) {
+            return;
+        }
+        LinkedHashMap<String, Field> fieldMap = new LinkedHashMap<>();
+        fieldsPopulator.populateFields(fieldsPopulatorIndex, fieldMap);
+        setFields(fieldMap);
+    }
+
     @Override
     public int getTag() {
         return TypeTags.RECORD_TYPE_TAG;
@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.types;
+
+import io.ballerina.runtime.api.types.Field;
+
+import java.util.LinkedHashMap;
+
+/**
+ * Populates the fields of the types of a module on demand.
+ * <p>
+ * This is implemented by the generated code of each module, so that the fields of a type are only created when the
+ * type is first used, instead of when the module is initialized.
+ *
+ * @since 2201.11.0
+ */
+public interface FieldsPopulator {
+
+    /**
+     * Adds the fields of the type with the given index to the given map.
+     *
+     * @param typeIndex index of the type within the module
+     * @param fields    map to add the fields to
+     */
+    void populateFields(int typeIndex, LinkedHashMap<String, Field> fields);
+}
@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.internal.types.BField;
+import io.ballerina.runtime.internal.types.BRecordType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test cases for populating the fields of record types on demand.
+ *
+ * @since 2201.11.0
+ */
+public class LazyRecordFieldsTests {
+
+    private static final Module module = new Module("myOrg", "test_module", "1.0.0");
+
+    @Test
+    public void testFieldsArePopulatedOnFirstAccess() {
+        AtomicInteger populateCount = new AtomicInteger();
+        BRecordType recordType = new BRecordType("Person", "Person", module, 0, true, 0);
+        recordType.setFieldsPopulator((typeIndex, fields) -> {
+            populateCount.incrementAndGet();
+            Assert.assertEquals(typeIndex, 3);
+            fields.put("name", new BField(PredefinedTypes.TYPE_STRING, "name", 0));
+            fields.put("age", new BField(PredefinedTypes.TYPE_INT, "age", 0));
+        }, 3);
+        Assert.assertEquals(populateCount.get(), 0);
+
+        Map<String, Field> fields = recordType.getFields();
+        Assert.assertEquals(populateCount.get(), 1);
+        Assert.assertEquals(List.copyOf(fields.keySet()), List.of("name", "age"));
+        Assert.assertSame(fields.get("age").getFieldType(), PredefinedTypes.TYPE_INT);
+
+        Assert.assertSame(recordType.getFields(), fields);
+        Assert.assertEquals(populateCount.get(), 1);
+    }
+
+    @Test
+    public void testSetFieldsOverridesPopulator() {
+        BRecordType recordType = new BRecordType("Person", "Person", module, 0, true, 0);
+        recordType.setFieldsPopulator((typeIndex, fields) -> Assert.fail("fields should not be populated"), 0);
+        Map<String, Field> fields = new LinkedHashMap<>();
+        recordType.setFields(fields);
+        Assert.assertSame(recordType.getFields(), fields);
+    }
+}
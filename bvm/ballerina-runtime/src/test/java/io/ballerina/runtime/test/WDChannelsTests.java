@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.scheduling.WDChannels;
+import io.ballerina.runtime.internal.scheduling.WorkerDataChannel;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for looking up the worker data channels by the slots assigned to their names at compile time.
+ *
+ * @since 2201.11.0
+ */
+public class WDChannelsTests {
+
+    private static final String CHANNEL_NAME = "function->w1:1";
+
+    @Test
+    public void testChannelLookupBySlot() {
+        WDChannels wdChannels = new WDChannels();
+        WorkerDataChannel channel = wdChannels.getWorkerDataChannel(3, 0, CHANNEL_NAME);
+        Assert.assertSame(wdChannels.getWorkerDataChannel(3, 0, CHANNEL_NAME), channel);
+        // The channel is the one which is found by its name, as done when a worker panics or flushes
+        Assert.assertSame(wdChannels.getWorkerDataChannel(CHANNEL_NAME + ":3"), channel);
+
+        Assert.assertNotSame(wdChannels.getWorkerDataChannel(3, 1, "function->w2:1"), channel);
+        Assert.assertSame(wdChannels.getWorkerDataChannel(3, 0, CHANNEL_NAME), channel);
+        Assert.assertSame(wdChannels.getWorkerDataChannel(3, 40, "function->w3:1"),
+                wdChannels.getWorkerDataChannel("function->w3:1:3"));
+        Assert.assertSame(wdChannels.getWorkerDataChannel(3, 0, CHANNEL_NAME), channel);
+    }
+
+    @Test
+    public void testChannelsOfDifferentInvocations() {
+        WDChannels wdChannels = new WDChannels();
+        WorkerDataChannel channel = wdChannels.getWorkerDataChannel(3, 0, CHANNEL_NAME);
+        WorkerDataChannel otherChannel = wdChannels.getWorkerDataChannel(4, 0, CHANNEL_NAME);
+        Assert.assertNotSame(otherChannel, channel);
+        Assert.assertSame(wdChannels.getWorkerDataChannel(CHANNEL_NAME + ":4"), otherChannel);
+        Assert.assertSame(wdChannels.getWorkerDataChannel(3, 0, CHANNEL_NAME), channel);
+        Assert.assertSame(wdChannels.getWorkerDataChannel(4, 0, CHANNEL_NAME), otherChannel);
+    }
+
+    @Test
+    public void testCompletedChannelIsRemoved() throws Throwable {
+        WDChannels wdChannels = new WDChannels();
+        Strand strand = new Strand("test", null, null, null, null);
+        WorkerDataChannel channel = wdChannels.getWorkerDataChannel(3, 0, CHANNEL_NAME);
+
+        // A channel is not removed before the message is received
+        channel.sendData(1L, strand);
+        wdChannels.removeCompletedChannels(strand, 3, 0, CHANNEL_NAME);
+        Assert.assertSame(wdChannels.getWorkerDataChannel(3, 0, CHANNEL_NAME), channel);
+
+        Assert.assertEquals(channel.tryTakeData(strand), 1L);
+        wdChannels.removeCompletedChannels(strand, 3, 0, CHANNEL_NAME);
+        Assert.assertNotSame(wdChannels.getWorkerDataChannel(3, 0, CHANNEL_NAME), channel);
+    }
+}
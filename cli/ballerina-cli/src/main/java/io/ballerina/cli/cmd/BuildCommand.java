@@ -210,6 +210,14 @@ public class BuildCommand implements BLauncherCmd {
             description = "experimental memory optimization for large projects")
     private Boolean optimizeDependencyCompilation;
 
+    @CommandLine.Option(names = "--thin-jar", description = "generate an executable jar that refers to the " +
+            "dependency jars instead of bundling them")
+    private Boolean thinJar;
+
+    @CommandLine.Option(names = "--cds", description = "generate a class data sharing archive to improve the " +
+            "startup time of the executable")
+    private Boolean cds;
+
     @Override
     public void execute() {
         long start = 0;
@@ -326,7 +334,9 @@ public class BuildCommand implements BLauncherCmd {
                 .disableSyntaxTreeCaching(disableSyntaxTreeCaching)
                 .setGraalVMBuildOptions(graalVMBuildOptions)
                 .setShowDependencyDiagnostics(showDependencyDiagnostics)
-                .setOptimizeDependencyCompilation(optimizeDependencyCompilation);
+                .setOptimizeDependencyCompilation(optimizeDependencyCompilation)
+                .setThinJar(thinJar)
+                .setCds(cds);
 
         if (targetDir != null) {
             buildOptionsBuilder.targetDir(targetDir.toString());
@@ -175,6 +175,10 @@ public class TestCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--rerun-failed", description = "Rerun failed tests.")
     private boolean rerunTests;
 
+    @CommandLine.Option(names = "--affected-tests", description = "Run only the tests of the modules affected by " +
+            "the changes since the last successful test run.")
+    private boolean affectedTests;
+
     @CommandLine.Option(names = "--includes", hidden = true,
             description = "hidden option for code coverage to include all classes")
     private String includes;
@@ -357,6 +361,11 @@ public class TestCommand implements BLauncherCmd {
             this.outStream.println("WARNING: Rerun failed tests is not supported with Ballerina cloud test");
         }
 
+        if (project.buildOptions().nativeImage() && this.affectedTests) {
+            this.outStream.println("WARNING: Running only the affected tests is not supported with Ballerina native " +
+                    "test. Running all the tests...");
+        }
+
         if (!project.buildOptions().cloud().isEmpty() && project.buildOptions().testReport()) {
             this.outStream.println("WARNING: Test report generation is not supported with Ballerina cloud test");
         }
@@ -395,7 +404,7 @@ public class TestCommand implements BLauncherCmd {
                         project.buildOptions().cloud().isEmpty())
                 .addTask(new RunTestsTask(outStream, errStream, rerunTests, groupList, disableGroupList,
                                 testList, includes, coverageFormat, moduleMap, listGroups, excludes, cliArgs,
-                                isParallelExecution),
+                                isParallelExecution, affectedTests),
                         (project.buildOptions().nativeImage() ||
                         !project.buildOptions().cloud().isEmpty()))
                 .addTask(new RunNativeImageTestTask(outStream, rerunTests, groupList, disableGroupList,
@@ -36,11 +36,14 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import static io.ballerina.cli.launcher.LauncherUtils.createLauncherException;
 import static io.ballerina.cli.utils.FileUtils.getFileNameWithoutExtension;
 import static io.ballerina.projects.util.ProjectConstants.BLANG_COMPILED_JAR_EXT;
 import static io.ballerina.projects.util.ProjectConstants.USER_DIR;
+import static io.ballerina.runtime.api.constants.RuntimeConstants.SYSTEM_PROP_CDS_TRAINING_RUN;
 
 /**
  * Task for creating the executable jar file.
@@ -48,6 +51,8 @@ import static io.ballerina.projects.util.ProjectConstants.USER_DIR;
  * @since 2.0.0
  */
 public class CreateExecutableTask implements Task {
+    private static final String TEMP_FILE_EXT = ".tmp";
+
     private final transient PrintStream out;
     private Path output;
     private Path currentDir;
@@ -77,6 +82,11 @@ public class CreateExecutableTask implements Task {
             target = getTarget(project);
         }
         Path executablePath = getExecutablePath(project, target);
+        boolean isCdsEnabled = project.buildOptions().cds() && !project.buildOptions().nativeImage();
+        // With class data sharing, the executable is emitted to a temporary file and an unchanged executable is not
+        // rewritten, since rewriting the jar invalidates its class data sharing archive.
+        Path emitPath = isCdsEnabled ? executablePath.resolveSibling(executablePath.getFileName() + TEMP_FILE_EXT)
+                : executablePath;
         try {
             PackageCompilation pkgCompilation = project.currentPackage().getCompilation();
             JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(pkgCompilation, JvmTarget.JAVA_17);
@@ -92,8 +102,13 @@ public class CreateExecutableTask implements Task {
                     out.println(warnings);
                 }
                 emitResult = jBallerinaBackend.emit(JBallerinaBackend.OutputType.GRAAL_EXEC, executablePath);
+            } else if (project.buildOptions().thinJar()) {
+                emitResult = jBallerinaBackend.emit(JBallerinaBackend.OutputType.THIN_EXEC, emitPath);
             } else {
-                emitResult = jBallerinaBackend.emit(JBallerinaBackend.OutputType.EXEC, executablePath);
+                emitResult = jBallerinaBackend.emit(JBallerinaBackend.OutputType.EXEC, emitPath);
+            }
+            if (isCdsEnabled && emitResult.successful()) {
+                BuildUtils.replaceIfChanged(emitPath, executablePath);
             }
 
             if (project.buildOptions().dumpBuildTime()) {
@@ -116,6 +131,12 @@ public class CreateExecutableTask implements Task {
 
         } catch (ProjectException e) {
             throw createLauncherException(e.getMessage());
+        } catch (IOException e) {
+            throw createLauncherException("unable to create the executable: " + e.getMessage());
+        }
+
+        if (isCdsEnabled && !BuildUtils.isCdsArchiveUpToDate(executablePath)) {
+            generateCdsArchive(executablePath);
         }
 
         if (!project.buildOptions().nativeImage() && !isHideTaskOutput) {
@@ -138,6 +159,37 @@ public class CreateExecutableTask implements Task {
         BuildUtils.notifyPlugins(project, target);
     }
 
+    /**
+     * Generates a class data sharing archive for the executable jar. The executable is run once with the training run
+     * property, which makes it exit right after the modules are initialized, and the classes loaded until then are
+     * dumped to the archive when the JVM exits.
+     *
+     * @param executablePath path of the executable jar
+     */
+    private void generateCdsArchive(Path executablePath) {
+        Path archivePath = BuildUtils.getCdsArchivePath(executablePath);
+        List<String> commands = new ArrayList<>();
+        commands.add(System.getProperty("java.command"));
+        commands.add("-XX:ArchiveClassesAtExit=" + archivePath);
+        commands.add("-D" + SYSTEM_PROP_CDS_TRAINING_RUN + "=true");
+        commands.add("-jar");
+        commands.add(executablePath.toString());
+        try {
+            Files.deleteIfExists(archivePath);
+            Process process = new ProcessBuilder(commands)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            if (process.waitFor() != 0 || !Files.exists(archivePath)) {
+                out.println("\twarning: unable to generate the class data sharing archive");
+            }
+        } catch (IOException e) {
+            out.println("\twarning: unable to generate the class data sharing archive: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private Target getTarget(Project project) {
         Target target;
         try {
@@ -20,6 +20,7 @@ package io.ballerina.cli.task;
 
 import io.ballerina.cli.launcher.RuntimePanicException;
 import io.ballerina.cli.utils.BuildTime;
+import io.ballerina.cli.utils.BuildUtils;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectException;
 import io.ballerina.projects.internal.model.Target;
@@ -27,6 +28,7 @@ import org.wso2.ballerinalang.util.Lists;
 
 import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -92,10 +94,15 @@ public class RunExecutableTask implements Task {
             }
             commands.add("-XX:+HeapDumpOnOutOfMemoryError");
             commands.add("-XX:HeapDumpPath=" + System.getProperty(USER_DIR));
+            Path executablePath = this.target.getExecutablePath(project.currentPackage()).toAbsolutePath()
+                    .normalize();
+            // Use the class data sharing archive generated with the executable, if it is not outdated
+            if (BuildUtils.isCdsArchiveUpToDate(executablePath)) {
+                commands.add("-XX:SharedArchiveFile=" + BuildUtils.getCdsArchivePath(executablePath));
+            }
             // Sets classpath with executable thin jar and all dependency jar paths.
             commands.add("-jar");
-            commands.add(this.target.getExecutablePath(project.currentPackage()).toAbsolutePath()
-                    .normalize().toString());
+            commands.add(executablePath.toString());
             commands.addAll(args);
             ProcessBuilder pb = new ProcessBuilder(commands).inheritIO();
             process = pb.start();
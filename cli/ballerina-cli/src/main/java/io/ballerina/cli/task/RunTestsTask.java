@@ -58,6 +58,10 @@ import java.util.stream.Stream;
 import static io.ballerina.cli.launcher.LauncherUtils.createLauncherException;
 import static io.ballerina.cli.utils.DebugUtils.getDebugArgs;
 import static io.ballerina.cli.utils.DebugUtils.isInDebugMode;
+import static io.ballerina.cli.utils.TestImpactUtils.computeModuleFingerprints;
+import static io.ballerina.cli.utils.TestImpactUtils.readModuleFingerprints;
+import static io.ballerina.cli.utils.TestImpactUtils.removeUnaffectedTestSuites;
+import static io.ballerina.cli.utils.TestImpactUtils.writeModuleFingerprints;
 import static io.ballerina.cli.utils.TestUtils.appendRequiredArgs;
 import static io.ballerina.cli.utils.TestUtils.cleanTempCache;
 import static io.ballerina.cli.utils.TestUtils.createTestSuitesForProject;
@@ -100,6 +104,7 @@ public class RunTestsTask implements Task {
     private final boolean listGroups;
     private final List<String> cliArgs;
     private final boolean isParallelExecution;
+    private final boolean isAffectedTestExecution;
     TestReport testReport;
     private static final Boolean isWindows = System.getProperty("os.name").toLowerCase(Locale.getDefault())
             .contains("win");
@@ -115,12 +120,13 @@ public class RunTestsTask implements Task {
     public RunTestsTask(PrintStream out, PrintStream err, boolean rerunTests, String groupList,
                         String disableGroupList, String testList, String includes, String coverageFormat,
                         Map<String, Module> modules, boolean listGroups, String excludes, String[] cliArgs,
-                        boolean isParallelExecution)  {
+                        boolean isParallelExecution, boolean isAffectedTestExecution)  {
         this.out = out;
         this.err = err;
         this.isRerunTestExecution = rerunTests;
         this.cliArgs = List.of(cliArgs);
         this.isParallelExecution = isParallelExecution;
+        this.isAffectedTestExecution = isAffectedTestExecution;
 
         if (disableGroupList != null) {
             this.disableGroupList = disableGroupList;
@@ -201,6 +207,19 @@ public class RunTestsTask implements Task {
         boolean hasTests = createTestSuitesForProject(project, target, testProcessor, testSuiteMap, moduleNamesList,
                 mockClassNames, this.isRerunTestExecution, this.report, this.coverage);
 
+        // Module fingerprints are recorded only in runs that execute all the tests of a build project
+        Map<String, String> moduleFingerprints = null;
+        if (project.kind() == ProjectKind.BUILD_PROJECT && (this.isAffectedTestExecution || isFullTestExecution())) {
+            moduleFingerprints = computeModuleFingerprints(project.currentPackage());
+        }
+        if (hasTests && this.isAffectedTestExecution && moduleFingerprints != null) {
+            filterAffectedTestSuites(target, testSuiteMap, moduleNamesList, moduleFingerprints);
+            if (testSuiteMap.isEmpty()) {
+                out.println("\tNo tests affected by the changes since the last successful test run");
+                return;
+            }
+        }
+
         writeToTestSuiteJson(testSuiteMap, testsCachePath);
 
         if (hasTests) {
@@ -221,11 +240,39 @@ public class RunTestsTask implements Task {
                 cleanTempCache(project, cachesRoot);
                 throw createLauncherException("there are test failures");
             }
+            // A run filtered by tests or groups leaves the other tests of the modules unexecuted
+            if (moduleFingerprints != null && isFullTestExecution()) {
+                writeModuleFingerprints(target.path(), moduleFingerprints);
+            }
         } else {
             out.println("\tNo tests found");
         }
     }
 
+    private boolean isFullTestExecution() {
+        return this.groupList == null && this.disableGroupList == null && this.singleExecTests == null &&
+                !this.isRerunTestExecution && !this.listGroups;
+    }
+
+    /**
+     * Remove the test suites of the modules that are not affected by the changes since the last successful test run.
+     *
+     * @param target             target
+     * @param testSuiteMap       test suites against the module names
+     * @param moduleNamesList    names of the modules with tests
+     * @param moduleFingerprints fingerprints of the current modules
+     */
+    private void filterAffectedTestSuites(Target target, Map<String, TestSuite> testSuiteMap,
+                                          List<String> moduleNamesList, Map<String, String> moduleFingerprints) {
+        List<String> unaffectedModules = removeUnaffectedTestSuites(testSuiteMap, moduleNamesList,
+                moduleFingerprints, readModuleFingerprints(target.path()));
+        if (unaffectedModules.isEmpty()) {
+            return;
+        }
+        out.println("\tSkipping tests of the modules not affected by the changes since the last successful " +
+                "test run: " + String.join(", ", unaffectedModules));
+    }
+
     private void performPostTestsTasks(Project project, Target target, Path testsCachePath,
                                                  JBallerinaBackend jBallerinaBackend, Path cachesRoot,
                                                  List<String> moduleNamesList, Set<String> exclusionClassList)
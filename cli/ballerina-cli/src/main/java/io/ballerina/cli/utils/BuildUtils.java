@@ -20,7 +20,16 @@ import io.ballerina.projects.Project;
 import io.ballerina.projects.internal.model.Target;
 import org.ballerinalang.compiler.plugins.CompilerPlugin;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Enumeration;
 import java.util.ServiceLoader;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static io.ballerina.cli.utils.FileUtils.getFileNameWithoutExtension;
 
 /**
  * Utilities related to creating fat jars.
@@ -30,9 +39,77 @@ import java.util.ServiceLoader;
 
 public final class BuildUtils {
 
+    private static final String CDS_ARCHIVE_EXT = ".jsa";
+
     private BuildUtils() {
     }
 
+    /**
+     * Returns the path of the class data sharing archive of the given executable jar. The archive is placed next to
+     * the executable jar with the same name.
+     *
+     * @param executablePath path of the executable jar
+     * @return path of the class data sharing archive
+     */
+    public static Path getCdsArchivePath(Path executablePath) {
+        return executablePath.resolveSibling(getFileNameWithoutExtension(executablePath) + CDS_ARCHIVE_EXT);
+    }
+
+    /**
+     * Checks whether there is a class data sharing archive for the given executable jar, which is generated after the
+     * executable jar was last modified. The JVM itself rejects an archive if the modified time of the jar differs from
+     * the one recorded in the archive, hence an unchanged executable jar must not be rewritten.
+     *
+     * @param executablePath path of the executable jar
+     * @return true if an up-to-date class data sharing archive is available
+     */
+    public static boolean isCdsArchiveUpToDate(Path executablePath) {
+        Path archivePath = getCdsArchivePath(executablePath);
+        try {
+            return Files.exists(archivePath) && Files.getLastModifiedTime(archivePath)
+                    .compareTo(Files.getLastModifiedTime(executablePath)) >= 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Replaces the given jar with a newly generated jar, unless both the jars have the same entries with the same
+     * content. An unchanged jar is kept as it is, so that its modified time, and thereby the class data sharing archive
+     * generated for it, stays valid. Entries are compared using the sizes and the CRC-32 checksums recorded in the
+     * central directories, without reading the content of the entries.
+     *
+     * @param newJarPath path of the newly generated jar, which is removed
+     * @param jarPath    path of the jar to be replaced
+     * @throws IOException if the jars cannot be read or replaced
+     */
+    public static void replaceIfChanged(Path newJarPath, Path jarPath) throws IOException {
+        if (Files.exists(jarPath) && hasSameEntries(newJarPath, jarPath)) {
+            Files.delete(newJarPath);
+            return;
+        }
+        Files.move(newJarPath, jarPath, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static boolean hasSameEntries(Path jarPath, Path otherJarPath) throws IOException {
+        try (ZipFile jar = new ZipFile(jarPath.toFile()); ZipFile otherJar = new ZipFile(otherJarPath.toFile())) {
+            if (jar.size() != otherJar.size()) {
+                return false;
+            }
+            Enumeration<? extends ZipEntry> entries = jar.entries();
+            Enumeration<? extends ZipEntry> otherEntries = otherJar.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                ZipEntry otherEntry = otherEntries.nextElement();
+                if (!entry.getName().equals(otherEntry.getName()) || entry.getSize() != otherEntry.getSize() ||
+                        entry.getCrc() != otherEntry.getCrc()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     public static void notifyPlugins(Project project, Target target) {
         ServiceLoader<CompilerPlugin> processorServiceLoader = ServiceLoader.load(CompilerPlugin.class);
         for (CompilerPlugin plugin : processorServiceLoader) {
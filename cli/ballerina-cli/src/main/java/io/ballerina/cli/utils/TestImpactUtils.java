@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.cli.utils;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleDescriptor;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageManifest;
+import io.ballerina.projects.util.ProjectConstants;
+import org.ballerinalang.test.runtime.entity.TestSuite;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static io.ballerina.cli.launcher.LauncherUtils.createLauncherException;
+import static org.ballerinalang.test.runtime.util.TesterinaConstants.TEST_IMPACT_JSON_FILE;
+
+/**
+ * Utilities to select the tests that are affected by the changes since the last successful test run.
+ * <p>
+ * A fingerprint is computed for each module from its source and test documents, its test configuration, the inputs
+ * shared by all the modules of the package and the fingerprints of the modules it depends on. The shared inputs are
+ * the package manifests, the package resources and the platform dependency jars given by path. Hence, a change to a
+ * module also changes the fingerprints of all the modules that depend on it, and only the tests of the modules with a
+ * changed fingerprint need to be executed.
+ *
+ * @since 2201.11.0
+ */
+public final class TestImpactUtils {
+
+    private static final Type FINGERPRINTS_TYPE = new TypeToken<Map<String, String>>() { }.getType();
+    private static final String PATH = "path";
+
+    private TestImpactUtils() {
+    }
+
+    /**
+     * Compute the fingerprints of the modules of the given package.
+     *
+     * @param currentPackage package to be tested
+     * @return fingerprints against the resolved module names
+     */
+    public static Map<String, String> computeModuleFingerprints(Package currentPackage) {
+        String packageFingerprint = computePackageFingerprint(currentPackage);
+        Map<ModuleDescriptor, String> descriptorFingerprints = new HashMap<>();
+        Map<String, String> moduleFingerprints = new HashMap<>();
+        for (ModuleDescriptor moduleDescriptor :
+                currentPackage.moduleDependencyGraph().toTopologicallySortedList()) {
+            Module module = currentPackage.module(moduleDescriptor.name());
+            String fingerprint = computeFingerprint(currentPackage, packageFingerprint, moduleDescriptor,
+                    descriptorFingerprints);
+            moduleFingerprints.put(TestUtils.getResolvedModuleName(module, module.moduleName()), fingerprint);
+        }
+        return moduleFingerprints;
+    }
+
+    /**
+     * Check whether the tests of a module are affected by the changes since the fingerprints were recorded.
+     *
+     * @param moduleName           resolved module name
+     * @param currentFingerprints  fingerprints of the current modules
+     * @param recordedFingerprints fingerprints recorded in the last successful test run
+     * @return true if the tests of the module need to be executed
+     */
+    public static boolean isAffected(String moduleName, Map<String, String> currentFingerprints,
+                                     Map<String, String> recordedFingerprints) {
+        String recordedFingerprint = recordedFingerprints.get(moduleName);
+        return recordedFingerprint == null || !recordedFingerprint.equals(currentFingerprints.get(moduleName));
+    }
+
+    /**
+     * Remove the test suites of the modules that are not affected by the changes since the fingerprints were recorded.
+     *
+     * @param testSuiteMap         test suites against the module names
+     * @param moduleNamesList      names of the modules with tests
+     * @param currentFingerprints  fingerprints of the current modules
+     * @param recordedFingerprints fingerprints recorded in the last successful test run
+     * @return names of the modules whose test suites were removed
+     */
+    public static List<String> removeUnaffectedTestSuites(Map<String, TestSuite> testSuiteMap,
+                                                          List<String> moduleNamesList,
+                                                          Map<String, String> currentFingerprints,
+                                                          Map<String, String> recordedFingerprints) {
+        List<String> unaffectedModules = new ArrayList<>();
+        for (String moduleName : moduleNamesList) {
+            if (!isAffected(moduleName, currentFingerprints, recordedFingerprints)) {
+                unaffectedModules.add(moduleName);
+            }
+        }
+        unaffectedModules.forEach(testSuiteMap::remove);
+        moduleNamesList.removeAll(unaffectedModules);
+        return unaffectedModules;
+    }
+
+    /**
+     * Read the module fingerprints recorded in the last successful test run.
+     *
+     * @param targetPath target directory path
+     * @return recorded fingerprints, or an empty map if there are no valid fingerprints recorded
+     */
+    public static Map<String, String> readModuleFingerprints(Path targetPath) {
+        Path fingerprintsPath = targetPath.resolve(TEST_IMPACT_JSON_FILE);
+        if (!Files.exists(fingerprintsPath)) {
+            return new HashMap<>();
+        }
+        try (BufferedReader bufferedReader = Files.newBufferedReader(fingerprintsPath)) {
+            Map<String, String> fingerprints = new Gson().fromJson(bufferedReader, FINGERPRINTS_TYPE);
+            return fingerprints == null ? new HashMap<>() : fingerprints;
+        } catch (IOException | JsonSyntaxException e) {
+            // Treat all the modules as affected if the recorded fingerprints cannot be read
+            return new HashMap<>();
+        }
+    }
+
+    /**
+     * Record the module fingerprints of a successful test run.
+     *
+     * @param targetPath   target directory path
+     * @param fingerprints fingerprints of the tested modules
+     */
+    public static void writeModuleFingerprints(Path targetPath, Map<String, String> fingerprints) {
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        try {
+            Files.createDirectories(targetPath);
+            Files.writeString(targetPath.resolve(TEST_IMPACT_JSON_FILE), gson.toJson(fingerprints));
+        } catch (IOException e) {
+            throw createLauncherException("couldn't write data to the test impact file : " + e);
+        }
+    }
+
+    private static String computePackageFingerprint(Package currentPackage) {
+        MessageDigest digest = getDigest();
+        update(digest, String.valueOf(RepoUtils.getBallerinaVersion()));
+        currentPackage.ballerinaToml().ifPresent(
+                toml -> update(digest, toml.tomlDocument().textDocument().toCharArray()));
+        currentPackage.dependenciesToml().ifPresent(
+                toml -> update(digest, toml.tomlDocument().textDocument().toCharArray()));
+        updateWithResources(digest, currentPackage, currentPackage.resourceIds());
+        updateWithResources(digest, currentPackage, currentPackage.testResourceIds());
+
+        // Platform dependencies given by Maven coordinates are part of Ballerina.toml, but the content of the ones
+        // given by path can change without a change to the manifest
+        Path sourceRoot = currentPackage.project().sourceRoot();
+        Map<String, PackageManifest.Platform> platforms = new TreeMap<>(currentPackage.manifest().platforms());
+        for (PackageManifest.Platform platform : platforms.values()) {
+            if (platform == null || platform.dependencies() == null) {
+                continue;
+            }
+            for (Map<String, Object> dependency : platform.dependencies()) {
+                Object dependencyPath = dependency.get(PATH);
+                if (dependencyPath != null) {
+                    update(digest, dependencyPath.toString());
+                    updateWithFile(digest, sourceRoot.resolve(dependencyPath.toString()));
+                }
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String computeFingerprint(Package currentPackage, String packageFingerprint,
+                                             ModuleDescriptor moduleDescriptor,
+                                             Map<ModuleDescriptor, String> descriptorFingerprints) {
+        String fingerprint = descriptorFingerprints.get(moduleDescriptor);
+        if (fingerprint != null) {
+            return fingerprint;
+        }
+
+        MessageDigest digest = getDigest();
+        update(digest, packageFingerprint);
+
+        Module module = currentPackage.module(moduleDescriptor.name());
+        updateWithDocuments(digest, module, module.documentIds());
+        updateWithDocuments(digest, module, module.testDocumentIds());
+
+        // Configurable values of the tests of a module are read from the Config.toml in its tests directory
+        Path modulePath = currentPackage.project().sourceRoot();
+        if (!module.isDefaultModule()) {
+            modulePath = modulePath.resolve(ProjectConstants.MODULES_ROOT)
+                    .resolve(module.moduleName().moduleNamePart());
+        }
+        updateWithFile(digest, modulePath.resolve(ProjectConstants.TEST_DIR_NAME)
+                .resolve(ProjectConstants.CONFIGURATION_TOML));
+
+        List<String> dependencyFingerprints = new ArrayList<>();
+        for (ModuleDescriptor dependency :
+                currentPackage.moduleDependencyGraph().getDirectDependencies(moduleDescriptor)) {
+            dependencyFingerprints.add(computeFingerprint(currentPackage, packageFingerprint, dependency,
+                    descriptorFingerprints));
+        }
+        dependencyFingerprints.sort(Comparator.naturalOrder());
+        dependencyFingerprints.forEach(dependencyFingerprint -> update(digest, dependencyFingerprint));
+
+        fingerprint = HexFormat.of().formatHex(digest.digest());
+        descriptorFingerprints.put(moduleDescriptor, fingerprint);
+        return fingerprint;
+    }
+
+    private static void updateWithDocuments(MessageDigest digest, Module module, Collection<DocumentId> documentIds) {
+        documentIds.stream()
+                .map(module::document)
+                .sorted(Comparator.comparing(document -> document.name()))
+                .forEach(document -> {
+                    update(digest, document.name());
+                    update(digest, document.textDocument().toCharArray());
+                });
+    }
+
+    private static void updateWithResources(MessageDigest digest, Package currentPackage,
+                                            Collection<DocumentId> resourceIds) {
+        resourceIds.stream()
+                .map(currentPackage::resource)
+                .sorted(Comparator.comparing(resource -> resource.name()))
+                .forEach(resource -> {
+                    update(digest, resource.name());
+                    digest.update(resource.content());
+                    digest.update((byte) 0);
+                });
+    }
+
+    private static void updateWithFile(MessageDigest digest, Path filePath) {
+        if (!Files.isRegularFile(filePath)) {
+            // A missing file is distinguished from an empty file
+            update(digest, "");
+            return;
+        }
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            byte[] buffer = new byte[8192];
+            int length;
+            while ((length = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, length);
+            }
+            digest.update((byte) 1);
+        } catch (IOException e) {
+            throw createLauncherException("unable to compute the test impact fingerprints: " + e.getMessage());
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        update(digest, value.toCharArray());
+    }
+
+    private static void update(MessageDigest digest, char[] value) {
+        digest.update(new String(value).getBytes(StandardCharsets.UTF_8));
+        // Separate the consecutive values so that the boundaries between them are part of the fingerprint
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest getDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw createLauncherException("unable to compute the test impact fingerprints: " + e.getMessage());
+        }
+    }
+}
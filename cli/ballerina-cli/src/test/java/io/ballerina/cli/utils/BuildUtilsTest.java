@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.cli.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Tests the utilities used to keep the class data sharing archive of an executable valid.
+ *
+ * @since 2201.11.0
+ */
+public class BuildUtilsTest {
+
+    private static final FileTime OLD_TIME = FileTime.fromMillis(1_000_000_000L);
+
+    private Path tempDir;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        tempDir = Files.createTempDirectory("build-utils-test-" + System.nanoTime());
+    }
+
+    @Test
+    public void testUnchangedJarIsKept() throws IOException {
+        Path jarPath = writeJar("unchanged.jar", "content", OLD_TIME.toMillis());
+        Files.setLastModifiedTime(jarPath, OLD_TIME);
+        // Entries of the new jar have a different timestamp, but the same content
+        Path newJarPath = writeJar("unchanged.jar.tmp", "content", System.currentTimeMillis());
+
+        BuildUtils.replaceIfChanged(newJarPath, jarPath);
+        Assert.assertFalse(Files.exists(newJarPath));
+        Assert.assertEquals(Files.getLastModifiedTime(jarPath), OLD_TIME);
+    }
+
+    @Test
+    public void testChangedJarIsReplaced() throws IOException {
+        Path jarPath = writeJar("changed.jar", "content");
+        Files.setLastModifiedTime(jarPath, OLD_TIME);
+        Path newJarPath = writeJar("changed.jar.tmp", "changed content");
+
+        BuildUtils.replaceIfChanged(newJarPath, jarPath);
+        Assert.assertFalse(Files.exists(newJarPath));
+        Assert.assertNotEquals(Files.getLastModifiedTime(jarPath), OLD_TIME);
+    }
+
+    @Test
+    public void testMissingJarIsCreated() throws IOException {
+        Path jarPath = tempDir.resolve("missing.jar");
+        Path newJarPath = writeJar("missing.jar.tmp", "content");
+
+        BuildUtils.replaceIfChanged(newJarPath, jarPath);
+        Assert.assertFalse(Files.exists(newJarPath));
+        Assert.assertTrue(Files.exists(jarPath));
+    }
+
+    @Test
+    public void testCdsArchiveUpToDate() throws IOException {
+        Path jarPath = writeJar("archived.jar", "content");
+        Path archivePath = BuildUtils.getCdsArchivePath(jarPath);
+        Assert.assertEquals(archivePath, tempDir.resolve("archived.jsa"));
+        Assert.assertFalse(BuildUtils.isCdsArchiveUpToDate(jarPath));
+
+        Files.writeString(archivePath, "archive");
+        Files.setLastModifiedTime(jarPath, OLD_TIME);
+        Assert.assertTrue(BuildUtils.isCdsArchiveUpToDate(jarPath));
+
+        Files.setLastModifiedTime(jarPath, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+        Assert.assertFalse(BuildUtils.isCdsArchiveUpToDate(jarPath));
+    }
+
+    private Path writeJar(String fileName, String content) throws IOException {
+        return writeJar(fileName, content, System.currentTimeMillis());
+    }
+
+    private Path writeJar(String fileName, String content, long entryTime) throws IOException {
+        Path jarPath = tempDir.resolve(fileName);
+        try (OutputStream outputStream = Files.newOutputStream(jarPath);
+             ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+            writeEntry(zipOutputStream, "META-INF/MANIFEST.MF", "Manifest-Version: 1.0\n", entryTime);
+            writeEntry(zipOutputStream, "resource.txt", content, entryTime);
+        }
+        return jarPath;
+    }
+
+    private static void writeEntry(ZipOutputStream zipOutputStream, String name, String content, long entryTime)
+            throws IOException {
+        ZipEntry entry = new ZipEntry(name);
+        entry.setTime(entryTime);
+        zipOutputStream.putNextEntry(entry);
+        zipOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+        zipOutputStream.closeEntry();
+    }
+}
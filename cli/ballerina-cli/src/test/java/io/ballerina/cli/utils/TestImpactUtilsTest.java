@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.cli.utils;
+
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.directory.BuildProject;
+import org.ballerinalang.test.runtime.entity.TestSuite;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tests the utilities used to select the tests affected by the changes since the last successful test run.
+ *
+ * @since 2201.11.0
+ */
+public class TestImpactUtilsTest {
+
+    private static final String DEFAULT_MODULE = "impact";
+    private static final String UTIL_MODULE = "util";
+    private static final String MAIN_BAL = """
+            import testorg/impact.util;
+
+            configurable int count = 1;
+
+            public function main() {
+                _ = util:greet();
+            }
+            """;
+
+    private Path tempDir;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        tempDir = Files.createTempDirectory("test-impact-utils-test-" + System.nanoTime());
+    }
+
+    @Test
+    public void testUnchangedPackage() throws IOException {
+        Path projectPath = createProject("unchanged");
+        Assert.assertEquals(computeFingerprints(projectPath), computeFingerprints(projectPath));
+    }
+
+    @Test
+    public void testChangedDependencyAffectsDependants() throws IOException {
+        Path projectPath = createProject("dependency");
+        Map<String, String> fingerprints = computeFingerprints(projectPath);
+
+        Files.writeString(projectPath.resolve("modules/util/util.bal"),
+                "public function greet() returns string => \"Hi\";\n");
+        Map<String, String> newFingerprints = computeFingerprints(projectPath);
+        Assert.assertNotEquals(newFingerprints.get(UTIL_MODULE), fingerprints.get(UTIL_MODULE));
+        Assert.assertNotEquals(newFingerprints.get(DEFAULT_MODULE), fingerprints.get(DEFAULT_MODULE));
+    }
+
+    @Test
+    public void testChangedDependantDoesNotAffectDependencies() throws IOException {
+        Path projectPath = createProject("dependant");
+        Map<String, String> fingerprints = computeFingerprints(projectPath);
+
+        Files.writeString(projectPath.resolve("main.bal"), MAIN_BAL + "\nfunction unused() {\n}\n");
+        Map<String, String> newFingerprints = computeFingerprints(projectPath);
+        Assert.assertEquals(newFingerprints.get(UTIL_MODULE), fingerprints.get(UTIL_MODULE));
+        Assert.assertNotEquals(newFingerprints.get(DEFAULT_MODULE), fingerprints.get(DEFAULT_MODULE));
+    }
+
+    @Test
+    public void testChangedTestConfigAffectsModule() throws IOException {
+        Path projectPath = createProject("config");
+        Map<String, String> fingerprints = computeFingerprints(projectPath);
+
+        Files.writeString(projectPath.resolve("tests/Config.toml"), "count = 2\n");
+        Map<String, String> newFingerprints = computeFingerprints(projectPath);
+        Assert.assertEquals(newFingerprints.get(UTIL_MODULE), fingerprints.get(UTIL_MODULE));
+        Assert.assertNotEquals(newFingerprints.get(DEFAULT_MODULE), fingerprints.get(DEFAULT_MODULE));
+
+        Files.delete(projectPath.resolve("tests/Config.toml"));
+        Assert.assertNotEquals(computeFingerprints(projectPath).get(DEFAULT_MODULE),
+                newFingerprints.get(DEFAULT_MODULE));
+    }
+
+    @Test
+    public void testChangedResourceAffectsAllModules() throws IOException {
+        Path projectPath = createProject("resource");
+        Map<String, String> fingerprints = computeFingerprints(projectPath);
+
+        Files.writeString(projectPath.resolve("resources/data.txt"), "changed data");
+        Map<String, String> newFingerprints = computeFingerprints(projectPath);
+        Assert.assertNotEquals(newFingerprints.get(UTIL_MODULE), fingerprints.get(UTIL_MODULE));
+        Assert.assertNotEquals(newFingerprints.get(DEFAULT_MODULE), fingerprints.get(DEFAULT_MODULE));
+    }
+
+    @Test
+    public void testChangedPlatformDependencyAffectsAllModules() throws IOException {
+        Path projectPath = createProject("platform");
+        Map<String, String> fingerprints = computeFingerprints(projectPath);
+
+        // The manifest is unchanged, since the dependency is given by its path
+        Files.write(projectPath.resolve("libs/dependency.jar"), new byte[]{1, 2, 3, 4});
+        Map<String, String> newFingerprints = computeFingerprints(projectPath);
+        Assert.assertNotEquals(newFingerprints.get(UTIL_MODULE), fingerprints.get(UTIL_MODULE));
+        Assert.assertNotEquals(newFingerprints.get(DEFAULT_MODULE), fingerprints.get(DEFAULT_MODULE));
+    }
+
+    @Test
+    public void testRecordedFingerprints() {
+        Path targetPath = tempDir.resolve("target");
+        Map<String, String> fingerprints = Map.of(DEFAULT_MODULE, "a", UTIL_MODULE, "b");
+        TestImpactUtils.writeModuleFingerprints(targetPath, fingerprints);
+        Assert.assertEquals(TestImpactUtils.readModuleFingerprints(targetPath), fingerprints);
+        Assert.assertTrue(TestImpactUtils.readModuleFingerprints(tempDir.resolve("missing")).isEmpty());
+    }
+
+    @Test
+    public void testRemoveUnaffectedTestSuites() {
+        Map<String, TestSuite> testSuiteMap = new HashMap<>();
+        List<String> moduleNamesList = new ArrayList<>();
+        for (String moduleName : List.of(DEFAULT_MODULE, UTIL_MODULE, "extra")) {
+            testSuiteMap.put(moduleName, new TestSuite(moduleName, moduleName + "$test", moduleName, "testorg",
+                    "0.1.0", ""));
+            moduleNamesList.add(moduleName);
+        }
+        Map<String, String> currentFingerprints = Map.of(DEFAULT_MODULE, "a", UTIL_MODULE, "b", "extra", "c");
+        // The fingerprint of the default module has changed and the extra module was not recorded
+        Map<String, String> recordedFingerprints = Map.of(DEFAULT_MODULE, "x", UTIL_MODULE, "b");
+
+        List<String> unaffectedModules = TestImpactUtils.removeUnaffectedTestSuites(testSuiteMap, moduleNamesList,
+                currentFingerprints, recordedFingerprints);
+        Assert.assertEquals(unaffectedModules, List.of(UTIL_MODULE));
+        Assert.assertEquals(moduleNamesList, List.of(DEFAULT_MODULE, "extra"));
+        Assert.assertEquals(testSuiteMap.keySet(), Set.of(DEFAULT_MODULE, "extra"));
+    }
+
+    @Test
+    public void testNoRecordedFingerprintsAffectsAllSuites() {
+        Map<String, TestSuite> testSuiteMap = new HashMap<>();
+        testSuiteMap.put(UTIL_MODULE, new TestSuite(UTIL_MODULE, UTIL_MODULE + "$test", UTIL_MODULE, "testorg",
+                "0.1.0", ""));
+        List<String> moduleNamesList = new ArrayList<>(List.of(UTIL_MODULE));
+
+        List<String> unaffectedModules = TestImpactUtils.removeUnaffectedTestSuites(testSuiteMap, moduleNamesList,
+                Map.of(UTIL_MODULE, "b"), new HashMap<>());
+        Assert.assertTrue(unaffectedModules.isEmpty());
+        Assert.assertEquals(moduleNamesList, List.of(UTIL_MODULE));
+        Assert.assertTrue(testSuiteMap.containsKey(UTIL_MODULE));
+    }
+
+    private Path createProject(String name) throws IOException {
+        Path projectPath = tempDir.resolve(name);
+        Files.createDirectories(projectPath.resolve("modules/util"));
+        Files.createDirectories(projectPath.resolve("tests"));
+        Files.createDirectories(projectPath.resolve("resources"));
+        Files.createDirectories(projectPath.resolve("libs"));
+        Files.writeString(projectPath.resolve("Ballerina.toml"), """
+                [package]
+                org = "testorg"
+                name = "impact"
+                version = "0.1.0"
+
+                [[platform.java17.dependency]]
+                path = "libs/dependency.jar"
+                """);
+        Files.writeString(projectPath.resolve("main.bal"), MAIN_BAL);
+        Files.writeString(projectPath.resolve("tests/main_test.bal"), """
+                import ballerina/test;
+
+                @test:Config {}
+                function testCount() {
+                    test:assertEquals(count, 1);
+                }
+                """);
+        Files.writeString(projectPath.resolve("tests/Config.toml"), "count = 1\n");
+        Files.writeString(projectPath.resolve("modules/util/util.bal"),
+                "public function greet() returns string => \"Hello\";\n");
+        Files.writeString(projectPath.resolve("resources/data.txt"), "data");
+        Files.write(projectPath.resolve("libs/dependency.jar"), new byte[]{1, 2, 3});
+        return projectPath;
+    }
+
+    private static Map<String, String> computeFingerprints(Path projectPath) {
+        BuildProject project = BuildProject.load(projectPath, BuildOptions.builder().setOffline(true).build());
+        return TestImpactUtils.computeModuleFingerprints(project.currentPackage());
+    }
+}
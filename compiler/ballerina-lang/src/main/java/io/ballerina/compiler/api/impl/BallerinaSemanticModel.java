@@ -311,6 +311,11 @@ public class BallerinaSemanticModel implements SemanticModel {
     }
 
     private List<Location> getReferences(BSymbol symbol, BLangNode node, boolean withDefinition) {
+        if (node == this.bLangPackage) {
+            // Module level symbols are looked up in the index of the module instead of walking the whole module
+            return ReferenceIndex.getInstance(this.bLangPackage, this.compilerContext).references(symbol,
+                    withDefinition);
+        }
         ReferenceFinder refFinder = new ReferenceFinder(withDefinition);
         return refFinder.findReferences(node, symbol);
     }
@@ -1453,7 +1453,7 @@ public class ReferenceFinder extends BaseVisitor {
 
     // Private methods
 
-    private void findRefsInResourceAccessPathSegments(BLangInvocation.BLangResourceAccessInvocation invocation) {
+    void findRefsInResourceAccessPathSegments(BLangInvocation.BLangResourceAccessInvocation invocation) {
         if (this.targetSymbol.getKind() != SymbolKind.RESOURCE_PATH_IDENTIFIER_SEGMENT) {
             return;
         }
@@ -1491,7 +1491,7 @@ public class ReferenceFinder extends BaseVisitor {
         }
     }
 
-    private boolean addIfSameSymbol(BSymbol symbol, Location location) {
+    boolean addIfSameSymbol(BSymbol symbol, Location location) {
         if (symbol != null
                 && this.targetSymbol.name.equals(symbol.name)
                 && this.targetSymbol.pkgID.equals(symbol.pkgID)
@@ -0,0 +1,172 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.compiler.api.impl;
+
+import io.ballerina.tools.diagnostics.Location;
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.model.tree.NodeKind;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BResourceFunction;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BResourcePathSegmentSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
+import org.wso2.ballerinalang.compiler.tree.BLangImportPackage;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangExpression;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangInvocation;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangLiteral;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
+
+/**
+ * Index of the locations of all the symbol references within a module.
+ * <p>
+ * Finding the references of a module level symbol requires walking the whole module. Instead of walking the module for
+ * every lookup, the module is walked once and the locations are recorded against the symbols they refer to. The index
+ * is kept as long as the module is not recompiled, since a recompilation creates a new {@link BLangPackage}.
+ *
+ * @since 2201.11.0
+ */
+public class ReferenceIndex {
+
+    private static final CompilerContext.Key<Map<BLangPackage, ReferenceIndex>> REFERENCE_INDEX_CACHE_KEY =
+            new CompilerContext.Key<>();
+
+    private final Map<SymbolKey, List<Reference>> references;
+
+    private ReferenceIndex(Map<SymbolKey, List<Reference>> references) {
+        this.references = references;
+    }
+
+    /**
+     * Returns the reference index of the given module, building the index if it is not built yet.
+     *
+     * @param bLangPackage module to get the index of
+     * @param context      compiler context
+     * @return reference index of the module
+     */
+    public static ReferenceIndex getInstance(BLangPackage bLangPackage, CompilerContext context) {
+        Map<BLangPackage, ReferenceIndex> cache;
+        synchronized (context) {
+            cache = context.get(REFERENCE_INDEX_CACHE_KEY);
+            if (cache == null) {
+                // Indexes are removed along with the modules they belong to, when the modules are no longer used
+                cache = Collections.synchronizedMap(new WeakHashMap<>());
+                context.put(REFERENCE_INDEX_CACHE_KEY, cache);
+            }
+        }
+        return cache.computeIfAbsent(bLangPackage, ReferenceIndex::build);
+    }
+
+    private static ReferenceIndex build(BLangPackage bLangPackage) {
+        IndexBuilder indexBuilder = new IndexBuilder();
+        indexBuilder.find(bLangPackage);
+        return new ReferenceIndex(indexBuilder.references);
+    }
+
+    /**
+     * Returns the locations of the references of the given symbol, in the same order as {@link ReferenceFinder}.
+     *
+     * @param symbol         symbol to find the references of
+     * @param withDefinition whether to include the definition of the symbol
+     * @return reference locations
+     */
+    public List<Location> references(BSymbol symbol, boolean withDefinition) {
+        if (symbol.pos == null) {
+            return new ArrayList<>();
+        }
+        List<Reference> symbolReferences = this.references.get(new SymbolKey(symbol.name, symbol.pkgID, symbol.pos));
+        if (symbolReferences == null) {
+            return new ArrayList<>();
+        }
+
+        List<Location> locations = new ArrayList<>(symbolReferences.size());
+        for (Reference reference : symbolReferences) {
+            if (withDefinition || !reference.definition()) {
+                locations.add(reference.location());
+            }
+        }
+        return locations;
+    }
+
+    private record SymbolKey(Name name, PackageID pkgID, Location pos) {
+    }
+
+    private record Reference(Location location, boolean definition) {
+    }
+
+    /**
+     * Records the location of every symbol that {@link ReferenceFinder} would match against a target symbol.
+     */
+    private static class IndexBuilder extends ReferenceFinder {
+
+        private final Map<SymbolKey, List<Reference>> references = new HashMap<>();
+
+        IndexBuilder() {
+            super(true);
+        }
+
+        @Override
+        public void visit(BLangImportPackage importPkgNode) {
+            if (importPkgNode.symbol != null && importPkgNode.symbol.pos != null) {
+                addReference(importPkgNode.symbol, importPkgNode.alias.pos, true);
+            }
+        }
+
+        @Override
+        void findRefsInResourceAccessPathSegments(BLangInvocation.BLangResourceAccessInvocation invocation) {
+            BResourceFunction resourceMethod = invocation.targetResourceFunc;
+            if (resourceMethod == null) {
+                return;
+            }
+
+            List<BLangExpression> pathSegmentExprs = invocation.resourceAccessPathSegments.getExpressions();
+            List<BResourcePathSegmentSymbol> pathSegmentSymbols = resourceMethod.pathSegmentSymbols;
+            for (int i = 0; i < pathSegmentExprs.size() && i < pathSegmentSymbols.size(); i++) {
+                BResourcePathSegmentSymbol pathSymbol = pathSegmentSymbols.get(i);
+                BLangExpression expr = pathSegmentExprs.get(i);
+                if (expr.getKind() == NodeKind.LITERAL && ((BLangLiteral) expr).value.equals(pathSymbol.name.value)) {
+                    addIfSameSymbol(pathSymbol, expr.pos);
+                }
+            }
+        }
+
+        @Override
+        boolean addIfSameSymbol(BSymbol symbol, Location location) {
+            // Symbols without a position can never be matched against a target symbol
+            if (symbol != null && symbol.pos != null) {
+                addReference(symbol, location, symbol.getOrigin() == VIRTUAL || symbol.pos.equals(location));
+            }
+            // Matching is done at lookup, hence continue as if the symbol did not match so that the other symbols of
+            // the node are recorded as well
+            return false;
+        }
+
+        private void addReference(BSymbol symbol, Location location, boolean definition) {
+            this.references.computeIfAbsent(new SymbolKey(symbol.name, symbol.pkgID, symbol.pos),
+                    key -> new ArrayList<>()).add(new Reference(location, definition));
+        }
+    }
+}
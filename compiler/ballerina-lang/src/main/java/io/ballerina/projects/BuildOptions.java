@@ -35,11 +35,13 @@ public class BuildOptions {
     private final Boolean nativeImage;
     private final Boolean exportComponentModel;
     private final String graalVMBuildOptions;
+    private final Boolean thinJar;
+    private final Boolean cds;
 
     BuildOptions(Boolean testReport, Boolean codeCoverage, Boolean dumpBuildTime, Boolean skipTests,
                  CompilationOptions compilationOptions, String targetPath, Boolean enableCache,
                  Boolean nativeImage, Boolean exportComponentModel, String graalVMBuildOptions,
-                 Boolean showDependencyDiagnostics) {
+                 Boolean showDependencyDiagnostics, Boolean thinJar, Boolean cds) {
         this.testReport = testReport;
         this.codeCoverage = codeCoverage;
         this.dumpBuildTime = dumpBuildTime;
@@ -51,7 +53,8 @@ public class BuildOptions {
         this.exportComponentModel = exportComponentModel;
         this.graalVMBuildOptions = graalVMBuildOptions;
         this.showDependencyDiagnostics = showDependencyDiagnostics;
-
+        this.thinJar = thinJar;
+        this.cds = cds;
     }
 
     public boolean testReport() {
@@ -138,6 +141,24 @@ public class BuildOptions {
         return toBooleanDefaultIfNull(this.showDependencyDiagnostics);
     }
 
+    /**
+     * Checks whether the executable jar should refer to the dependency jars instead of bundling them.
+     *
+     * @return true if a thin executable jar should be created
+     */
+    public boolean thinJar() {
+        return toBooleanDefaultIfNull(this.thinJar);
+    }
+
+    /**
+     * Checks whether a class data sharing archive should be generated for the executable jar.
+     *
+     * @return true if a class data sharing archive should be generated
+     */
+    public boolean cds() {
+        return toBooleanDefaultIfNull(this.cds);
+    }
+
     /**
      * Merge the given build options by favoring theirs if there are conflicts.
      *
@@ -196,6 +217,16 @@ public class BuildOptions {
         } else {
             buildOptionsBuilder.setShowDependencyDiagnostics(this.showDependencyDiagnostics);
         }
+        if (theirOptions.thinJar != null) {
+            buildOptionsBuilder.setThinJar(theirOptions.thinJar);
+        } else {
+            buildOptionsBuilder.setThinJar(this.thinJar);
+        }
+        if (theirOptions.cds != null) {
+            buildOptionsBuilder.setCds(theirOptions.cds);
+        } else {
+            buildOptionsBuilder.setCds(this.cds);
+        }
 
         CompilationOptions compilationOptions = this.compilationOptions.acceptTheirs(theirOptions.compilationOptions());
         buildOptionsBuilder.setOffline(compilationOptions.offlineBuild);
@@ -213,6 +244,7 @@ public class BuildOptions {
         buildOptionsBuilder.setEnableCache(compilationOptions.enableCache);
         buildOptionsBuilder.setRemoteManagement(compilationOptions.remoteManagement);
         buildOptionsBuilder.setOptimizeDependencyCompilation(compilationOptions.optimizeDependencyCompilation);
+        buildOptionsBuilder.setIncrementalCompilation(compilationOptions.incrementalCompilation);
 
         return buildOptionsBuilder.build();
     }
@@ -252,6 +284,8 @@ public class BuildOptions {
         EXPORT_COMPONENT_MODEL("exportComponentModel"),
         GRAAL_VM_BUILD_OPTIONS("graalvmBuildOptions"),
         SHOW_DEPENDENCY_DIAGNOSTICS("showDependencyDiagnostics"),
+        THIN_JAR("thinJar"),
+        CDS("cds"),
         OPTIMIZE_DEPENDENCY_COMPILATION("optimizeDependencyCompilation");
 
         private final String name;
@@ -284,6 +318,8 @@ public class BuildOptions {
         private Boolean exportComponentModel;
         private String graalVMBuildOptions;
         private Boolean showDependencyDiagnostics;
+        private Boolean thinJar;
+        private Boolean cds;
 
         private BuildOptionsBuilder() {
             compilationOptionsBuilder = CompilationOptions.builder();
@@ -416,6 +452,16 @@ public class BuildOptions {
             showDependencyDiagnostics = value;
             return this;
         }
+
+        public BuildOptionsBuilder setThinJar(Boolean value) {
+            thinJar = value;
+            return this;
+        }
+
+        public BuildOptionsBuilder setCds(Boolean value) {
+            cds = value;
+            return this;
+        }
         
         /**
          * (Experimental) option to specify that the memory usage must be optimized.
@@ -428,11 +474,24 @@ public class BuildOptions {
             return this;
         }
 
+        /**
+         * (Experimental) option to skip recompiling the dependents of a module when an edit does not change the
+         * top-level declarations of the module. Meant for editors only, since the dependents that are kept are not
+         * suitable for code generation.
+         *
+         * @param value true or false (default)
+         * @return BuildOptionsBuilder instance
+         */
+        public BuildOptionsBuilder setIncrementalCompilation(Boolean value) {
+            compilationOptionsBuilder.setIncrementalCompilation(value);
+            return this;
+        }
+
         public BuildOptions build() {
             CompilationOptions compilationOptions = compilationOptionsBuilder.build();
             return new BuildOptions(testReport, codeCoverage, dumpBuildTime, skipTests, compilationOptions,
                     targetPath, enableCache, nativeImage, exportComponentModel, graalVMBuildOptions,
-                    showDependencyDiagnostics);
+                    showDependencyDiagnostics, thinJar, cds);
         }
     }
 }
@@ -18,6 +18,7 @@
 package io.ballerina.projects;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.Optional;
 
@@ -35,6 +36,18 @@ public abstract class CompilationCache {
 
     public abstract byte[] getBir(ModuleName moduleName);
 
+    /**
+     * Returns the cached BIR of the given module as a buffer. Caches backed by the file system may return a buffer
+     * that maps the cached file instead of reading it into the heap. An empty buffer is returned if the BIR is not
+     * cached.
+     *
+     * @param moduleName name of the module
+     * @return buffer with the cached BIR content
+     */
+    public ByteBuffer getBirBuffer(ModuleName moduleName) {
+        return ByteBuffer.wrap(getBir(moduleName));
+    }
+
     public abstract void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent);
 
     public abstract Optional<Path> getPlatformSpecificLibrary(CompilerBackend compilerBackend, String libraryName);
@@ -41,13 +41,15 @@ public class CompilationOptions {
     Boolean disableSyntaxTree;
     Boolean remoteManagement;
     Boolean optimizeDependencyCompilation;
+    Boolean incrementalCompilation;
 
     CompilationOptions(Boolean offlineBuild, Boolean observabilityIncluded, Boolean dumpBir,
                        Boolean dumpBirFile, String cloud, Boolean listConflictedClasses, Boolean sticky,
                        Boolean dumpGraph, Boolean dumpRawGraphs, Boolean withCodeGenerators,
                        Boolean withCodeModifiers, Boolean configSchemaGen, Boolean exportOpenAPI,
                        Boolean exportComponentModel, Boolean enableCache, Boolean disableSyntaxTree,
-                       Boolean remoteManagement, Boolean optimizeDependencyCompilation) {
+                       Boolean remoteManagement, Boolean optimizeDependencyCompilation,
+                       Boolean incrementalCompilation) {
         this.offlineBuild = offlineBuild;
         this.observabilityIncluded = observabilityIncluded;
         this.dumpBir = dumpBir;
@@ -66,6 +68,7 @@ public class CompilationOptions {
         this.disableSyntaxTree = disableSyntaxTree;
         this.remoteManagement = remoteManagement;
         this.optimizeDependencyCompilation = optimizeDependencyCompilation;
+        this.incrementalCompilation = incrementalCompilation;
     }
 
     public boolean offlineBuild() {
@@ -136,6 +139,10 @@ public class CompilationOptions {
         return toBooleanDefaultIfNull(this.optimizeDependencyCompilation);
     }
 
+    boolean incrementalCompilation() {
+        return toBooleanDefaultIfNull(this.incrementalCompilation);
+    }
+
     /**
      * Merge the given compilation options by favoring theirs if there are conflicts.
      *
@@ -229,6 +236,11 @@ public class CompilationOptions {
         } else {
             compilationOptionsBuilder.setOptimizeDependencyCompilation(this.optimizeDependencyCompilation);
         }
+        if (theirOptions.incrementalCompilation != null) {
+            compilationOptionsBuilder.setIncrementalCompilation(theirOptions.incrementalCompilation);
+        } else {
+            compilationOptionsBuilder.setIncrementalCompilation(this.incrementalCompilation);
+        }
         return compilationOptionsBuilder.build();
     }
 
@@ -285,6 +297,7 @@ public class CompilationOptions {
         private Boolean disableSyntaxTree;
         private Boolean remoteManagement;
         private Boolean optimizeDependencyCompilation;
+        private Boolean incrementalCompilation;
 
         public CompilationOptionsBuilder setOffline(Boolean value) {
             offline = value;
@@ -376,12 +389,17 @@ public class CompilationOptions {
             return this;
         }
 
+        public CompilationOptionsBuilder setIncrementalCompilation(Boolean value) {
+            incrementalCompilation = value;
+            return this;
+        }
+
         public CompilationOptions build() {
             return new CompilationOptions(offline, observabilityIncluded, dumpBir,
                     dumpBirFile, cloud, listConflictedClasses, sticky, dumpGraph, dumpRawGraph,
                     withCodeGenerators, withCodeModifiers, configSchemaGen, exportOpenAPI,
                     exportComponentModel, enableCache, disableSyntaxTree, remoteManagement,
-                    optimizeDependencyCompilation);
+                    optimizeDependencyCompilation, incrementalCompilation);
         }
     }
 }
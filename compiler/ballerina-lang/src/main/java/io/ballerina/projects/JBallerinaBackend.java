@@ -44,7 +44,6 @@ import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.util.Lists;
 
-import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
@@ -55,11 +54,13 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -67,6 +68,13 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
@@ -95,6 +103,7 @@ public class JBallerinaBackend extends CompilerBackend {
     private static final HashSet<String> excludeExtensions = new HashSet<>(Lists.of("DSA", "SF"));
     private static final String OS = System.getProperty("os.name").toLowerCase(Locale.getDefault());
     public static final String JAR_NAME_SEPARATOR = "-";
+    private static final String JAR_INDEX_CACHE_DIR_NAME = "jar-index";
 
     private final PackageResolution pkgResolution;
     private final JvmTarget jdkVersion;
@@ -108,6 +117,8 @@ public class JBallerinaBackend extends CompilerBackend {
     private DiagnosticResult diagnosticResult;
     private boolean codeGenCompleted;
     private final List<JarConflict> conflictedJars;
+    private final Map<Path, JarEntryIndex> jarEntryIndexCache = new ConcurrentHashMap<>();
+    private final Path jarEntryIndexCacheDir;
     List<Diagnostic> conflictedResourcesDiagnostics = new ArrayList<>();
 
     public static JBallerinaBackend from(PackageCompilation packageCompilation, JvmTarget jdkVersion) {
@@ -140,6 +151,10 @@ public class JBallerinaBackend extends CompilerBackend {
         this.interopValidator = InteropValidator.getInstance(compilerContext);
         this.jvmCodeGenerator = CodeGenerator.getInstance(compilerContext);
         this.conflictedJars = new ArrayList<>();
+        // Indexes of dependency jars are reused across builds only for build projects, which have a build cache
+        Project project = this.packageContext.project();
+        this.jarEntryIndexCacheDir = project.kind() == ProjectKind.BUILD_PROJECT ?
+                project.targetDir().resolve(ProjectConstants.CACHES_DIR_NAME).resolve(JAR_INDEX_CACHE_DIR_NAME) : null;
         performCodeGen(shrink);
     }
 
@@ -225,6 +240,7 @@ public class JBallerinaBackend extends CompilerBackend {
         generatedArtifact = switch (outputType) {
             case GRAAL_EXEC -> emitGraalExecutable(filePath, emitResultDiagnostics);
             case EXEC -> emitExecutable(filePath, emitResultDiagnostics);
+            case THIN_EXEC -> emitThinExecutable(filePath, emitResultDiagnostics);
             case BALA -> emitBala(filePath);
             default -> throw new RuntimeException("Unexpected output type: " + outputType);
         };
@@ -456,6 +472,33 @@ public class JBallerinaBackend extends CompilerBackend {
         }
     }
 
+    /**
+     * Creates an executable jar which only contains a manifest. The dependency jars are referred from the class path
+     * of the manifest using their absolute locations, instead of being copied into the executable jar. Such a jar is
+     * only usable on the machine it was built on, as long as the referred jars are kept in place.
+     *
+     * @param executableFilePath path of the executable jar
+     * @param manifest           manifest of the executable jar
+     * @param jarLibraries       jar libraries required for execution
+     * @throws IOException if the executable jar cannot be written
+     */
+    private void assembleThinExecutableJar(Path executableFilePath,
+                                           Manifest manifest,
+                                           Collection<JarLibrary> jarLibraries) throws IOException {
+        // Sort the jar libraries so that the class path order is the same as the order in which the entries are
+        // picked when creating the fat jar
+        StringJoiner classPath = new StringJoiner(" ");
+        for (JarLibrary library : sortJarLibraries(jarLibraries)) {
+            classPath.add(library.path().toAbsolutePath().normalize().toUri().toString());
+        }
+        manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, classPath.toString());
+
+        try (ZipArchiveOutputStream outStream = new ZipArchiveOutputStream(
+                new BufferedOutputStream(new FileOutputStream(executableFilePath.toString())))) {
+            writeManifest(manifest, outStream);
+        }
+    }
+
     private void assembleTestExecutableJar(Path executableFilePath,
                                            Manifest manifest,
                                            Collection<JarLibrary> jarLibraries,
@@ -511,13 +554,73 @@ public class JBallerinaBackend extends CompilerBackend {
                                  HashMap<String, JarLibrary> copiedEntries,
                                  HashMap<String, StringBuilder> serviceEntries) throws IOException {
 
-        List<JarLibrary> sortedJarLibraries = jarLibraries.stream()
+        List<JarLibrary> sortedJarLibraries = sortJarLibraries(jarLibraries);
+        if (sortedJarLibraries.isEmpty()) {
+            return;
+        }
+
+        // Open and index the jars concurrently, ahead of copying them. Only the copying has to be sequential, since
+        // all the entries are written to the same output stream. The number of jars opened ahead is bounded, so that
+        // only a few jars are open at a time.
+        int parallelism = Math.min(Runtime.getRuntime().availableProcessors(), sortedJarLibraries.size());
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "jar-indexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Deque<Future<IndexedJar>> indexedJars = new ArrayDeque<>();
+        int nextJar = 0;
+        try {
+            for (JarLibrary jarLibrary : sortedJarLibraries) {
+                while (nextJar < sortedJarLibraries.size() && indexedJars.size() < parallelism * 2) {
+                    Path jarPath = sortedJarLibraries.get(nextJar++).path();
+                    indexedJars.add(executor.submit(() -> indexJar(jarPath)));
+                }
+                try (IndexedJar indexedJar = getIndexedJar(indexedJars.remove())) {
+                    copyJar(outStream, jarLibrary, indexedJar, copiedEntries, serviceEntries);
+                }
+            }
+        } finally {
+            executor.shutdown();
+            // Close the jars which were opened ahead, if copying failed
+            for (Future<IndexedJar> indexedJar : indexedJars) {
+                try (IndexedJar ignored = getIndexedJar(indexedJar)) {
+                    // only closing
+                } catch (IOException e) {
+                    // ignore, since copying has already failed
+                }
+            }
+        }
+    }
+
+    private static List<JarLibrary> sortJarLibraries(Collection<JarLibrary> jarLibraries) {
+        return jarLibraries.stream()
                 .sorted(Comparator.comparing(jarLibrary -> jarLibrary.path().getFileName()))
                 .toList();
+    }
+
+    private IndexedJar indexJar(Path jarPath) throws IOException {
+        ZipFile zipFile = new ZipFile(jarPath.toFile());
+        try {
+            return new IndexedJar(zipFile, JarEntryIndex.of(jarPath, zipFile, jarEntryIndexCache,
+                    jarEntryIndexCacheDir));
+        } catch (IOException | RuntimeException e) {
+            zipFile.close();
+            throw e;
+        }
+    }
 
-        // Copy all the jars
-        for (JarLibrary library : sortedJarLibraries) {
-            copyJar(outStream, library, copiedEntries, serviceEntries);
+    private static IndexedJar getIndexedJar(Future<IndexedJar> indexedJar) throws IOException {
+        try {
+            return indexedJar.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while reading dependency jars", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException(e.getCause());
         }
     }
 
@@ -563,68 +666,48 @@ public class JBallerinaBackend extends CompilerBackend {
      *
      * @param outStream     Output stream of the final uber jar.
      * @param jarLibrary    jar library.
+     * @param indexedJar    The opened jar library, with the index of its entries.
      * @param copiedEntries Entries set will be used to ignore duplicate files.
      * @param services      Services will be used to temporary hold merged spi files.
      * @throws IOException If jar file copying is failed.
      */
-    private void copyJar(ZipArchiveOutputStream outStream, JarLibrary jarLibrary,
+    private void copyJar(ZipArchiveOutputStream outStream, JarLibrary jarLibrary, IndexedJar indexedJar,
                          HashMap<String, JarLibrary> copiedEntries, HashMap<String,
             StringBuilder> services) throws IOException {
         if (Thread.currentThread().isInterrupted()) {
             return;
         }
-        try (ZipFile zipFile = new ZipFile(jarLibrary.path().toFile())) {
-            ZipArchiveEntryPredicate predicate = entry -> {
-                String entryName = entry.getName();
-                if (entryName.equals("META-INF/MANIFEST.MF")) {
-                    return false;
-                }
-                if (entryName.equals("module-info.class")) {
-                    return false;
-                }
-                if (entryName.startsWith("META-INF/services")) {
-                    StringBuilder s = services.get(entryName);
-                    if (s == null) {
-                        s = new StringBuilder();
-                        services.put(entryName, s);
-                    }
-                    char c = '\n';
 
-                    int len;
-                    try (BufferedInputStream inStream = new BufferedInputStream(zipFile.getInputStream(entry))) {
-                        while ((len = inStream.read()) != -1) {
-                            c = (char) len;
-                            s.append(c);
-                        }
-                    } catch (IOException e) {
-                        throw new RuntimeException(e);
-                    }
-                    if (c != '\n') {
-                        s.append('\n');
-                    }
-
-                    // Its not required to copy SPI entries in here as we'll be adding merged SPI related entries
-                    // separately. Therefore the predicate should be set as false.
-                    return false;
-                }
+        // Its not required to copy SPI entries in here as we'll be adding merged SPI related entries separately.
+        JarEntryIndex jarEntryIndex = indexedJar.index();
+        for (Map.Entry<String, String> service : jarEntryIndex.services().entrySet()) {
+            services.computeIfAbsent(service.getKey(), k -> new StringBuilder()).append(service.getValue());
+        }
 
-                // Skip already copied files or excluded extensions.
-                if (isCopiedEntry(entryName, copiedEntries)) {
-                    addConflictedJars(jarLibrary, copiedEntries, entryName);
-                    return false;
-                }
-                if (isExcludedEntry(entryName)) {
-                    return false;
-                }
-                // SPIs will be merged first and then put into jar separately.
-                copiedEntries.put(entryName, jarLibrary);
-                return true;
-            };
+        Set<String> selectedEntries = new HashSet<>();
+        for (String entryName : jarEntryIndex.entryNames()) {
+            // Skip already copied files or excluded extensions.
+            if (isCopiedEntry(entryName, copiedEntries)) {
+                addConflictedJars(jarLibrary, copiedEntries, entryName);
+                continue;
+            }
+            if (isExcludedEntry(entryName)) {
+                continue;
+            }
+            copiedEntries.put(entryName, jarLibrary);
+            selectedEntries.add(entryName);
+        }
 
-            // Transfers selected entries from this zip file to the output stream, while preserving its compression and
-            // all the other original attributes.
-            zipFile.copyRawEntries(outStream, predicate);
+        if (selectedEntries.isEmpty()) {
+            return;
         }
+
+        // Removing the name makes sure a duplicated entry within the same jar is copied only once.
+        ZipArchiveEntryPredicate predicate = entry -> selectedEntries.remove(entry.getName());
+
+        // Transfers selected entries from this zip file to the output stream, while preserving its compression and
+        // all the other original attributes.
+        indexedJar.zipFile().copyRawEntries(outStream, predicate);
     }
 
     private static boolean isCopiedEntry(String entryName, HashMap<String, JarLibrary> copiedEntries) {
@@ -664,6 +747,19 @@ public class JBallerinaBackend extends CompilerBackend {
         return executableFilePath;
     }
 
+    private Path emitThinExecutable(Path executableFilePath, List<Diagnostic> emitResultDiagnostics) {
+        Manifest manifest = createManifest();
+        Collection<JarLibrary> jarLibraries = jarResolver.getJarFilePathsRequiredForExecution();
+        addProvidedDependencyWarning(emitResultDiagnostics);
+        try {
+            assembleThinExecutableJar(executableFilePath, manifest, jarLibraries);
+        } catch (IOException e) {
+            throw new ProjectException("error while creating the executable jar file for package '" +
+                    this.packageContext.packageName().toString() + "' : " + e.getMessage(), e);
+        }
+        return executableFilePath;
+    }
+
     private Path emitTestExecutable(Path executableFilePath, HashSet<JarLibrary> jarDependencies,
                           Path testSuiteJsonPath, String jsonCopyPath, List<String> excludedClasses,
                           String classPathTextCopyPath) {
@@ -828,11 +924,26 @@ public class JBallerinaBackend extends CompilerBackend {
                 PlatformLibraryScope.PROVIDED.getStringValue()));
     }
 
+    /**
+     * A dependency jar opened for copying, along with the index of its entries.
+     *
+     * @param zipFile opened jar
+     * @param index   index of the entries of the jar
+     */
+    private record IndexedJar(ZipFile zipFile, JarEntryIndex index) implements AutoCloseable {
+
+        @Override
+        public void close() throws IOException {
+            zipFile.close();
+        }
+    }
+
     /**
      * Enum to represent output types.
      */
     public enum OutputType {
         EXEC("exec"),
+        THIN_EXEC("thin_exec"),
         BALA("bala"),
         GRAAL_EXEC("graal_exec"),
         TEST("test")
@@ -0,0 +1,242 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Index of the entries of a dependency jar, used when assembling the executable jar.
+ * <p>
+ * The index holds the names of the entries that can be copied to the executable jar and the content of the SPI
+ * service files of the jar, which are merged instead of being copied. Indexes are cached by the path of the jar in a
+ * cache owned by the backend of a compilation, and reused as long as the size and the modified time of the jar do not
+ * change. For build projects, the indexes are also written to the build cache of the project, so that the following
+ * builds do not read the dependency jars again unless they change.
+ *
+ * @since 2201.11.0
+ */
+final class JarEntryIndex {
+
+    private static final String SERVICES_DIR = "META-INF/services";
+    private static final String MANIFEST_ENTRY = "META-INF/MANIFEST.MF";
+    private static final String MODULE_INFO_ENTRY = "module-info.class";
+    private static final String INDEX_FILE_EXTENSION = ".idx";
+    private static final int INDEX_FILE_VERSION = 1;
+
+    private final long size;
+    private final long lastModifiedTime;
+    private final List<String> entryNames;
+    private final Map<String, String> services;
+
+    private JarEntryIndex(long size, long lastModifiedTime, List<String> entryNames, Map<String, String> services) {
+        this.size = size;
+        this.lastModifiedTime = lastModifiedTime;
+        this.entryNames = entryNames;
+        this.services = services;
+    }
+
+    /**
+     * Returns the index of the given jar, reading the entries of the already opened jar only if there is no up-to-date
+     * index in the given cache or in the given cache directory.
+     *
+     * @param jarPath  path of the jar
+     * @param zipFile  the jar, opened from the path
+     * @param cache    indexes of jars, keyed by the path of the jar
+     * @param cacheDir directory the indexes are persisted in across builds, or null if they are not persisted
+     * @return index of the jar
+     * @throws IOException if the jar cannot be read
+     */
+    static JarEntryIndex of(Path jarPath, ZipFile zipFile, Map<Path, JarEntryIndex> cache, Path cacheDir)
+            throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(jarPath, BasicFileAttributes.class);
+        long size = attributes.size();
+        long lastModifiedTime = attributes.lastModifiedTime().toMillis();
+        JarEntryIndex index = cache.get(jarPath);
+        if (index != null && index.size == size && index.lastModifiedTime == lastModifiedTime) {
+            return index;
+        }
+
+        Path indexFile = cacheDir == null ? null : getIndexFile(jarPath, cacheDir);
+        index = indexFile == null ? null : load(jarPath, indexFile, size, lastModifiedTime);
+        if (index == null) {
+            index = read(zipFile, size, lastModifiedTime);
+            if (indexFile != null) {
+                store(jarPath, indexFile, index);
+            }
+        }
+        cache.put(jarPath, index);
+        return index;
+    }
+
+    private static Path getIndexFile(Path jarPath, Path cacheDir) {
+        String key = jarPath.toAbsolutePath().normalize().toString();
+        return cacheDir.resolve(UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)) + INDEX_FILE_EXTENSION);
+    }
+
+    /**
+     * Loads the index persisted in the given file, if it is the index of the given jar with the given size and the
+     * given modified time.
+     *
+     * @param jarPath          path of the jar
+     * @param indexFile        file the index is persisted in
+     * @param size             current size of the jar
+     * @param lastModifiedTime current modified time of the jar
+     * @return the index, or null if there is no up-to-date index in the file
+     */
+    private static JarEntryIndex load(Path jarPath, Path indexFile, long size, long lastModifiedTime) {
+        if (!Files.isRegularFile(indexFile)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != INDEX_FILE_VERSION ||
+                    !in.readUTF().equals(jarPath.toAbsolutePath().normalize().toString()) ||
+                    in.readLong() != size || in.readLong() != lastModifiedTime) {
+                return null;
+            }
+            int entryCount = in.readInt();
+            List<String> entryNames = new ArrayList<>(entryCount);
+            for (int i = 0; i < entryCount; i++) {
+                entryNames.add(in.readUTF());
+            }
+            int serviceCount = in.readInt();
+            Map<String, String> services = new LinkedHashMap<>();
+            for (int i = 0; i < serviceCount; i++) {
+                String serviceName = in.readUTF();
+                byte[] content = in.readNBytes(in.readInt());
+                services.put(serviceName, new String(content, StandardCharsets.UTF_8));
+            }
+            return new JarEntryIndex(size, lastModifiedTime, Collections.unmodifiableList(entryNames),
+                    Collections.unmodifiableMap(services));
+        } catch (IOException | RuntimeException e) {
+            // A corrupted index is read from the jar again
+            return null;
+        }
+    }
+
+    /**
+     * Persists the index of the given jar in the given file. The index is written to a temporary file first, so that
+     * concurrent builds never read a partially written index.
+     *
+     * @param jarPath   path of the jar
+     * @param indexFile file the index is persisted in
+     * @param index     index of the jar
+     */
+    private static void store(Path jarPath, Path indexFile, JarEntryIndex index) {
+        Path tempFile = null;
+        try {
+            Files.createDirectories(indexFile.getParent());
+            tempFile = Files.createTempFile(indexFile.getParent(), indexFile.getFileName().toString(), null);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(tempFile)))) {
+                out.writeInt(INDEX_FILE_VERSION);
+                out.writeUTF(jarPath.toAbsolutePath().normalize().toString());
+                out.writeLong(index.size);
+                out.writeLong(index.lastModifiedTime);
+                out.writeInt(index.entryNames.size());
+                for (String entryName : index.entryNames) {
+                    out.writeUTF(entryName);
+                }
+                out.writeInt(index.services.size());
+                for (Map.Entry<String, String> service : index.services.entrySet()) {
+                    byte[] content = service.getValue().getBytes(StandardCharsets.UTF_8);
+                    out.writeUTF(service.getKey());
+                    out.writeInt(content.length);
+                    out.write(content);
+                }
+            }
+            Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // The index is only an optimization, so the jar is read again by the next build
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException ignored) {
+                    // ignore, since the temporary file is in the build cache
+                }
+            }
+        }
+    }
+
+    private static JarEntryIndex read(ZipFile zipFile, long size, long lastModifiedTime) throws IOException {
+        List<String> entryNames = new ArrayList<>();
+        Map<String, String> services = new LinkedHashMap<>();
+        Enumeration<ZipArchiveEntry> entries = zipFile.getEntriesInPhysicalOrder();
+        while (entries.hasMoreElements()) {
+            ZipArchiveEntry entry = entries.nextElement();
+            String entryName = entry.getName();
+            if (entryName.equals(MANIFEST_ENTRY) || entryName.equals(MODULE_INFO_ENTRY)) {
+                continue;
+            }
+            if (entryName.startsWith(SERVICES_DIR)) {
+                services.merge(entryName, readServiceEntry(zipFile, entry), String::concat);
+                continue;
+            }
+            entryNames.add(entryName);
+        }
+        return new JarEntryIndex(size, lastModifiedTime, Collections.unmodifiableList(entryNames),
+                Collections.unmodifiableMap(services));
+    }
+
+    private static String readServiceEntry(ZipFile zipFile, ZipArchiveEntry entry) throws IOException {
+        String content;
+        try (InputStream inputStream = zipFile.getInputStream(entry)) {
+            content = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        // Make sure the services of the next jar start on a new line when merging
+        return content.isEmpty() || content.endsWith("\n") ? content : content + "\n";
+    }
+
+    /**
+     * Returns the names of the entries of the jar in the order they are stored, excluding the manifest, the module
+     * descriptor and SPI service files.
+     *
+     * @return entry names
+     */
+    List<String> entryNames() {
+        return entryNames;
+    }
+
+    /**
+     * Returns the content of the SPI service files of the jar, keyed by the entry name.
+     *
+     * @return SPI service file content
+     */
+    Map<String, String> services() {
+        return services;
+    }
+}
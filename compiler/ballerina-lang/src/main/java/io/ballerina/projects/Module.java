@@ -18,6 +18,7 @@
 package io.ballerina.projects;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -309,8 +310,18 @@ public class Module {
                     testDocContextMap, this.moduleMdContext, this.dependencies);
             moduleContextSet.add(newModuleContext);
 
-            // add dependant modules including transitives
-            Collection<ModuleDescriptor> dependants = getAllDependants(this.moduleDescriptor);
+            // add dependant modules including transitives. With incremental compilation, the dependants are kept
+            // as they are if the edit only changes function bodies without moving the other declarations, since
+            // those are not visible to them.
+            Collection<ModuleDescriptor> dependants;
+            if (this.project.buildOptions().compilationOptions().incrementalCompilation() &&
+                    ModuleDeclarations.isUnchanged(this.packageInstance.module(this.moduleId).moduleContext(),
+                            srcDocContextMap)) {
+                dependants = Collections.emptyList();
+                newModuleContext.setDependantsReused(true);
+            } else {
+                dependants = getAllDependants(this.moduleDescriptor);
+            }
             for (ModuleDescriptor dependentDescriptor : dependants) {
                 if (dependentDescriptor.equals(this.moduleDescriptor)) {
                     continue;
@@ -41,12 +41,11 @@ import org.wso2.ballerinalang.compiler.tree.BLangTestablePackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.programfile.CompiledBinaryFile;
-import org.wso2.ballerinalang.programfile.PackageFileWriter;
 
 import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -84,9 +83,10 @@ class ModuleContext {
     private Set<ModuleDependency> moduleDependencies;
     private BLangPackage bLangPackage;
     private BPackageSymbol bPackageSymbol;
-    private byte[] birBytes = new byte[0];
+    private ByteBuffer birBuffer = ByteBuffer.allocate(0);
     private final Bootstrap bootstrap;
     private ModuleCompilationState moduleCompState;
+    private boolean dependantsReused;
     private Set<ModuleLoadRequest> allModuleLoadRequests = null;
     private Set<ModuleLoadRequest> allTestModuleLoadRequests = null;
 
@@ -221,6 +221,20 @@ class ModuleContext {
         return moduleCompState;
     }
 
+    /**
+     * Returns whether the compiled state of the modules that depend on this module was kept as it is when this
+     * module was created by an edit, since the edit did not change the declarations of the module.
+     *
+     * @return true if the dependant modules were not recompiled against this module
+     */
+    boolean dependantsReused() {
+        return dependantsReused;
+    }
+
+    void setDependantsReused(boolean dependantsReused) {
+        this.dependantsReused = dependantsReused;
+    }
+
     private BLangPackage getBLangPackageOrThrow() {
         if (bLangPackage == null) {
             throw new IllegalStateException("Compile the module first!");
@@ -265,7 +279,7 @@ class ModuleContext {
         }
 
         // TODO This logic needs to be updated. We need a proper way to decide on the initial state
-        if (compilationCache.getBir(moduleDescriptor.name()).length == 0) {
+        if (!compilationCache.getBirBuffer(moduleDescriptor.name()).hasRemaining()) {
             moduleCompState = ModuleCompilationState.LOADED_FROM_SOURCES;
         } else if (this.project().kind() == ProjectKind.BUILD_PROJECT
                 && !this.project.buildOptions().enableCache()) {
@@ -488,26 +502,21 @@ class ModuleContext {
         if (!shouldGenerateBir(moduleContext, compilerContext)) {
             return null;
         }
-        // Can we improve this logic
-        ByteArrayOutputStream birContent = new ByteArrayOutputStream();
-        try {
-            CompiledBinaryFile.BIRPackageFile birPackageFile = moduleContext.bLangPackage.symbol.birPackageFile;
-            if (birPackageFile == null) {
-                birPackageFile = new CompiledBinaryFile
-                        .BIRPackageFile(new BIRBinaryWriter(moduleContext.bLangPackage.symbol.bir).serialize());
-                moduleContext.bLangPackage.symbol.birPackageFile = birPackageFile;
-            }
-            byte[] pkgBirBinaryContent = PackageFileWriter.writePackage(birPackageFile);
-            birContent.writeBytes(pkgBirBinaryContent);
-            return birContent;
-        } catch (IOException e) {
-            // This path may never be executed
-            throw new RuntimeException("Failed to convert BIR model to a byte array", e);
+        CompiledBinaryFile.BIRPackageFile birPackageFile = moduleContext.bLangPackage.symbol.birPackageFile;
+        if (birPackageFile == null) {
+            birPackageFile = new CompiledBinaryFile
+                    .BIRPackageFile(new BIRBinaryWriter(moduleContext.bLangPackage.symbol.bir).serialize());
+            moduleContext.bLangPackage.symbol.birPackageFile = birPackageFile;
         }
+        // Write the serialized content as it is, instead of copying it through intermediate byte arrays.
+        byte[] pkgBirBinaryContent = birPackageFile.pkgBirBinaryContent;
+        ByteArrayOutputStream birContent = new ByteArrayOutputStream(pkgBirBinaryContent.length);
+        birContent.writeBytes(pkgBirBinaryContent);
+        return birContent;
     }
 
     static void loadBirBytesInternal(ModuleContext moduleContext) {
-        moduleContext.birBytes = moduleContext.compilationCache.getBir(moduleContext.moduleName());
+        moduleContext.birBuffer = moduleContext.compilationCache.getBirBuffer(moduleContext.moduleName());
     }
 
     static void resolveDependenciesFromBALAInternal(ModuleContext moduleContext) {
@@ -519,7 +528,8 @@ class ModuleContext {
         BIRPackageSymbolEnter birPackageSymbolEnter = BIRPackageSymbolEnter.getInstance(compilerContext);
 
         PackageID moduleCompilationId = moduleContext.descriptor().moduleCompilationId();
-        moduleContext.bPackageSymbol = birPackageSymbolEnter.definePackage(moduleCompilationId, moduleContext.birBytes);
+        moduleContext.bPackageSymbol = birPackageSymbolEnter.definePackage(moduleCompilationId,
+                moduleContext.birBuffer);
         moduleContext.bPackageSymbol.exported = moduleContext.isExported();
         moduleContext.bPackageSymbol.descriptor = moduleContext.descriptor();
         packageCache.putSymbol(moduleCompilationId, moduleContext.bPackageSymbol);
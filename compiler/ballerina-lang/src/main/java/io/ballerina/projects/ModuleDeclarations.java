@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects;
+
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares the declarations of two versions of a module, ignoring the bodies of functions and methods.
+ * <p>
+ * The bodies of functions and methods are not visible to the modules that import a module. Hence, if an edit only
+ * changes the statements inside bodies, the symbols that the dependent modules have resolved from the module are
+ * still valid. Tokens are also compared by their positions, since the symbols that the dependent modules have resolved
+ * hold the locations of the declarations. Hence, an edit which adds or removes lines in a body is considered as a
+ * change if it moves the declarations that follow it, so that references to them are not left at stale locations.
+ *
+ * @since 2201.11.0
+ */
+final class ModuleDeclarations {
+
+    private ModuleDeclarations() {
+    }
+
+    /**
+     * Checks whether the given source documents have the same declarations as the sources of the given module.
+     *
+     * @param oldModuleContext    module context before the edit
+     * @param newSrcDocContextMap source documents after the edit
+     * @return true if only function and method bodies are changed, without moving the other declarations, false
+     *         otherwise
+     */
+    static boolean isUnchanged(ModuleContext oldModuleContext,
+                               Map<DocumentId, DocumentContext> newSrcDocContextMap) {
+        Collection<DocumentId> oldDocumentIds = oldModuleContext.srcDocumentIds();
+        if (oldDocumentIds.size() != newSrcDocContextMap.size() ||
+                !newSrcDocContextMap.keySet().containsAll(oldDocumentIds)) {
+            return false;
+        }
+
+        for (Map.Entry<DocumentId, DocumentContext> entry : newSrcDocContextMap.entrySet()) {
+            DocumentContext oldDocContext = oldModuleContext.documentContext(entry.getKey());
+            DocumentContext newDocContext = entry.getValue();
+            if (oldDocContext == newDocContext) {
+                continue;
+            }
+            if (!isUnchanged(oldDocContext.syntaxTree(), newDocContext.syntaxTree())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isUnchanged(SyntaxTree oldSyntaxTree, SyntaxTree newSyntaxTree) {
+        List<Token> oldTokens = new ArrayList<>();
+        addDeclarationTokens(oldSyntaxTree.rootNode(), oldTokens);
+        List<Token> newTokens = new ArrayList<>();
+        addDeclarationTokens(newSyntaxTree.rootNode(), newTokens);
+        if (oldTokens.size() != newTokens.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < oldTokens.size(); i++) {
+            Token oldToken = oldTokens.get(i);
+            Token newToken = newTokens.get(i);
+            if (oldToken.kind() != newToken.kind() || !oldToken.text().equals(newToken.text()) ||
+                    !oldToken.lineRange().equals(newToken.lineRange())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void addDeclarationTokens(Node node, List<Token> tokens) {
+        if (node instanceof Token token) {
+            tokens.add(token);
+            return;
+        }
+        if (isFunctionBody(node)) {
+            return;
+        }
+        for (Node child : ((NonTerminalNode) node).children()) {
+            addDeclarationTokens(child, tokens);
+        }
+    }
+
+    private static boolean isFunctionBody(Node node) {
+        if (node.kind() != SyntaxKind.FUNCTION_BODY_BLOCK && node.kind() != SyntaxKind.EXPRESSION_FUNCTION_BODY) {
+            return false;
+        }
+        NonTerminalNode parent = node.parent();
+        if (parent == null) {
+            return false;
+        }
+        return switch (parent.kind()) {
+            case FUNCTION_DEFINITION, OBJECT_METHOD_DEFINITION, RESOURCE_ACCESSOR_DEFINITION -> true;
+            default -> false;
+        };
+    }
+}
@@ -154,6 +154,23 @@ public class Package {
         return this.packageContext.getPackageCompilation();
     }
 
+    /**
+     * Returns whether the compiled state of any module of this package was reused after an edit of a module it
+     * depends on, because the edit only changed function bodies. The compilation of such a package is fine for
+     * editing, but the code should be generated from a fresh compilation of the package, since a body edit can still
+     * renumber the anonymous types of the edited module.
+     *
+     * @return true if a module was not recompiled after an edit of a module it depends on
+     */
+    public boolean hasReusedModuleCompilations() {
+        for (ModuleId moduleId : this.packageContext.moduleIds()) {
+            if (this.packageContext.moduleContext(moduleId).dependantsReused()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     PackageCompilation getCompilation(CompilationOptions compilationOptions) {
         return this.packageContext.getPackageCompilation(compilationOptions);
     }
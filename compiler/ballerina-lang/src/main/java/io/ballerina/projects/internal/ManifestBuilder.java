@@ -700,6 +700,10 @@ public class ManifestBuilder {
                 BuildOptions.OptionName.SHOW_DEPENDENCY_DIAGNOSTICS.toString());
         Boolean optimizeDependencyCompilation = getBooleanFromBuildOptionsTableNode(tableNode,
                 BuildOptions.OptionName.OPTIMIZE_DEPENDENCY_COMPILATION.toString());
+        Boolean thinJar = getBooleanFromBuildOptionsTableNode(tableNode,
+                BuildOptions.OptionName.THIN_JAR.toString());
+        Boolean cds = getBooleanFromBuildOptionsTableNode(tableNode,
+                BuildOptions.OptionName.CDS.toString());
 
         buildOptionsBuilder
                 .setOffline(offline)
@@ -716,7 +720,9 @@ public class ManifestBuilder {
                 .setGraalVMBuildOptions(graalVMBuildOptions)
                 .setRemoteManagement(remoteManagement)
                 .setShowDependencyDiagnostics(showDependencyDiagnostics)
-                .setOptimizeDependencyCompilation(optimizeDependencyCompilation);
+                .setOptimizeDependencyCompilation(optimizeDependencyCompilation)
+                .setThinJar(thinJar)
+                .setCds(cds);
 
         if (targetDir != null) {
             buildOptionsBuilder.targetDir(targetDir);
@@ -25,6 +25,7 @@ import io.ballerina.projects.util.ProjectConstants;
 import org.apache.commons.io.FileUtils;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -62,6 +63,17 @@ public class BuildProjectCompilationCache extends FileSystemCache {
         return new byte[0];
     }
 
+    @Override
+    public ByteBuffer getBirBuffer(ModuleName moduleName) {
+        Path birFilePath = getBirPath().resolve(moduleName.toString()
+                + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
+        try {
+            return readBirBuffer(birFilePath);
+        } catch (IOException e) {
+            return ByteBuffer.wrap(EMPTY_BYTE_ARRAY);
+        }
+    }
+
     private Path getBirPath() {
         if (birPath != null) {
             return birPath;
@@ -28,10 +28,15 @@ import io.ballerina.projects.util.ProjectConstants;
 import org.apache.commons.io.FileUtils;
 
 import java.io.ByteArrayOutputStream;
-import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
 import java.util.Optional;
 
 /**
@@ -51,6 +56,13 @@ import java.util.Optional;
  * @since 2.0.0
  */
 public class FileSystemCache extends CompilationCache {
+    // BIR files smaller than this are read into the heap, since mapping them costs more than reading them
+    private static final long BIR_MAPPING_THRESHOLD = 64 * 1024L;
+    // A mapped file cannot be deleted or replaced on Windows until the mapping is garbage collected
+    private static final boolean IS_WINDOWS =
+            System.getProperty("os.name").toLowerCase(Locale.getDefault()).contains("win");
+    private static final ByteBuffer EMPTY_BUFFER = ByteBuffer.allocate(0);
+
     private final Path cacheDirPath;
     private Path birPath;
     private Path packageCacheDirPath;
@@ -75,15 +87,59 @@ public class FileSystemCache extends CompilationCache {
         return new byte[0];
     }
 
+    @Override
+    public ByteBuffer getBirBuffer(ModuleName moduleName) {
+        Path birFilePath = getBirPath().resolve(moduleName.toString()
+                + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
+        try {
+            return readBirBuffer(birFilePath);
+        } catch (IOException e) {
+            // TODO proper error handling
+            throw new RuntimeException("Failed to read the cached bir of module: " + moduleName, e);
+        }
+    }
+
+    /**
+     * Reads the given BIR file into a buffer. Large files are mapped into memory so that the content is not copied
+     * into the heap.
+     *
+     * @param birFilePath path of the BIR file
+     * @return buffer with the BIR content, or an empty buffer if the file does not exist
+     * @throws IOException if the file cannot be read
+     */
+    protected static ByteBuffer readBirBuffer(Path birFilePath) throws IOException {
+        if (!Files.exists(birFilePath)) {
+            return EMPTY_BUFFER;
+        }
+
+        try (FileChannel channel = FileChannel.open(birFilePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (!IS_WINDOWS && size >= BIR_MAPPING_THRESHOLD) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    break;
+                }
+            }
+            return buffer.flip();
+        }
+    }
+
     @Override
     public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
         Path birFilePath = getBirPath().resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
         if (!Files.exists(birFilePath)) {
             try {
-                File tempBirFile = birPath.resolve(".tmp").toFile();
-                // TODO Can we improve this logic
-                FileUtils.writeByteArrayToFile(tempBirFile, birContent.toByteArray());
-                FileUtils.moveFile(tempBirFile, birFilePath.toFile());
+                createDirectories(birPath);
+                Path tempBirFile = birPath.resolve(".tmp");
+                // Stream the content to the file instead of creating a copy of it
+                try (OutputStream outputStream = Files.newOutputStream(tempBirFile)) {
+                    birContent.writeTo(outputStream);
+                }
+                Files.move(tempBirFile, birFilePath, StandardCopyOption.REPLACE_EXISTING);
             } catch (IOException e) {
                 // TODO proper error handling
                 throw new RuntimeException("Failed to cache the bir of module: " + moduleName, e);
@@ -22,6 +22,7 @@ import io.ballerina.projects.Project;
 import io.ballerina.projects.util.ProjectConstants;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -49,6 +50,11 @@ public class TempDirCompilationCache extends FileSystemCache {
         return EMPTY_BYTE_ARRAY;
     }
 
+    @Override
+    public ByteBuffer getBirBuffer(ModuleName moduleName) {
+        return ByteBuffer.wrap(EMPTY_BYTE_ARRAY);
+    }
+
     private static Path createTempProjectRoot() {
         try {
             return Files.createTempDirectory("ballerina-compilation-cache" + System.nanoTime());
@@ -92,21 +92,24 @@ import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.tree.BLangTypeDefinition;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangLiteral;
 import org.wso2.ballerinalang.compiler.util.BArrayState;
+import org.wso2.ballerinalang.compiler.util.ByteBufferInputStream;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.ImmutableTypeCloner;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
-import org.wso2.ballerinalang.programfile.CompiledBinaryFile;
 import org.wso2.ballerinalang.programfile.CompiledBinaryFile.BIRPackageFile;
 import org.wso2.ballerinalang.util.Flags;
 
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -117,6 +120,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import static org.ballerinalang.model.symbols.SymbolOrigin.COMPILED_SOURCE;
@@ -150,8 +154,6 @@ public class BIRPackageSymbolEnter {
     private static final CompilerContext.Key<BIRPackageSymbolEnter> COMPILED_PACKAGE_SYMBOL_ENTER_KEY =
             new CompilerContext.Key<>();
 
-    private final Map<String, BVarSymbol> globalVarMap = new HashMap<>();
-
     public static BIRPackageSymbolEnter getInstance(CompilerContext context) {
         BIRPackageSymbolEnter packageReader = context.get(COMPILED_PACKAGE_SYMBOL_ENTER_KEY);
         if (packageReader == null) {
@@ -173,24 +175,35 @@ public class BIRPackageSymbolEnter {
     }
 
     public BPackageSymbol definePackage(PackageID packageId, byte[] packageBinaryContent) {
-        BPackageSymbol pkgSymbol = definePackage(packageId, new ByteArrayInputStream(packageBinaryContent));
+        return definePackage(packageId, ByteBuffer.wrap(packageBinaryContent));
+    }
 
-        // Strip magic value (4 bytes) and the version (2 bytes) off from the binary content of the package.
-        byte[] modifiedPkgBinaryContent = Arrays.copyOfRange(
-                packageBinaryContent, 8, packageBinaryContent.length);
-        pkgSymbol.birPackageFile = new CompiledBinaryFile.BIRPackageFile(modifiedPkgBinaryContent);
+    /**
+     * Defines the package symbol of the given BIR content. The content is read in place, hence the buffer can be
+     * backed by a memory-mapped BIR file. The buffer must not be modified afterwards, since symbols of module level
+     * functions are read from it on demand.
+     *
+     * @param packageId     ID of the package to be loaded
+     * @param packageBuffer BIR content of the package
+     * @return the package symbol
+     */
+    public synchronized BPackageSymbol definePackage(PackageID packageId, ByteBuffer packageBuffer) {
+        ByteBuffer content = packageBuffer.slice();
+        BPackageSymbol pkgSymbol = definePackage(packageId, new ByteBufferInputStream(content), content);
         SymbolEnv builtinEnv = this.symTable.pkgEnvMap.get(symTable.langAnnotationModuleSymbol);
         SymbolEnv pkgEnv = SymbolEnv.createPkgEnv(null, pkgSymbol.scope, builtinEnv);
         this.symTable.pkgEnvMap.put(pkgSymbol, pkgEnv);
         return pkgSymbol;
     }
 
-    private BPackageSymbol definePackage(PackageID packageId, InputStream programFileInStream) {
+    private BPackageSymbol definePackage(PackageID packageId, InputStream programFileInStream,
+                                         ByteBuffer packageBinaryContent) {
         // TODO packageID --> package to be loaded. this is required for error reporting..
         try (DataInputStream dataInStream = new DataInputStream(programFileInStream)) {
             BIRPackageSymbolEnv prevEnv = this.env;
             this.env = new BIRPackageSymbolEnv();
             this.env.requestedPackageId = packageId;
+            this.env.content = packageBinaryContent;
 
             BPackageSymbol pkgSymbol = definePackage(dataInStream);
             this.env = prevEnv;
@@ -233,6 +246,7 @@ public class BIRPackageSymbolEnter {
 
         PackageID pkgId = createPackageID(orgName, pkgName, moduleName, pkgVersion);
         this.env.pkgSymbol = Symbols.createPackageSymbol(pkgId, this.symTable, COMPILED_SOURCE);
+        this.env.pkgSymbol.scope.entries = new LazyFunctionEntryMap(this.env);
 
         // TODO Validate this pkdID with the requestedPackageID available in the env.
 
@@ -251,8 +265,8 @@ public class BIRPackageSymbolEnter {
 
         readTypeDefBodies(dataInStream);
 
-        // Define functions.
-        defineSymbols(dataInStream, rethrow(this::defineFunction));
+        // Index functions. Their symbols are defined when they are first looked up.
+        defineSymbols(dataInStream, rethrow(this::indexFunction));
 
         // Define annotations.
         defineSymbols(dataInStream, rethrow(this::defineAnnotations));
@@ -348,7 +362,7 @@ public class BIRPackageSymbolEnter {
                 return new CPEntry.PackageCPEntry(dataInStream.readInt(), dataInStream.readInt(),
                         dataInStream.readInt(), dataInStream.readInt());
             case CP_ENTRY_SHAPE:
-                env.unparsedBTypeCPs.put(i, readByteArray(dataInStream));
+                env.unparsedBTypeCPs.put(i, readByteBuffer(dataInStream));
                 return null;
             case CP_ENTRY_BYTE:
                 return new CPEntry.ByteCPEntry(dataInStream.readInt());
@@ -358,11 +372,20 @@ public class BIRPackageSymbolEnter {
         }
     }
 
-    private byte[] readByteArray(DataInputStream dataInStream) throws IOException {
+    /**
+     * Returns a view of the next length-prefixed block of the BIR content without copying it.
+     *
+     * @param dataInStream BIR input stream positioned at the length of the block
+     * @return buffer holding the content of the block
+     * @throws IOException if the block cannot be read
+     */
+    private ByteBuffer readByteBuffer(DataInputStream dataInStream) throws IOException {
         int length = dataInStream.readInt();
-        byte[] bytes = new byte[length];
-        dataInStream.readFully(bytes);
-        return bytes;
+        int offset = this.env.content.limit() - dataInStream.available();
+        if (dataInStream.skip(length) != length) {
+            throw new EOFException();
+        }
+        return this.env.content.duplicate().position(offset).limit(offset + length).slice();
     }
 
     private void defineSymbols(DataInputStream dataInStream,
@@ -390,6 +413,89 @@ public class BIRPackageSymbolEnter {
         this.env.pkgSymbol.imports.add(importPackageSymbol);
     }
 
+    /**
+     * Records the offset of a module level function in the BIR and skips over it without resolving any of the types
+     * it refers to. The symbol is defined later from the recorded offset by {@link #defineLazyFunctions}.
+     *
+     * @param dataInStream BIR input stream positioned at the start of a function
+     * @throws IOException if the function cannot be read
+     */
+    private void indexFunction(DataInputStream dataInStream) throws IOException {
+        int offset = this.env.content.limit() - dataInStream.available();
+
+        dataInStream.readInt(); // skip compilation unit name
+        skipPosition(dataInStream);
+        Name funcName = Names.fromString(getStringCPEntryValue(dataInStream));
+        dataInStream.readInt(); // skip original name
+        dataInStream.readInt(); // skip worker name
+        dataInStream.readLong(); // skip flags
+        dataInStream.readByte(); // skip origin
+        dataInStream.readInt(); // skip function type
+        dataInStream.readBoolean(); // module level functions cannot be resource functions
+
+        dataInStream.skip(dataInStream.readLong()); // skip annotation attachments
+        dataInStream.skip(dataInStream.readLong()); // skip return type annotation attachments
+
+        int requiredParamCount = dataInStream.readInt();
+        for (int i = 0; i < requiredParamCount; i++) {
+            dataInStream.readInt(); // skip param name
+            dataInStream.readLong(); // skip param flags
+            dataInStream.skip(dataInStream.readLong()); // skip param annotation attachments
+        }
+
+        if (dataInStream.readBoolean()) { // if rest param exist
+            dataInStream.readInt();
+            dataInStream.skip(dataInStream.readLong());
+        }
+
+        if (dataInStream.readBoolean()) { // if receiver exist
+            dataInStream.readByte();
+            dataInStream.readInt();
+            dataInStream.readInt();
+        }
+
+        dataInStream.skip(dataInStream.readInt()); // skip markdown documentation
+
+        int globalVarDependencyCount = dataInStream.readInt();
+        for (int i = 0; i < globalVarDependencyCount; i++) {
+            dataInStream.readInt();
+        }
+
+        dataInStream.skip(dataInStream.readLong()); // read and skip scope table info
+
+        dataInStream.skip(dataInStream.readLong()); // read and skip method body
+
+        this.env.unresolvedFunctions.computeIfAbsent(funcName, k -> new ArrayList<>(1)).add(offset);
+        this.env.declaredNames.add(funcName);
+        this.env.hasUnresolvedFunctions = true;
+    }
+
+    /**
+     * Defines the symbols of indexed module level functions of the given package.
+     *
+     * @param pkgEnv  Symbol enter environment of the package the functions belong to
+     * @param offsets Offsets of the functions in the BIR of the package
+     */
+    private synchronized void defineLazyFunctions(BIRPackageSymbolEnv pkgEnv, List<Integer> offsets) {
+        BIRPackageSymbolEnv prevEnv = this.env;
+        BStructureTypeSymbol prevStructure = this.currentStructure;
+        this.env = pkgEnv;
+        this.currentStructure = null;
+        try {
+            for (int offset : offsets) {
+                defineFunction(new DataInputStream(new ByteBufferInputStream(pkgEnv.content.duplicate()
+                        .position(offset))));
+            }
+        } catch (Throwable e) {
+            throw new BLangCompilerException("failed to load a function of the module '" +
+                    pkgEnv.pkgSymbol.pkgID + "' from its BIR" +
+                    (e.getMessage() != null ? (" due to: " + e.getMessage()) : ""), e);
+        } finally {
+            this.env = prevEnv;
+            this.currentStructure = prevStructure;
+        }
+    }
+
     private void defineFunction(DataInputStream dataInStream) throws IOException {
         Location pos = readPosition(dataInStream);
 
@@ -524,7 +630,7 @@ public class BIRPackageSymbolEnter {
         long length = dataInStream.readInt();
         for (int i = 0; i < length; i++) {
             String globalVarName = getStringCPEntryValue(dataInStream.readInt());
-            invokableSymbol.dependentGlobalVars.add(this.globalVarMap.get(globalVarName));
+            invokableSymbol.dependentGlobalVars.add(this.env.globalVarMap.get(globalVarName));
         }
     }
 
@@ -670,8 +776,8 @@ public class BIRPackageSymbolEnter {
             }
         }
         if (type == null) {
-            byte[] e = env.unparsedBTypeCPs.get(typeCpIndex);
-            type = new BIRTypeReader(new DataInputStream(new ByteArrayInputStream(e))).readType(typeCpIndex);
+            ByteBuffer e = env.unparsedBTypeCPs.get(typeCpIndex);
+            type = new BIRTypeReader(new DataInputStream(new ByteBufferInputStream(e))).readType(typeCpIndex);
             addShapeCP(type, typeCpIndex);
         }
         return type;
@@ -900,7 +1006,7 @@ public class BIRPackageSymbolEnter {
         }
         varSymbol.pos = pos;
 
-        this.globalVarMap.put(varName, varSymbol);
+        this.env.globalVarMap.put(varName, varSymbol);
 
         defineMarkDownDocAttachment(varSymbol, docBytes);
         defineAnnotAttachmentSymbols(dataInStream, varSymbol);
@@ -1112,7 +1218,12 @@ public class BIRPackageSymbolEnter {
      */
     private static class BIRPackageSymbolEnv {
         PackageID requestedPackageId;
-        Map<Integer, byte[]> unparsedBTypeCPs = new HashMap<>();
+        ByteBuffer content;
+        Map<Integer, ByteBuffer> unparsedBTypeCPs = new HashMap<>();
+        Map<String, BVarSymbol> globalVarMap = new HashMap<>();
+        Map<Name, List<Integer>> unresolvedFunctions = new LinkedHashMap<>();
+        Set<Name> declaredNames = new LinkedHashSet<>();
+        volatile boolean hasUnresolvedFunctions;
         BPackageSymbol pkgSymbol;
         CPEntry[] constantPool;
         List<UnresolvedType> unresolvedTypes;
@@ -1122,6 +1233,152 @@ public class BIRPackageSymbolEnter {
         }
     }
 
+    /**
+     * Scope entry map of a package loaded from BIR. Module level functions are only indexed when the package is
+     * loaded and their symbols get defined the first time they are looked up. Any operation that needs a view of all
+     * the entries defines the remaining functions first, so iterating the scope behaves the same as before. Once all
+     * the functions are defined, the entries are reordered in the order they are declared in the BIR, irrespective of
+     * the order in which the functions were looked up.
+     *
+     * @since 2201.11.0
+     */
+    private class LazyFunctionEntryMap extends LinkedHashMap<Name, Scope.ScopeEntry> {
+
+        private final transient BIRPackageSymbolEnv pkgEnv;
+        private int resolveDepth = 0;
+
+        LazyFunctionEntryMap(BIRPackageSymbolEnv pkgEnv) {
+            this.pkgEnv = pkgEnv;
+        }
+
+        @Override
+        public Scope.ScopeEntry get(Object key) {
+            resolve(key);
+            return super.get(key);
+        }
+
+        @Override
+        public Scope.ScopeEntry getOrDefault(Object key, Scope.ScopeEntry defaultValue) {
+            resolve(key);
+            return super.getOrDefault(key, defaultValue);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            resolve(key);
+            return super.containsKey(key);
+        }
+
+        @Override
+        public Scope.ScopeEntry put(Name key, Scope.ScopeEntry value) {
+            resolve(key);
+            pkgEnv.declaredNames.add(key);
+            return super.put(key, value);
+        }
+
+        @Override
+        public Scope.ScopeEntry remove(Object key) {
+            resolve(key);
+            return super.remove(key);
+        }
+
+        @Override
+        public boolean containsValue(Object value) {
+            resolveAll();
+            return super.containsValue(value);
+        }
+
+        @Override
+        public int size() {
+            resolveAll();
+            return super.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            resolveAll();
+            return super.isEmpty();
+        }
+
+        @Override
+        public Set<Name> keySet() {
+            resolveAll();
+            return super.keySet();
+        }
+
+        @Override
+        public Collection<Scope.ScopeEntry> values() {
+            resolveAll();
+            return super.values();
+        }
+
+        @Override
+        public Set<Map.Entry<Name, Scope.ScopeEntry>> entrySet() {
+            resolveAll();
+            return super.entrySet();
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super Name, ? super Scope.ScopeEntry> action) {
+            resolveAll();
+            super.forEach(action);
+        }
+
+        private void resolve(Object key) {
+            if (!pkgEnv.hasUnresolvedFunctions) {
+                return;
+            }
+            synchronized (BIRPackageSymbolEnter.this) {
+                List<Integer> offsets = pkgEnv.unresolvedFunctions.remove(key);
+                if (offsets == null) {
+                    return;
+                }
+                resolveDepth++;
+                try {
+                    defineLazyFunctions(pkgEnv, offsets);
+                } finally {
+                    resolveDepth--;
+                }
+                if (resolveDepth == 0 && pkgEnv.unresolvedFunctions.isEmpty()) {
+                    restoreDeclarationOrder();
+                    pkgEnv.hasUnresolvedFunctions = false;
+                }
+            }
+        }
+
+        private void resolveAll() {
+            if (!pkgEnv.hasUnresolvedFunctions) {
+                return;
+            }
+            synchronized (BIRPackageSymbolEnter.this) {
+                while (!pkgEnv.unresolvedFunctions.isEmpty()) {
+                    resolve(pkgEnv.unresolvedFunctions.keySet().iterator().next());
+                }
+            }
+        }
+
+        /**
+         * Reorders the entries in the order their names are declared, since the functions which were looked up
+         * before the rest of the entries are defined get added to the end of the map.
+         */
+        private void restoreDeclarationOrder() {
+            Map<Name, Scope.ScopeEntry> entries = new LinkedHashMap<>(super.size());
+            for (Map.Entry<Name, Scope.ScopeEntry> entry : super.entrySet()) {
+                entries.put(entry.getKey(), entry.getValue());
+            }
+            super.clear();
+            for (Name name : pkgEnv.declaredNames) {
+                Scope.ScopeEntry entry = entries.remove(name);
+                if (entry != null) {
+                    super.put(name, entry);
+                }
+            }
+            for (Map.Entry<Name, Scope.ScopeEntry> entry : entries.entrySet()) {
+                super.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
     private static class UnresolvedType {
         String typeSig;
         Consumer<BType> completer;
@@ -156,6 +156,7 @@ public final class JvmConstants {
     public static final String TYPEDESC_TYPE_IMPL = "io/ballerina/runtime/internal/types/BTypedescType";
     public static final String PARAMETERIZED_TYPE_IMPL = "io/ballerina/runtime/internal/types/BParameterizedType";
     public static final String FIELD_IMPL = "io/ballerina/runtime/internal/types/BField";
+    public static final String FIELDS_POPULATOR = "io/ballerina/runtime/internal/types/FieldsPopulator";
     public static final String METHOD_TYPE_IMPL = "io/ballerina/runtime/internal/types/BMethodType";
     public static final String RESOURCE_METHOD_TYPE_IMPL = "io/ballerina/runtime/internal/types/BResourceMethodType";
     public static final String REMOTE_METHOD_TYPE_IMPL = "io/ballerina/runtime/internal/types/BRemoteMethodType";
@@ -380,6 +381,8 @@ public final class JvmConstants {
     public static final String LAMBDA_PREFIX = "$lambda$";
     public static final String SPLIT_CLASS_SUFFIX = "$split$";
     public static final String POPULATE_METHOD_PREFIX = "$populate";
+    public static final String POPULATE_FIELDS_METHOD = "populateFields";
+    public static final String FIELDS_POPULATOR_VAR_NAME = "$fieldsPopulator";
     public static final String ADD_METHOD = "add";
     public static final String TEST_EXECUTION_STATE = "__gH7W16nQmp0TestExecState__";
     public static final String GET_TEST_EXECUTION_STATE = "$getTestExecutionState";
@@ -46,6 +46,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ERROR_COD
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ERROR_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ERROR_TYPE_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ERROR_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FIELDS_POPULATOR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FLOAT_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION_PARAMETER;
@@ -225,6 +226,7 @@ public final class JvmSignatures {
     public static final String GET_BSTRING_FOR_ARRAY_INDEX = "(J)L" + JvmConstants.B_STRING_VALUE + ";";
     public static final String GET_ERROR_TYPE = "L" + ERROR_TYPE + ";";
     public static final String GET_ERROR_VALUE = "L" + ERROR_VALUE + ";";
+    public static final String GET_FIELDS_POPULATOR = "L" + FIELDS_POPULATOR + ";";
     public static final String GET_FUNCTION = "()L" + FUNCTION + ";";
     public static final String GET_FUNCTION_POINTER = "L" + FUNCTION_POINTER + ";";
     public static final String GET_FUTURE_VALUE = "L" + FUTURE_VALUE + ";";
@@ -264,8 +266,8 @@ public final class JvmSignatures {
     public static final String GET_ERROR_TYPE_IMPL = "L" + ERROR_TYPE_IMPL + ";";
     public static final String GET_TYPE_REF_TYPE_IMPL = "L" + TYPE_REF_TYPE_IMPL + ";";
     public static final String GET_WD_CHANNELS = "L" + WD_CHANNELS + ";";
-    public static final String GET_WORKER_DATA_CHANNEL = "(L" + STRING_VALUE + ";)L" + WORKER_DATA_CHANNEL + ";";
-    public static final String REMOVE_WORKER_DATA_CHANNEL = "(L" + STRAND_CLASS + ";L" + STRING_VALUE + ";)V";
+    public static final String GET_WORKER_DATA_CHANNEL = "(IIL" + STRING_VALUE + ";)L" + WORKER_DATA_CHANNEL + ";";
+    public static final String REMOVE_WORKER_DATA_CHANNEL = "(L" + STRAND_CLASS + ";IIL" + STRING_VALUE + ";)V";
     public static final String GET_XML = "L" + XML_VALUE + ";";
     public static final String HANDLE_CHANNEL_ERROR = "([L" + CHANNEL_DETAILS + ";L" + ERROR_VALUE + ";)V";
     public static final String HANDLE_ERROR_RETURN = "(L" + OBJECT + ";)V";
@@ -397,6 +399,7 @@ public final class JvmSignatures {
     public static final String PASS_OBJECT_RETURN_SAME_TYPE = "(L" + OBJECT + ";)TV;";
     public static final String POPULATE_ATTACHED_FUNCTION = "([L" + METHOD_TYPE_IMPL + ";)V";
     public static final String POPULATE_CONFIG_DATA = "()[L" + VARIABLE_KEY + ";";
+    public static final String POPULATE_FIELDS = "(IL" + LINKED_HASH_MAP + ";)V";
     public static final String POPULATE_INITIAL_VALUES = "([L" + B_MAPPING_INITIAL_VALUE_ENTRY + ";)V";
     public static final String PROCESS_ANNOTATIONS = "(L" + MAP_VALUE + ";L" + TYPE + ";)V";
     public static final String PROCESS_FP_ANNOTATIONS =
@@ -442,6 +445,7 @@ public final class JvmSignatures {
     public static final String SEND_DATA = "(L" + OBJECT + ";L" + STRAND_CLASS + ";)V";
     public static final String SET_ARRAY_ELEMENT = "(L" + TYPE + ";IZ)V";
     public static final String SET_DECIMAL_RETURN_DECIMAL = "(L" + DECIMAL_VALUE + ";)L" + DECIMAL_VALUE + ";";
+    public static final String SET_FIELDS_POPULATOR = "(L" + FIELDS_POPULATOR + ";I)V";
     public static final String SET_IMMUTABLE_TYPE = "(L" + INTERSECTION_TYPE + ";)V";
     public static final String SET_LINKED_HASH_MAP = "(L" + LINKED_HASH_MAP + ";)V";
     public static final String SET_MAP = "(L" + MAP + ";)V";
@@ -1145,11 +1145,7 @@ public class JvmTerminatorGen {
             this.mv.visitFieldInsn(GETFIELD, STRAND_CLASS, "parent", GET_STRAND);
         }
         this.mv.visitFieldInsn(GETFIELD, STRAND_CLASS, "wdChannels", GET_WD_CHANNELS);
-        this.mv.visitVarInsn(ILOAD, invocationVarIndex);
-        this.mv.visitInvokeDynamicInsn(MAKE_CONCAT_WITH_CONSTANTS, INT_TO_STRING,
-                new Handle(H_INVOKESTATIC, STRING_CONCAT_FACTORY, MAKE_CONCAT_WITH_CONSTANTS,
-                        HANDLE_DESCRIPTOR_FOR_STRING_CONCAT, false),
-                ins.channel.value + START_OF_HEADING_WITH_SEMICOLON);
+        loadWorkerChannel(ins.channel.value, invocationVarIndex);
         this.mv.visitMethodInsn(INVOKEVIRTUAL, WD_CHANNELS, "getWorkerDataChannel", GET_WORKER_DATA_CHANNEL, false);
         this.loadVar(ins.data.variableDcl);
         jvmCastGen.addBoxInsn(this.mv, ins.data.variableDcl.type);
@@ -1247,11 +1243,7 @@ public class JvmTerminatorGen {
             this.mv.visitFieldInsn(GETFIELD, STRAND_CLASS, "parent", GET_STRAND);
         }
         this.mv.visitFieldInsn(GETFIELD, STRAND_CLASS, "wdChannels", GET_WD_CHANNELS);
-        this.mv.visitVarInsn(ILOAD, invocationVarIndex);
-        this.mv.visitInvokeDynamicInsn(MAKE_CONCAT_WITH_CONSTANTS, INT_TO_STRING,
-                new Handle(H_INVOKESTATIC, STRING_CONCAT_FACTORY, MAKE_CONCAT_WITH_CONSTANTS,
-                        HANDLE_DESCRIPTOR_FOR_STRING_CONCAT, false),
-                ins.workerName.value + START_OF_HEADING_WITH_SEMICOLON);
+        loadWorkerChannel(ins.workerName.value, invocationVarIndex);
         this.mv.visitMethodInsn(INVOKEVIRTUAL, WD_CHANNELS, "getWorkerDataChannel", GET_WORKER_DATA_CHANNEL, false);
 
         this.mv.visitVarInsn(ALOAD, localVarOffset);
@@ -1259,6 +1251,13 @@ public class JvmTerminatorGen {
         generateReceiveResultStore(ins.lhsOp);
     }
 
+    private void loadWorkerChannel(String channelName, int invocationVarIndex) {
+        // The channel is looked up by the invocation and the slot of its name, the name is used to create it
+        this.mv.visitVarInsn(ILOAD, invocationVarIndex);
+        this.mv.visitLdcInsn(asyncDataCollector.getWorkerChannelSlot(channelName));
+        this.mv.visitLdcInsn(channelName);
+    }
+
     private void generateReceiveResultStore(BIROperand ins) {
         BIRNode.BIRVariableDcl tempVar = new BIRNode.BIRVariableDcl(symbolTable.anyType, new Name("wrkMsg"),
                 VarScope.FUNCTION, VarKind.ARG);
@@ -1397,11 +1396,7 @@ public class JvmTerminatorGen {
                     }
                     this.mv.visitFieldInsn(GETFIELD, STRAND_CLASS, "wdChannels", GET_WD_CHANNELS);
                     this.mv.visitVarInsn(ALOAD, localVarOffset);
-                    this.mv.visitVarInsn(ILOAD, invocationVarIndex);
-                    this.mv.visitInvokeDynamicInsn(MAKE_CONCAT_WITH_CONSTANTS, INT_TO_STRING,
-                            new Handle(H_INVOKESTATIC, STRING_CONCAT_FACTORY, MAKE_CONCAT_WITH_CONSTANTS,
-                                    HANDLE_DESCRIPTOR_FOR_STRING_CONCAT, false), channel.name
-                                     + START_OF_HEADING_WITH_SEMICOLON);
+                    loadWorkerChannel(channel.name, invocationVarIndex);
                     this.mv.visitMethodInsn(INVOKEVIRTUAL, WD_CHANNELS, "removeCompletedChannels",
                             REMOVE_WORKER_DATA_CHANNEL, false);
                 }
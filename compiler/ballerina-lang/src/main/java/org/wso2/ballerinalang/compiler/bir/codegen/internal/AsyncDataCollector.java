@@ -39,6 +39,7 @@ public class AsyncDataCollector {
 
     private final Map<String, LambdaClass> lambdas;
     private final Map<String, ScheduleFunctionInfo> strandMetaDataMap;
+    private final Map<String, Integer> workerChannelSlots;
     private final PackageID packageID;
     private String currentSourceFileWithoutExt = null;
     private String currentSourceFileName = null;
@@ -48,6 +49,7 @@ public class AsyncDataCollector {
     public AsyncDataCollector(BIRNode.BIRPackage module) {
         this.lambdas = new HashMap<>();
         this.strandMetaDataMap = new HashMap<>();
+        this.workerChannelSlots = new HashMap<>();
         this.packageID = module.packageID;
     }
 
@@ -91,4 +93,15 @@ public class AsyncDataCollector {
     public Map<String, ScheduleFunctionInfo> getStrandMetadata() {
         return strandMetaDataMap;
     }
+
+    /**
+     * Returns the slot of the given worker channel name. The slots are assigned per module, hence the sending and the
+     * receiving workers of a channel, which are generated as separate functions, use the same slot.
+     *
+     * @param channelName worker channel name
+     * @return the slot used by the runtime to look up the channel
+     */
+    public int getWorkerChannelSlot(String channelName) {
+        return workerChannelSlots.computeIfAbsent(channelName, name -> workerChannelSlots.size());
+    }
 }
@@ -274,6 +274,10 @@ public class MainMethodGen {
         mv.visitVarInsn(ALOAD, configDetailsIndex);
         mv.visitFieldInsn(GETFIELD, CONFIG_DETAILS, "configContent", GET_STRING);
         mv.visitMethodInsn(INVOKESTATIC, configClass, CONFIGURE_INIT, INIT_CONFIG, false);
+        if (!packageID.isTestPkg) {
+            // types of all the modules are created at this point, which is where a CDS training run stops
+            mv.visitMethodInsn(INVOKESTATIC, LAUNCH_UTILS, "exitIfCdsTrainingRun", VOID_METHOD_DESC, false);
+        }
         String moduleInitClass = JvmCodeGenUtil.getModuleLevelClassName(packageID, MODULE_INIT_CLASS_NAME);
         mv.visitFieldInsn(GETSTATIC, moduleInitClass, CURRENT_MODULE_VAR_NAME, GET_MODULE);
         mv.visitVarInsn(ALOAD, 6);
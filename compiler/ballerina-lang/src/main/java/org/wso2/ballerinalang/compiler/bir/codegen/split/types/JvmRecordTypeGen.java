@@ -20,6 +20,8 @@ package org.wso2.ballerinalang.compiler.bir.codegen.split.types;
 import io.ballerina.identifier.Utils;
 import org.ballerinalang.model.elements.PackageID;
 import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
 import org.wso2.ballerinalang.compiler.bir.codegen.JarEntries;
@@ -34,36 +36,53 @@ import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
 import static org.objectweb.asm.Opcodes.ACONST_NULL;
+import static org.objectweb.asm.Opcodes.ALOAD;
 import static org.objectweb.asm.Opcodes.CHECKCAST;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.DUP_X1;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
+import static org.objectweb.asm.Opcodes.IDIV;
+import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
 import static org.objectweb.asm.Opcodes.NEW;
 import static org.objectweb.asm.Opcodes.PUTFIELD;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
+import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.SWAP;
 import static org.objectweb.asm.Opcodes.V17;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.getModuleLevelClassName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.toNameString;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FIELDS_POPULATOR;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FIELDS_POPULATOR_VAR_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_STATIC_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LINKED_HASH_MAP;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAX_TYPES_PER_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_RECORD_TYPES_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.POPULATE_FIELDS_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.RECORD_TYPE_IMPL;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_FIELDS_POPULATOR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_MODULE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_TYPEDESC;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.POPULATE_FIELDS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.RECORD_TYPE_IMPL_INIT;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.SET_FIELDS_POPULATOR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.SET_LINKED_HASH_MAP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.SET_MAP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.TYPE_DESC_CONSTRUCTOR;
@@ -82,6 +101,8 @@ public class JvmRecordTypeGen {
     private final JvmCreateTypeGen jvmCreateTypeGen;
     private final JvmTypeGen jvmTypeGen;
     private final  JvmConstantsGen jvmConstantsGen;
+    // Names of the methods that add the fields of the record types, in the order of the record type indexes
+    private final List<String> addFieldsMethods = new ArrayList<>();
 
     public JvmRecordTypeGen(JvmCreateTypeGen jvmCreateTypeGen, JvmTypeGen jvmTypeGen, JvmConstantsGen jvmConstantsGen
             , PackageID packageID) {
@@ -90,10 +111,12 @@ public class JvmRecordTypeGen {
         this.jvmTypeGen = jvmTypeGen;
         this.jvmConstantsGen = jvmConstantsGen;
         this.recordTypesCw = new BallerinaClassWriter(COMPUTE_FRAMES);
-        this.recordTypesCw.visit(V17, ACC_PUBLIC + ACC_SUPER, recordTypesClass, null, OBJECT, null);
+        this.recordTypesCw.visit(V17, ACC_PUBLIC + ACC_SUPER, recordTypesClass, null, OBJECT,
+                new String[]{FIELDS_POPULATOR});
     }
 
     public void visitEnd(JvmPackageGen jvmPackageGen, BIRNode.BIRPackage module, JarEntries jarEntries) {
+        generateFieldsPopulator();
         recordTypesCw.visitEnd();
         jarEntries.put(recordTypesClass + CLASS_FILE_SUFFIX, jvmPackageGen.getBytes(recordTypesCw, module));
     }
@@ -109,22 +132,111 @@ public class JvmRecordTypeGen {
 
     /**
      * Add the field type information of a record type. The record type is assumed
-     * to be at the top of the stack.
+     * to be at the top of the stack. The fields are not created here, but when they are
+     * first accessed, through the fields populator of the module.
      *  @param mv     method visitor
      * @param fields record fields to be added
      */
     private void addRecordFields(MethodVisitor mv, String methodName, Map<String, BField> fields) {
-        // Create the fields map
-        mv.visitTypeInsn(NEW, LINKED_HASH_MAP);
-        mv.visitInsn(DUP);
-        mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_MAP, JVM_INIT_METHOD, VOID_METHOD_DESC, false);
-        if (!fields.isEmpty()) {
+        if (fields.isEmpty()) {
+            // Set an empty fields map
+            mv.visitTypeInsn(NEW, LINKED_HASH_MAP);
             mv.visitInsn(DUP);
-            mv.visitMethodInsn(INVOKESTATIC, recordTypesClass, methodName + "$addField$", SET_LINKED_HASH_MAP, false);
-            jvmCreateTypeGen.splitAddFields(recordTypesCw, recordTypesClass, methodName, fields);
+            mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_MAP, JVM_INIT_METHOD, VOID_METHOD_DESC, false);
+            mv.visitMethodInsn(INVOKEVIRTUAL, RECORD_TYPE_IMPL, "setFields", SET_MAP, false);
+            return;
+        }
+        jvmCreateTypeGen.splitAddFields(recordTypesCw, recordTypesClass, methodName, fields);
+        mv.visitFieldInsn(GETSTATIC, recordTypesClass, FIELDS_POPULATOR_VAR_NAME, GET_FIELDS_POPULATOR);
+        mv.visitLdcInsn(addFieldsMethods.size());
+        addFieldsMethods.add(methodName + "$addField$");
+        mv.visitMethodInsn(INVOKEVIRTUAL, RECORD_TYPE_IMPL, "setFieldsPopulator", SET_FIELDS_POPULATOR, false);
+    }
+
+    /**
+     * Generate the fields populator of the module, which adds the fields of a record type given its index. An instance
+     * of the class is kept in a static field, and set to the record types of the module.
+     */
+    private void generateFieldsPopulator() {
+        FieldVisitor fv = recordTypesCw.visitField(ACC_PUBLIC + ACC_STATIC + ACC_FINAL, FIELDS_POPULATOR_VAR_NAME,
+                GET_FIELDS_POPULATOR, null, null);
+        fv.visitEnd();
+
+        MethodVisitor mv = recordTypesCw.visitMethod(ACC_STATIC, JVM_STATIC_INIT_METHOD, VOID_METHOD_DESC, null, null);
+        mv.visitCode();
+        mv.visitTypeInsn(NEW, recordTypesClass);
+        mv.visitInsn(DUP);
+        mv.visitMethodInsn(INVOKESPECIAL, recordTypesClass, JVM_INIT_METHOD, VOID_METHOD_DESC, false);
+        mv.visitFieldInsn(PUTSTATIC, recordTypesClass, FIELDS_POPULATOR_VAR_NAME, GET_FIELDS_POPULATOR);
+        mv.visitInsn(RETURN);
+        JvmCodeGenUtil.visitMaxStackForMethod(mv, JVM_STATIC_INIT_METHOD, recordTypesClass);
+        mv.visitEnd();
+
+        mv = recordTypesCw.visitMethod(ACC_PUBLIC, JVM_INIT_METHOD, VOID_METHOD_DESC, null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, OBJECT, JVM_INIT_METHOD, VOID_METHOD_DESC, false);
+        mv.visitInsn(RETURN);
+        JvmCodeGenUtil.visitMaxStackForMethod(mv, JVM_INIT_METHOD, recordTypesClass);
+        mv.visitEnd();
+
+        // Dispatch to the split method that handles the range of the given index
+        int splitCount = (addFieldsMethods.size() + MAX_TYPES_PER_METHOD - 1) / MAX_TYPES_PER_METHOD;
+        mv = recordTypesCw.visitMethod(ACC_PUBLIC, POPULATE_FIELDS_METHOD, POPULATE_FIELDS, null, null);
+        mv.visitCode();
+        if (splitCount > 0) {
+            Label defaultCaseLabel = new Label();
+            Label[] labels = new Label[splitCount];
+            for (int i = 0; i < splitCount; i++) {
+                labels[i] = new Label();
+            }
+            mv.visitVarInsn(ILOAD, 1);
+            mv.visitLdcInsn(MAX_TYPES_PER_METHOD);
+            mv.visitInsn(IDIV);
+            mv.visitTableSwitchInsn(0, splitCount - 1, defaultCaseLabel, labels);
+            for (int i = 0; i < splitCount; i++) {
+                mv.visitLabel(labels[i]);
+                mv.visitVarInsn(ILOAD, 1);
+                mv.visitVarInsn(ALOAD, 2);
+                mv.visitMethodInsn(INVOKESTATIC, recordTypesClass, POPULATE_FIELDS_METHOD + "$" + i, POPULATE_FIELDS,
+                        false);
+                mv.visitInsn(RETURN);
+            }
+            mv.visitLabel(defaultCaseLabel);
+        }
+        mv.visitInsn(RETURN);
+        JvmCodeGenUtil.visitMaxStackForMethod(mv, POPULATE_FIELDS_METHOD, recordTypesClass);
+        mv.visitEnd();
+
+        for (int i = 0; i < splitCount; i++) {
+            generatePopulateFieldsSplit(i);
+        }
+    }
+
+    private void generatePopulateFieldsSplit(int splitIndex) {
+        int start = splitIndex * MAX_TYPES_PER_METHOD;
+        int end = Math.min(start + MAX_TYPES_PER_METHOD, addFieldsMethods.size());
+        String methodName = POPULATE_FIELDS_METHOD + "$" + splitIndex;
+        MethodVisitor mv = recordTypesCw.visitMethod(ACC_PRIVATE + ACC_STATIC, methodName, POPULATE_FIELDS, null,
+                null);
+        mv.visitCode();
+        Label defaultCaseLabel = new Label();
+        Label[] labels = new Label[end - start];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = new Label();
+        }
+        mv.visitVarInsn(ILOAD, 0);
+        mv.visitTableSwitchInsn(start, end - 1, defaultCaseLabel, labels);
+        for (int i = start; i < end; i++) {
+            mv.visitLabel(labels[i - start]);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitMethodInsn(INVOKESTATIC, recordTypesClass, addFieldsMethods.get(i), SET_LINKED_HASH_MAP, false);
+            mv.visitInsn(RETURN);
         }
-        // Set the fields of the record
-        mv.visitMethodInsn(INVOKEVIRTUAL, RECORD_TYPE_IMPL, "setFields", SET_MAP, false);
+        mv.visitLabel(defaultCaseLabel);
+        mv.visitInsn(RETURN);
+        JvmCodeGenUtil.visitMaxStackForMethod(mv, methodName, recordTypesClass);
+        mv.visitEnd();
     }
 
     /**
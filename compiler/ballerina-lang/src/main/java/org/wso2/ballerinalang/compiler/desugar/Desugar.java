@@ -1432,6 +1432,7 @@ public class Desugar extends BLangNodeVisitor {
         if (Symbols.isFlagOn(varNode.symbol.flags, Flags.DEFAULTABLE_PARAM)) {
             bLangExpression = varNode.expr;
         } else {
+            markParallelProcessing(varNode);
             bLangExpression = rewriteExpr(varNode.expr);
             if (bLangExpression != null) {
                 bLangExpression = types.addConversionExprIfRequired(bLangExpression, varNode.getBType());
@@ -1445,6 +1446,54 @@ public class Desugar extends BLangNodeVisitor {
         result = varNode;
     }
 
+    private void markParallelProcessing(BLangSimpleVariable varNode) {
+        // The query expression which initializes a variable annotated with `@query:parallel` is processed in parallel
+        // partitions, if the query desugar finds that the members can be processed in parallel. The lang.array `map`
+        // or `filter` call which initializes a variable annotated with `@array:parallel` is redirected to the
+        // lang.array function which processes the members of an immutable array in parallel partitions.
+        BLangExpression expr = varNode.expr;
+        if (expr == null) {
+            return;
+        }
+        if (expr.getKind() == NodeKind.QUERY_EXPR) {
+            if (hasParallelAnnotation(varNode, symTable.langQueryModuleSymbol)) {
+                ((BLangQueryExpr) expr).isParallel = true;
+            }
+            return;
+        }
+        if (expr.getKind() != NodeKind.INVOCATION || !((BLangInvocation) expr).langLibInvocation ||
+                !hasParallelAnnotation(varNode, symTable.langArrayModuleSymbol)) {
+            return;
+        }
+        BLangInvocation invocation = (BLangInvocation) expr;
+        if (!invocation.symbol.pkgID.equals(symTable.langArrayModuleSymbol.pkgID)) {
+            return;
+        }
+        String parallelFunctionName = switch (invocation.symbol.name.value) {
+            case "map" -> "parallelMap";
+            case "filter" -> "parallelFilter";
+            default -> null;
+        };
+        if (parallelFunctionName != null) {
+            invocation.symbol = symTable.langArrayModuleSymbol.scope.lookup(Names.fromString(parallelFunctionName))
+                    .symbol;
+        }
+    }
+
+    private boolean hasParallelAnnotation(BLangSimpleVariable varNode, BPackageSymbol langLibModuleSymbol) {
+        if (langLibModuleSymbol == null) {
+            return false;
+        }
+        for (BLangAnnotationAttachment annAttachment : varNode.annAttachments) {
+            if (annAttachment.annotationSymbol != null &&
+                    annAttachment.annotationSymbol.pkgID.equals(langLibModuleSymbol.pkgID) &&
+                    annAttachment.annotationSymbol.name.equals(Names.ANNOTATION_PARALLEL)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public void visit(BLangLetExpression letExpression) {
         SymbolEnv prevEnv = this.env;
@@ -8833,7 +8882,11 @@ public class Desugar extends BLangNodeVisitor {
         boolean prevDesugarToReturn = this.desugarToReturn;
         this.isVisitingQuery = true;
         this.desugarToReturn = true;
-        BLangStatementExpression stmtExpr = queryDesugar.desugar(queryExpr, env, getVisibleXMLNSStmts(env));
+        // Queries nested within the lambdas of an enclosing query pipeline are always desugared to a pipeline, as
+        // their variable references are already rewritten to access the frame of the enclosing query.
+        BLangStatementExpression stmtExpr = !prevIsVisitingQuery && queryDesugar.canDesugarToLoop(queryExpr, env) ?
+                queryDesugar.desugarToLoop(queryExpr, env) :
+                queryDesugar.desugar(queryExpr, env, getVisibleXMLNSStmts(env));
         result = rewrite(stmtExpr, env);
         this.isVisitingQuery = prevIsVisitingQuery;
         this.desugarToReturn = prevDesugarToReturn;
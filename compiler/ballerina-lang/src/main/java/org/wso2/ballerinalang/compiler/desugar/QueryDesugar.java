@@ -33,6 +33,7 @@ import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolEnv;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BOperatorSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BVarSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
@@ -45,6 +46,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BSequenceType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStreamType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStructureType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BTableType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BTupleMember;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BTupleType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
@@ -59,12 +61,14 @@ import org.wso2.ballerinalang.compiler.tree.BLangIdentifier;
 import org.wso2.ballerinalang.compiler.tree.BLangMarkdownReferenceDocumentation;
 import org.wso2.ballerinalang.compiler.tree.BLangNode;
 import org.wso2.ballerinalang.compiler.tree.BLangNodeVisitor;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.tree.BLangRecordVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangSimpleVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangTableKeySpecifier;
 import org.wso2.ballerinalang.compiler.tree.BLangTupleVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangXMLNS;
+import org.wso2.ballerinalang.compiler.tree.SimpleBLangNodeAnalyzer;
 import org.wso2.ballerinalang.compiler.tree.clauses.BLangCollectClause;
 import org.wso2.ballerinalang.compiler.tree.clauses.BLangDoClause;
 import org.wso2.ballerinalang.compiler.tree.clauses.BLangFromClause;
@@ -199,6 +203,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.UNDERSCORE;
 import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
@@ -223,6 +228,9 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_CREATE_ON_CONFLICT_FUNCTION = new Name("createOnConflictFunction");
     private static final Name QUERY_CREATE_DO_FUNCTION = new Name("createDoFunction");
     private static final Name QUERY_CREATE_LIMIT_FUNCTION = new Name("createLimitFunction");
+    private static final Name QUERY_ADD_PARALLEL_FUNCTION = new Name("addParallelFunction");
+    private static final Name QUERY_PROCESS_LIST_IN_PARTITIONS_FUNCTION = new Name("processListInPartitions");
+    private static final Name QUERY_GET_TABLE_MEMBERS_BY_KEY_FUNCTION = new Name("getTableMembersByKey");
     private static final Name QUERY_ADD_STREAM_FUNCTION = new Name("addStreamFunction");
     private static final Name QUERY_CONSUME_STREAM_FUNCTION = new Name("consumeStream");
     private static final Name QUERY_TO_ARRAY_FUNCTION = new Name("toArray");
@@ -294,8 +302,9 @@ public class QueryDesugar extends BLangNodeVisitor {
         List<BLangNode> clauses = queryExpr.getQueryClauses();
         Location pos = clauses.get(0).pos;
         BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
+        boolean processInParallel = canProcessInParallel(queryExpr, env);
         BLangVariableReference streamRef = buildStream(clauses, queryExpr.getBType(), env,
-                queryBlock, stmtsToBePropagated);
+                queryBlock, stmtsToBePropagated, processInParallel);
         BLangExpression result = streamRef;
         BLangLiteral isReadonly = ASTBuilderUtil.createLiteral(pos, symTable.booleanType,
                 Symbols.isFlagOn(queryExpr.getBType().flags, Flags.READONLY));
@@ -354,6 +363,313 @@ public class QueryDesugar extends BLangNodeVisitor {
         return streamStmtExpr;
     }
 
+    /**
+     * Check whether the query expression can be desugared into a single loop, without a stream pipeline. This is
+     * possible for a query expression that constructs a list from a list, using only where, let and select clauses,
+     * if none of the clauses needs the pipeline to complete early on an error or to capture the query variables.
+     *
+     * @param queryExpr query expression to be desugared.
+     * @param env       symbol env.
+     * @return true if the query expression can be desugared into a loop.
+     */
+    boolean canDesugarToLoop(BLangQueryExpr queryExpr, SymbolEnv env) {
+        if (queryExpr.isStream || queryExpr.isTable || queryExpr.isMap ||
+                (env.scope.owner.tag & SymTag.INVOKABLE) != SymTag.INVOKABLE) {
+            return false;
+        }
+        BType resultType = queryExpr.getBType();
+        BType refType = Types.getImpliedType(resultType);
+        if (refType.tag != TypeTags.ARRAY || Symbols.isFlagOn(resultType.flags, Flags.READONLY) ||
+                Symbols.isFlagOn(refType.flags, Flags.READONLY)) {
+            return false;
+        }
+
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        if (Types.getImpliedType(fromClause.collection.getBType()).tag != TypeTags.ARRAY ||
+                clauses.get(clauses.size() - 1).getKind() != NodeKind.SELECT) {
+            return false;
+        }
+        PipelineDependencyFinder dependencyFinder = new PipelineDependencyFinder();
+        dependencyFinder.visitNode(fromClause.collection, null);
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            switch (clause.getKind()) {
+                case WHERE:
+                    dependencyFinder.visitNode(((BLangWhereClause) clause).expression, null);
+                    break;
+                case LET_CLAUSE:
+                    for (BLangLetVariable letVariable : ((BLangLetClause) clause).letVarDeclarations) {
+                        dependencyFinder.visitNode((BLangNode) letVariable.definitionNode, null);
+                    }
+                    break;
+                case SELECT:
+                    dependencyFinder.visitNode(((BLangSelectClause) clause).expression, null);
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return !dependencyFinder.dependsOnPipeline;
+    }
+
+    /**
+     * Check whether the members of the list or table the query expression iterates can be processed in parallel
+     * partitions. This is only done for a query expression which initializes a variable annotated with
+     * `@query:parallel`, and is possible if the query expression constructs a list from an immutable list or table,
+     * using only where, let and select clauses, if none of the clauses needs the pipeline and the clauses only refer
+     * to immutable values which cannot be reassigned and only call isolated functions.
+     *
+     * @param queryExpr query expression to be desugared.
+     * @param env       symbol env.
+     * @return true if the members can be processed in parallel.
+     */
+    private boolean canProcessInParallel(BLangQueryExpr queryExpr, SymbolEnv env) {
+        return analyzeParallelQuery(queryExpr, env) != null;
+    }
+
+    /**
+     * Analyze the clauses of the query expression to find whether the members can be processed in parallel.
+     *
+     * @param queryExpr query expression to be desugared.
+     * @param env       symbol env.
+     * @return the analyzer of the clauses if the members can be processed in parallel, or null otherwise.
+     */
+    private ParallelQueryAnalyzer analyzeParallelQuery(BLangQueryExpr queryExpr, SymbolEnv env) {
+        if (!queryExpr.isParallel || queryExpr.isStream || queryExpr.isTable || queryExpr.isMap ||
+                Types.getImpliedType(queryExpr.getBType()).tag != TypeTags.ARRAY) {
+            return null;
+        }
+
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        BType collectionType = fromClause.collection.getBType();
+        int collectionTag = Types.getImpliedType(collectionType).tag;
+        if ((collectionTag != TypeTags.ARRAY && collectionTag != TypeTags.TUPLE && collectionTag != TypeTags.TABLE) ||
+                !types.isSubTypeOfReadOnly(collectionType, env) ||
+                clauses.get(clauses.size() - 1).getKind() != NodeKind.SELECT) {
+            return null;
+        }
+        List<BLangNode> nodes = new ArrayList<>();
+        nodes.add((BLangNode) fromClause.variableDefinitionNode);
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            switch (clause.getKind()) {
+                case WHERE:
+                    nodes.add(((BLangWhereClause) clause).expression);
+                    break;
+                case LET_CLAUSE:
+                    for (BLangLetVariable letVariable : ((BLangLetClause) clause).letVarDeclarations) {
+                        nodes.add((BLangNode) letVariable.definitionNode);
+                    }
+                    break;
+                case SELECT:
+                    nodes.add(((BLangSelectClause) clause).expression);
+                    break;
+                default:
+                    return null;
+            }
+        }
+        PipelineDependencyFinder dependencyFinder = new PipelineDependencyFinder();
+        ParallelQueryAnalyzer parallelQueryAnalyzer = new ParallelQueryAnalyzer(types);
+        for (BLangNode node : nodes) {
+            dependencyFinder.visitNode(node, null);
+            parallelQueryAnalyzer.visitNode(node, null);
+        }
+        return !dependencyFinder.dependsOnPipeline && parallelQueryAnalyzer.canProcessInParallel() ?
+                parallelQueryAnalyzer : null;
+    }
+
+    /**
+     * Desugar query expression into a loop over the list it iterates.
+     * int[] $result$ = [];
+     * T[] $data$ = collection;
+     * int $index$ = 0;
+     * int $length$ = $data$.length();
+     * while $index$ < $length$ {
+     *     T x = $data$[$index$];
+     *     $index$ = $index$ + 1;
+     *     if (whereCondition) {
+     *         int y = letExpr;
+     *         $result$.push(selectExpr);
+     *     }
+     * }
+     * <p>
+     * If the members can be processed in parallel, the loop is moved into a function which processes the members from
+     * a start index to an end index. Whether it is invoked once for all the members or concurrently for partitions of
+     * the members is decided at run time.
+     * T[] $data$ = collection;
+     * any $value$ = processListInPartitions($data$, function (T[] $data$, int $start$, int $end$) returns any {
+     *     int[] $result$ = [];
+     *     int $index$ = $start$;
+     *     int $length$ = $end$;
+     *     while $index$ < $length$ {
+     *         ...
+     *     }
+     *     return $result$;
+     * }, []);
+     *
+     * @param queryExpr query expression to be desugared, which satisfies canDesugarToLoop.
+     * @param env       symbol env.
+     * @return desugared query expression.
+     */
+    BLangStatementExpression desugarToLoop(BLangQueryExpr queryExpr, SymbolEnv env) {
+        this.env = env;
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        Location pos = fromClause.pos;
+        BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
+
+        BType resultType = queryExpr.getBType();
+        BArrayType arrayType = (BArrayType) Types.getImpliedType(resultType);
+        BType collectionType = fromClause.collection.getBType();
+        BVarSymbol dataSymbol = addLoopVariable(queryBlock, pos, collectionType, fromClause.collection,
+                env.scope.owner);
+
+        ParallelQueryAnalyzer parallelQueryAnalyzer = analyzeParallelQuery(queryExpr, env);
+        BLangExpression resultExpr;
+        if (parallelQueryAnalyzer == null) {
+            BLangInvocation lengthInvocation = desugar.createLangLibInvocationNode("length",
+                    ASTBuilderUtil.createVariableRef(pos, dataSymbol), new ArrayList<>(), symTable.intType, pos);
+            BVarSymbol resultSymbol = addQueryLoop(queryBlock, clauses, arrayType, dataSymbol,
+                    ASTBuilderUtil.createLiteral(pos, symTable.intType, 0L), lengthInvocation, env.scope.owner);
+            resultExpr = ASTBuilderUtil.createVariableRef(pos, resultSymbol);
+        } else {
+            // function (T[] $data$, int $start$, int $end$) returns any
+            List<BLangSimpleVariable> params = Lists.of(createParameter(pos, collectionType),
+                    createParameter(pos, symTable.intType), createParameter(pos, symTable.intType));
+            BLangBlockFunctionBody body = (BLangBlockFunctionBody) TreeBuilder.createBlockFunctionBodyNode();
+            BLangLambdaFunction lambda = desugar.createLambdaFunction(pos, "$queryPartitionLambda$", params,
+                    getAnyTypeNode(), body);
+            lambda.capturedClosureEnv = env;
+            List<BLangSimpleVariable> requiredParams = lambda.function.requiredParams;
+            BLangBlockStmt loopBlock = ASTBuilderUtil.createBlockStmt(pos);
+            // The variables declared by the loop and the clauses are locals of the new function.
+            BVarSymbol resultSymbol = addQueryLoop(loopBlock, clauses, arrayType, requiredParams.get(0).symbol,
+                    ASTBuilderUtil.createVariableRef(pos, requiredParams.get(1).symbol),
+                    ASTBuilderUtil.createVariableRef(pos, requiredParams.get(2).symbol), lambda.function.symbol);
+            body.addStatement(loopBlock);
+            body.addStatement(ASTBuilderUtil.createReturnStmt(pos, ASTBuilderUtil.createVariableRef(pos,
+                    resultSymbol)));
+            // The clauses are evaluated within the new function, so the variables they refer to are captured.
+            for (BVarSymbol capturedVariable : parallelQueryAnalyzer.getCapturedVariables()) {
+                capturedVariable.closure = true;
+            }
+
+            BLangArrayLiteral arr = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
+            arr.exprs = new ArrayList<>();
+            arr.setBType(arrayType);
+            resultExpr = getStreamFunctionVariableRef(queryBlock, QUERY_PROCESS_LIST_IN_PARTITIONS_FUNCTION,
+                    Lists.of(ASTBuilderUtil.createVariableRef(pos, dataSymbol), lambda, arr), pos);
+        }
+
+        BLangStatementExpression stmtExpr = ASTBuilderUtil.createStatementExpression(queryBlock,
+                addTypeConversionExpr(resultExpr, resultType));
+        stmtExpr.setBType(resultType);
+        return stmtExpr;
+    }
+
+    /**
+     * Add a loop which adds the results of the query for the members of the list from the start index, inclusive, to
+     * the end index, exclusive, to a new list.
+     *
+     * @param blockStmt  block to write to.
+     * @param clauses    clauses of the query expression.
+     * @param arrayType  type of the result.
+     * @param dataSymbol symbol of the list.
+     * @param startExpr  start index.
+     * @param endExpr    end index.
+     * @param owner      symbol of the function the loop is added to, which owns the variables of the loop.
+     * @return symbol of the new list.
+     */
+    private BVarSymbol addQueryLoop(BLangBlockStmt blockStmt, List<BLangNode> clauses, BArrayType arrayType,
+                                    BVarSymbol dataSymbol, BLangExpression startExpr, BLangExpression endExpr,
+                                    BSymbol owner) {
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        Location pos = fromClause.pos;
+        BLangArrayLiteral arr = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
+        arr.exprs = new ArrayList<>();
+        arr.setBType(arrayType);
+        BVarSymbol resultSymbol = addLoopVariable(blockStmt, pos, arrayType, arr, owner);
+        BVarSymbol indexSymbol = addLoopVariable(blockStmt, pos, symTable.intType, startExpr, owner);
+        BVarSymbol lengthSymbol = addLoopVariable(blockStmt, pos, symTable.intType, endExpr, owner);
+
+        // while $index$ < $length$ {
+        BLangBinaryExpr condition = ASTBuilderUtil.createBinaryExpr(pos,
+                ASTBuilderUtil.createVariableRef(pos, indexSymbol), ASTBuilderUtil.createVariableRef(pos, lengthSymbol),
+                symTable.booleanType, OperatorKind.LESS_THAN, (BOperatorSymbol) symResolver
+                        .resolveBinaryOperator(OperatorKind.LESS_THAN, symTable.intType, symTable.intType));
+        BLangBlockStmt loopBody = ASTBuilderUtil.createBlockStmt(pos);
+        blockStmt.addStatement(ASTBuilderUtil.createWhile(pos, condition, loopBody));
+
+        // T x = $data$[$index$];
+        BLangVariable variable = (BLangVariable) fromClause.variableDefinitionNode.getVariable();
+        setSymbolOwner(variable, owner);
+        BLangIndexBasedAccess memberAccessExpr = ASTBuilderUtil.createIndexBasesAccessExpr(pos,
+                ((BArrayType) Types.getImpliedType(dataSymbol.type)).eType, dataSymbol,
+                ASTBuilderUtil.createVariableRef(pos, indexSymbol));
+        variable.setInitialExpression(types.addConversionExprIfRequired(memberAccessExpr, fromClause.varType));
+        loopBody.addStatement((BLangStatement) fromClause.variableDefinitionNode);
+
+        // $index$ = $index$ + 1;
+        BLangBinaryExpr increment = ASTBuilderUtil.createBinaryExpr(pos,
+                ASTBuilderUtil.createVariableRef(pos, indexSymbol), ASTBuilderUtil.createLiteral(pos,
+                        symTable.intType, 1L), symTable.intType, OperatorKind.ADD, (BOperatorSymbol) symResolver
+                        .resolveBinaryOperator(OperatorKind.ADD, symTable.intType, symTable.intType));
+        loopBody.addStatement(ASTBuilderUtil.createAssignmentStmt(pos,
+                ASTBuilderUtil.createVariableRef(pos, indexSymbol), increment));
+
+        // Each where clause guards the clauses after it.
+        BLangBlockStmt clauseBlock = loopBody;
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            switch (clause.getKind()) {
+                case WHERE:
+                    BLangWhereClause whereClause = (BLangWhereClause) clause;
+                    BLangBlockStmt ifBody = ASTBuilderUtil.createBlockStmt(whereClause.pos);
+                    clauseBlock.addStatement(ASTBuilderUtil.createIfElseStmt(whereClause.pos,
+                            types.addConversionExprIfRequired(whereClause.expression, symTable.booleanType), ifBody,
+                            null));
+                    clauseBlock = ifBody;
+                    break;
+                case LET_CLAUSE:
+                    for (BLangLetVariable letVariable : ((BLangLetClause) clause).letVarDeclarations) {
+                        setSymbolOwner((BLangVariable) letVariable.definitionNode.getVariable(), owner);
+                        clauseBlock.addStatement((BLangStatement) letVariable.definitionNode);
+                    }
+                    break;
+                case SELECT:
+                    // $result$.push(selectExpr);
+                    BLangSelectClause selectClause = (BLangSelectClause) clause;
+                    BLangExpression valueExpr = types.addConversionExprIfRequired(selectClause.expression,
+                            arrayType.eType);
+                    BLangInvocation pushInvocation = desugar.createLangLibInvocationNode("push",
+                            ASTBuilderUtil.createVariableRef(selectClause.pos, resultSymbol), Lists.of(valueExpr),
+                            symTable.nilType, selectClause.pos);
+                    pushInvocation.restArgs.add(pushInvocation.requiredArgs.remove(1));
+                    BLangExpressionStmt pushStmt = ASTBuilderUtil.createExpressionStmt(selectClause.pos,
+                            clauseBlock);
+                    pushStmt.expr = pushInvocation;
+                    break;
+            }
+        }
+        return resultSymbol;
+    }
+
+    private BLangSimpleVariable createParameter(Location pos, BType type) {
+        String name = getNewVarName();
+        BVarSymbol varSymbol = new BVarSymbol(0, new Name(name), env.scope.owner.pkgID, type, env.scope.owner, pos,
+                VIRTUAL);
+        return ASTBuilderUtil.createVariable(pos, name, type, null, varSymbol);
+    }
+
+    private BVarSymbol addLoopVariable(BLangBlockStmt blockStmt, Location pos, BType type, BLangExpression expr,
+                                       BSymbol owner) {
+        String name = getNewVarName();
+        BVarSymbol varSymbol = new BVarSymbol(0, new Name(name), owner.pkgID, type, owner, pos, VIRTUAL);
+        BLangSimpleVariable variable = ASTBuilderUtil.createVariable(pos, name, type,
+                types.addConversionExprIfRequired(expr, type), varSymbol);
+        blockStmt.addStatement(ASTBuilderUtil.createVariableDef(pos, variable));
+        return varSymbol;
+    }
+
     private BMapType getMapType(BType type) {
         BMapType resultantType = (BMapType) Types.getImpliedType(types.getSafeType(type, false, true));
         return resultantType;
@@ -399,7 +715,8 @@ public class QueryDesugar extends BLangNodeVisitor {
             returnType = ((BInvokableType) invokableSymbol.type).retType;
         }
         BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
-        BLangVariableReference streamRef = buildStream(clauses, returnType, env, queryBlock, stmtsToBePropagated);
+        BLangVariableReference streamRef = buildStream(clauses, returnType, env, queryBlock, stmtsToBePropagated,
+                false);
         BLangVariableReference result = getStreamFunctionVariableRef(queryBlock,
                 QUERY_CONSUME_STREAM_FUNCTION, null, Lists.of(streamRef), pos);
         BLangStatementExpression stmtExpr;
@@ -494,14 +811,26 @@ public class QueryDesugar extends BLangNodeVisitor {
      * @param env symbol env.
      * @param block parent block to write to.
      * @param stmtsToBePropagated list of statements to be propagated.
+     * @param processInParallel whether the members can be processed in parallel, which satisfies canProcessInParallel.
      * @return variableReference to created _StreamPipeline.
      */
     BLangVariableReference buildStream(List<BLangNode> clauses, BType resultType, SymbolEnv env,
-                                       BLangBlockStmt block, List<BLangStatement> stmtsToBePropagated) {
+                                       BLangBlockStmt block, List<BLangStatement> stmtsToBePropagated,
+                                       boolean processInParallel) {
         this.env = env;
         BLangFromClause initFromClause = (BLangFromClause) clauses.get(0);
-        final BLangVariableReference initPipeline = addPipeline(block, initFromClause.pos,
-                initFromClause.collection, resultType);
+        BLangExpression initCollection = initFromClause.collection;
+        if (clauses.size() > 1 && clauses.get(1).getKind() == NodeKind.WHERE) {
+            BLangExpression keyExpr = getTableKeyExpr(initFromClause, ((BLangWhereClause) clauses.get(1)).expression);
+            if (keyExpr != null) {
+                // The where clause is retained, so the member found by the key is filtered as before.
+                initCollection = getStreamFunctionVariableRef(block, QUERY_GET_TABLE_MEMBERS_BY_KEY_FUNCTION,
+                        Lists.of(initCollection, types.addConversionExprIfRequired(keyExpr, symTable.anydataType)),
+                        initFromClause.pos);
+            }
+        }
+        final BLangVariableReference initPipeline = addPipeline(block, initFromClause.pos, initCollection,
+                resultType);
         BLangVariableReference initFrom = addInputFunction(block, initFromClause, stmtsToBePropagated);
         addStreamFunction(block, initPipeline, initFrom);
         for (BLangNode clause : clauses.subList(1, clauses.size())) {
@@ -541,7 +870,8 @@ public class QueryDesugar extends BLangNodeVisitor {
                     break;
                 case GROUP_BY:
                     BLangVariableReference groupByFunc = addGroupByFunction(block, (BLangGroupByClause) clause,
-                            stmtsToBePropagated, initPipeline);
+                            clauses.subList(clauses.indexOf(clause) + 1, clauses.size()), stmtsToBePropagated,
+                            initPipeline);
                     addStreamFunction(block, initPipeline, groupByFunc);
                     break;
                 case SELECT:
@@ -571,6 +901,12 @@ public class QueryDesugar extends BLangNodeVisitor {
                     break;
             }
         }
+        if (processInParallel) {
+            // The parallel function is added only if parallel processing is enabled at run time.
+            BLangExpressionStmt stmt = ASTBuilderUtil.createExpressionStmt(initFromClause.pos, block);
+            stmt.expr = createQueryLibInvocation(QUERY_ADD_PARALLEL_FUNCTION, Lists.of(initPipeline),
+                    initFromClause.pos);
+        }
         return addGetStreamFromPipeline(block, initPipeline);
     }
 
@@ -619,6 +955,94 @@ public class QueryDesugar extends BLangNodeVisitor {
                 Lists.of(valueVarRef, constraintTdExpr, completionTdExpr, desugar.getBooleanLiteral(isStream)), pos);
     }
 
+    /**
+     * Find the key to look up the members of a keyed table, when the query iterates the table with a where clause
+     * that compares the single key field of the member with a value that does not change during the iteration.
+     * E.g., for `from var r in tbl where r.id == k`, where `tbl` is a `table<R> key(id)`, returns `k`.
+     * <p>
+     * Only the leftmost operand of a chain of `&&` is considered, since the other operands are evaluated only for the
+     * members that match the key. E.g., in `f(r) && r.id == k`, `f(r)` may have side effects or fail for the members
+     * that do not match the key, so the members are not looked up by the key.
+     *
+     * @param fromClause from clause which iterates the table.
+     * @param condition  condition of the where clause following the from clause.
+     * @return new expression for the key, or null if the members cannot be looked up by the key.
+     */
+    private BLangExpression getTableKeyExpr(BLangFromClause fromClause, BLangExpression condition) {
+        BType collectionType = Types.getImpliedType(fromClause.collection.getBType());
+        VariableNode variable = fromClause.variableDefinitionNode.getVariable();
+        if (collectionType.tag != TypeTags.TABLE || ((BTableType) collectionType).fieldNameList.size() != 1 ||
+                variable.getKind() != NodeKind.VARIABLE || condition.getKind() != NodeKind.BINARY_EXPR) {
+            return null;
+        }
+        BLangBinaryExpr binaryExpr = (BLangBinaryExpr) condition;
+        if (binaryExpr.opKind == OperatorKind.AND) {
+            return getTableKeyExpr(fromClause, binaryExpr.lhsExpr);
+        }
+        if (binaryExpr.opKind != OperatorKind.EQUAL) {
+            return null;
+        }
+        String keyField = ((BTableType) collectionType).fieldNameList.get(0);
+        BVarSymbol varSymbol = ((BLangSimpleVariable) variable).symbol;
+        if (isKeyFieldAccess(binaryExpr.lhsExpr, varSymbol, keyField)) {
+            return createTableKeyExpr(binaryExpr.rhsExpr, binaryExpr.lhsExpr.getBType());
+        }
+        if (isKeyFieldAccess(binaryExpr.rhsExpr, varSymbol, keyField)) {
+            return createTableKeyExpr(binaryExpr.lhsExpr, binaryExpr.rhsExpr.getBType());
+        }
+        return null;
+    }
+
+    private boolean isKeyFieldAccess(BLangExpression expr, BVarSymbol varSymbol, String keyField) {
+        if (expr.getKind() != NodeKind.FIELD_BASED_ACCESS_EXPR) {
+            return false;
+        }
+        BLangFieldBasedAccess fieldAccessExpr = (BLangFieldBasedAccess) expr;
+        if (fieldAccessExpr.optionalFieldAccess || fieldAccessExpr.expr.getKind() != NodeKind.SIMPLE_VARIABLE_REF ||
+                !keyField.equals(fieldAccessExpr.field.value)) {
+            return false;
+        }
+        BSymbol symbol = ((BLangSimpleVarRef) fieldAccessExpr.expr).symbol;
+        return symbol == varSymbol ||
+                (symbol instanceof BVarSymbol bVarSymbol && bVarSymbol.originalSymbol == varSymbol);
+    }
+
+    private BLangExpression createTableKeyExpr(BLangExpression expr, BType keyFieldType) {
+        // Only the key types of which the equality and the key lookup always agree are considered.
+        BType exprType = expr.getBType();
+        if (!(types.isAssignable(keyFieldType, symTable.intType) && types.isAssignable(exprType, symTable.intType)) &&
+                !(types.isAssignable(keyFieldType, symTable.stringType) &&
+                        types.isAssignable(exprType, symTable.stringType)) &&
+                !(types.isAssignable(keyFieldType, symTable.booleanType) &&
+                        types.isAssignable(exprType, symTable.booleanType))) {
+            return null;
+        }
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+                return ASTBuilderUtil.createLiteral(expr.pos, exprType, ((BLangLiteral) expr).value);
+            case SIMPLE_VARIABLE_REF:
+                // The key is evaluated once, so it must not be a variable that can be assigned during the iteration.
+                BSymbol symbol = ((BLangSimpleVarRef) expr).symbol;
+                if (symbol == null) {
+                    return null;
+                }
+                BSymbol originalSymbol = symbol instanceof BVarSymbol bVarSymbol && bVarSymbol.originalSymbol != null ?
+                        bVarSymbol.originalSymbol : symbol;
+                if ((originalSymbol.tag & SymTag.CONSTANT) != SymTag.CONSTANT &&
+                        !Symbols.isFlagOn(originalSymbol.flags, Flags.FINAL) &&
+                        !Symbols.isFlagOn(originalSymbol.flags, Flags.REQUIRED_PARAM) &&
+                        !Symbols.isFlagOn(originalSymbol.flags, Flags.DEFAULTABLE_PARAM)) {
+                    return null;
+                }
+                BLangSimpleVarRef varRef = ASTBuilderUtil.createVariableRef(expr.pos, symbol);
+                varRef.setBType(exprType);
+                return varRef;
+            default:
+                return null;
+        }
+    }
+
     /**
      * Desugar inputClause to below and return a reference to created from _StreamFunction.
      * _StreamFunction xsFrom = createFromFunction(function(_Frame frame) returns _Frame|error? {
@@ -837,7 +1261,7 @@ public class QueryDesugar extends BLangNodeVisitor {
     }
 
     BLangVariableReference addGroupByFunction(BLangBlockStmt blockStmt, BLangGroupByClause groupByClause,
-                                              List<BLangStatement> stmtsToBePropagated,
+                                              List<BLangNode> nextClauses, List<BLangStatement> stmtsToBePropagated,
                                               BLangVariableReference initPipeline) {
         Location pos = groupByClause.pos;
         BLangArrayLiteral keys = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
@@ -858,8 +1282,13 @@ public class QueryDesugar extends BLangNodeVisitor {
         BLangArrayLiteral nonGroupingKeys = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
         nonGroupingKeys.exprs = new ArrayList<>();
         nonGroupingKeys.setBType(new BArrayType(symTable.stringType));
+        // The values of a non-grouping key are collected only if it is referred to by the clauses after group by.
+        IdentifierCollector identifierCollector = new IdentifierCollector();
+        identifierCollector.visitNode(nextClauses, null);
         for (String nonGroupingKey : groupByClause.nonGroupingKeys) {
-            nonGroupingKeys.exprs.add(createStringLiteral(pos, nonGroupingKey));
+            if (identifierCollector.identifiers.contains(nonGroupingKey)) {
+                nonGroupingKeys.exprs.add(createStringLiteral(pos, nonGroupingKey));
+            }
         }
         return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_GROUP_BY_FUNCTION,
                 Lists.of(keys, nonGroupingKeys), pos);
@@ -871,8 +1300,12 @@ public class QueryDesugar extends BLangNodeVisitor {
         BLangArrayLiteral nonGroupingKeys = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
         nonGroupingKeys.exprs = new ArrayList<>();
         nonGroupingKeys.setBType(new BArrayType(symTable.stringType));
+        IdentifierCollector identifierCollector = new IdentifierCollector();
+        identifierCollector.visitNode(collectClause.expression, null);
         for (String nonGroupingKey : collectClause.nonGroupingKeys) {
-            nonGroupingKeys.exprs.add(createStringLiteral(pos, nonGroupingKey));
+            if (identifierCollector.identifiers.contains(nonGroupingKey)) {
+                nonGroupingKeys.exprs.add(createStringLiteral(pos, nonGroupingKey));
+            }
         }
 
         BLangLambdaFunction lambda = createPassthroughLambda(pos);
@@ -2814,4 +3247,168 @@ public class QueryDesugar extends BLangNodeVisitor {
         }
         return nodeList;
     }
+
+    /**
+     * Finds the expressions within query clauses which need the stream pipeline. Check expressions complete the
+     * pipeline early with the error, while nested queries, functions and object constructors capture the query
+     * variables from the frame.
+     */
+    private static class PipelineDependencyFinder extends SimpleBLangNodeAnalyzer<Object> {
+
+        private boolean dependsOnPipeline = false;
+
+        @Override
+        public void analyzeNode(BLangNode node, Object data) {
+            switch (node.getKind()) {
+                case CHECK_EXPR:
+                case QUERY_EXPR:
+                case DO_ACTION:
+                case LAMBDA:
+                case ARROW_EXPR:
+                case OBJECT_CTOR_EXPRESSION:
+                    dependsOnPipeline = true;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void visit(BLangPackage node, Object data) {
+        }
+    }
+
+    /**
+     * Checks whether the clauses of a query can be evaluated concurrently for different members. The clauses may only
+     * call isolated functions without a receiver object, and may only refer to the variables of the query, constants
+     * and variables which cannot be reassigned and hold immutable values.
+     */
+    private static class ParallelQueryAnalyzer extends SimpleBLangNodeAnalyzer<Object> {
+
+        private final Types types;
+        private final Set<BSymbol> definedSymbols = new HashSet<>();
+        private final Set<BSymbol> referredSymbols = new HashSet<>();
+        private boolean hasSharedState = false;
+
+        ParallelQueryAnalyzer(Types types) {
+            this.types = types;
+        }
+
+        @Override
+        public void analyzeNode(BLangNode node, Object data) {
+            switch (node.getKind()) {
+                case VARIABLE:
+                    BSymbol symbol = ((BLangSimpleVariable) node).symbol;
+                    if (symbol != null) {
+                        definedSymbols.add(getOriginalSymbol(symbol));
+                    }
+                    break;
+                case SIMPLE_VARIABLE_REF:
+                    BSymbol refSymbol = ((BLangSimpleVarRef) node).symbol;
+                    if (refSymbol == null) {
+                        hasSharedState = true;
+                    } else {
+                        referredSymbols.add(getOriginalSymbol(refSymbol));
+                    }
+                    break;
+                case INVOCATION:
+                    BLangInvocation invocation = (BLangInvocation) node;
+                    if (invocation.async || invocation.functionPointerInvocation ||
+                            invocation instanceof BLangInvocation.BLangActionInvocation ||
+                            invocation instanceof BLangInvocation.BLangResourceAccessInvocation ||
+                            (invocation.expr != null && !invocation.langLibInvocation) ||
+                            !(invocation.symbol instanceof BInvokableSymbol) ||
+                            !Symbols.isFlagOn(invocation.symbol.flags, Flags.ISOLATED)) {
+                        hasSharedState = true;
+                    }
+                    break;
+                case TYPE_INIT_EXPR:
+                case TRANSACTIONAL_EXPRESSION:
+                case WAIT_EXPR:
+                case WORKER_RECEIVE:
+                case ALTERNATE_WORKER_RECEIVE:
+                case MULTIPLE_WORKER_RECEIVE:
+                case WORKER_ASYNC_SEND:
+                case WORKER_SYNC_SEND:
+                case WORKER_FLUSH:
+                    hasSharedState = true;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        boolean canProcessInParallel() {
+            if (hasSharedState) {
+                return false;
+            }
+            for (BSymbol symbol : referredSymbols) {
+                if (definedSymbols.contains(symbol) || (symbol.tag & SymTag.TYPE) == SymTag.TYPE) {
+                    // Constants are also type symbols.
+                    continue;
+                }
+                if ((symbol.tag & SymTag.VARIABLE) != SymTag.VARIABLE ||
+                        !(Symbols.isFlagOn(symbol.flags, Flags.FINAL) ||
+                                Symbols.isFlagOn(symbol.flags, Flags.REQUIRED_PARAM) ||
+                                Symbols.isFlagOn(symbol.flags, Flags.DEFAULTABLE_PARAM)) ||
+                        !isImmutable(symbol.type)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Get the local variables the clauses refer to, which are captured if the clauses are evaluated in a separate
+         * function. These cannot be reassigned and hold immutable values, as checked by canProcessInParallel.
+         *
+         * @return captured variables.
+         */
+        List<BVarSymbol> getCapturedVariables() {
+            List<BVarSymbol> capturedVariables = new ArrayList<>();
+            for (BSymbol symbol : referredSymbols) {
+                if (!definedSymbols.contains(symbol) && (symbol.tag & SymTag.TYPE) != SymTag.TYPE &&
+                        symbol instanceof BVarSymbol varSymbol && symbol.owner.tag != SymTag.PACKAGE) {
+                    capturedVariables.add(varSymbol);
+                }
+            }
+            return capturedVariables;
+        }
+
+        private boolean isImmutable(BType type) {
+            return types.isInherentlyImmutableType(type) || Symbols.isFlagOn(type.flags, Flags.READONLY) ||
+                    Symbols.isFlagOn(Types.getImpliedType(type).flags, Flags.READONLY);
+        }
+
+        private static BSymbol getOriginalSymbol(BSymbol symbol) {
+            if (symbol instanceof BVarSymbol varSymbol && varSymbol.originalSymbol != null) {
+                return varSymbol.originalSymbol;
+            }
+            return symbol;
+        }
+
+        @Override
+        public void visit(BLangPackage node, Object data) {
+        }
+    }
+
+    /**
+     * Collects the names of all the identifiers within the given nodes. This is used to find the query variables which
+     * may be referred to, including the references which are already rewritten to access the frame.
+     */
+    private static class IdentifierCollector extends SimpleBLangNodeAnalyzer<Object> {
+
+        private final Set<String> identifiers = new HashSet<>();
+
+        @Override
+        public void analyzeNode(BLangNode node, Object data) {
+            if (node.getKind() == NodeKind.IDENTIFIER) {
+                identifiers.add(((BLangIdentifier) node).value);
+            }
+        }
+
+        @Override
+        public void visit(BLangPackage node, Object data) {
+        }
+    }
 }
@@ -1610,6 +1610,7 @@ public class NodeCloner extends BLangNodeVisitor {
         clone.isStream = source.isStream;
         clone.isTable = source.isTable;
         clone.isMap = source.isMap;
+        clone.isParallel = source.isParallel;
     }
 
     @Override
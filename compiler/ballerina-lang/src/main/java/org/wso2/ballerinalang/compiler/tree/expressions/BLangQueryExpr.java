@@ -45,6 +45,8 @@ public class BLangQueryExpr extends BLangExpression implements QueryExpressionNo
     public boolean isStream = false;
     public boolean isTable = false;
     public boolean isMap = false;
+    // Whether the query expression is annotated to be processed in parallel partitions
+    public boolean isParallel = false;
 
     @Override
     public BLangSelectClause getSelectClause() {
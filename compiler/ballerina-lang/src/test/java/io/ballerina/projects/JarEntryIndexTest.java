@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.projects;
+
+import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Tests the index of the entries of dependency jars, which is persisted in the build cache.
+ *
+ * @since 2201.11.0
+ */
+public class JarEntryIndexTest {
+
+    private static final String SERVICE_ENTRY = "META-INF/services/org.example.Service";
+
+    private Path tempDir;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("jar-entry-index-test-" + System.nanoTime());
+    }
+
+    @Test
+    public void testIndexIsReadFromJar() throws IOException {
+        Path jarPath = createJar("read.jar", "a/A.class", "a/B.class");
+        JarEntryIndex index = index(jarPath, jarPath, new HashMap<>(), null);
+        Assert.assertEquals(index.entryNames(), List.of("a/A.class", "a/B.class"));
+        Assert.assertEquals(index.services(), Map.of(SERVICE_ENTRY, "org.example.ServiceImpl\n"));
+    }
+
+    @Test
+    public void testIndexIsReusedAcrossBuilds() throws IOException {
+        Path cacheDir = tempDir.resolve("reused-cache");
+        Path jarPath = createJar("reused.jar", "a/A.class");
+        index(jarPath, jarPath, new HashMap<>(), cacheDir);
+        try (Stream<Path> indexFiles = Files.list(cacheDir)) {
+            Assert.assertEquals(indexFiles.count(), 1);
+        }
+
+        // A new build has a new in-memory cache, so the entries of the persisted index are the ones returned, even
+        // though the opened jar has different entries.
+        Path otherJarPath = createJar("other.jar", "b/B.class");
+        JarEntryIndex index = index(jarPath, otherJarPath, new HashMap<>(), cacheDir);
+        Assert.assertEquals(index.entryNames(), List.of("a/A.class"));
+    }
+
+    @Test
+    public void testChangedJarIsIndexedAgain() throws IOException {
+        Path cacheDir = tempDir.resolve("changed-cache");
+        Path jarPath = createJar("changed.jar", "a/A.class");
+        index(jarPath, jarPath, new HashMap<>(), cacheDir);
+
+        createJar("changed.jar", "a/A.class", "a/B.class");
+        Files.setLastModifiedTime(jarPath, FileTime.fromMillis(Files.getLastModifiedTime(jarPath).toMillis() + 2000));
+        Assert.assertEquals(index(jarPath, jarPath, new HashMap<>(), cacheDir).entryNames(),
+                List.of("a/A.class", "a/B.class"));
+        Assert.assertEquals(index(jarPath, createJar("unrelated.jar"), new HashMap<>(), cacheDir).entryNames(),
+                List.of("a/A.class", "a/B.class"));
+    }
+
+    @Test
+    public void testCorruptedIndexIsIgnored() throws IOException {
+        Path cacheDir = tempDir.resolve("corrupted-cache");
+        Path jarPath = createJar("corrupted.jar", "a/A.class");
+        index(jarPath, jarPath, new HashMap<>(), cacheDir);
+        try (Stream<Path> indexFiles = Files.list(cacheDir)) {
+            for (Path indexFile : indexFiles.toList()) {
+                Files.write(indexFile, new byte[]{0, 0, 0});
+            }
+        }
+        Assert.assertEquals(index(jarPath, jarPath, new HashMap<>(), cacheDir).entryNames(), List.of("a/A.class"));
+    }
+
+    private static JarEntryIndex index(Path jarPath, Path openedJarPath, Map<Path, JarEntryIndex> cache,
+                                       Path cacheDir) throws IOException {
+        try (ZipFile zipFile = new ZipFile(openedJarPath.toFile())) {
+            return JarEntryIndex.of(jarPath, zipFile, cache, cacheDir);
+        }
+    }
+
+    private Path createJar(String name, String... entryNames) throws IOException {
+        Path jarPath = tempDir.resolve(name);
+        try (OutputStream outputStream = Files.newOutputStream(jarPath);
+             ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+            zipOutputStream.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+            zipOutputStream.write("Manifest-Version: 1.0\n".getBytes(StandardCharsets.UTF_8));
+            zipOutputStream.closeEntry();
+            for (String entryName : entryNames) {
+                zipOutputStream.putNextEntry(new ZipEntry(entryName));
+                zipOutputStream.closeEntry();
+            }
+            zipOutputStream.putNextEntry(new ZipEntry(SERVICE_ENTRY));
+            zipOutputStream.write("org.example.ServiceImpl".getBytes(StandardCharsets.UTF_8));
+            zipOutputStream.closeEntry();
+        }
+        return jarPath;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Tests for the {@link ByteBufferInputStream} class.
+ *
+ * @since 2201.11.0
+ */
+public class ByteBufferInputStreamTest {
+
+    @Test
+    public void testReadPrimitives() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(13);
+        buffer.putInt(42).putLong(-7L).put((byte) 0xff);
+        buffer.flip();
+
+        DataInputStream inputStream = new DataInputStream(new ByteBufferInputStream(buffer));
+        Assert.assertEquals(inputStream.available(), 13);
+        Assert.assertEquals(inputStream.readInt(), 42);
+        Assert.assertEquals(inputStream.readLong(), -7L);
+        Assert.assertEquals(inputStream.read(), 0xff);
+        Assert.assertEquals(inputStream.read(), -1);
+        // The position of the source buffer is not changed by reading
+        Assert.assertEquals(buffer.position(), 0);
+    }
+
+    @Test
+    public void testReadBytesAndSkip() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6});
+        ByteBufferInputStream inputStream = new ByteBufferInputStream(buffer);
+
+        Assert.assertEquals(inputStream.skip(2), 2);
+        byte[] bytes = new byte[3];
+        Assert.assertEquals(inputStream.read(bytes, 0, 3), 3);
+        Assert.assertEquals(bytes, new byte[]{3, 4, 5});
+        Assert.assertEquals(inputStream.skip(10), 1);
+        Assert.assertEquals(inputStream.read(bytes, 0, 3), -1);
+        Assert.assertEquals(inputStream.available(), 0);
+    }
+}
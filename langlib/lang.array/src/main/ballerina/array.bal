@@ -556,3 +556,8 @@ public isolated function fromBase16(string str) returns byte[]|error = @java:Met
 public isolated function toStream(Type[] arr) returns stream<Type> {
      return <stream<Type>>internal:construct(internal:getElementType(typeof arr), typeof (), iterator(arr));
 }
+
+# Denotes that the `map` or `filter` call which initializes the annotated variable processes consecutive ranges of the
+# members of the array in parallel, if the array is immutable and the function is isolated. The order of the members
+# of the resulting array is the same as when the members are processed sequentially.
+public const annotation parallel on source var;
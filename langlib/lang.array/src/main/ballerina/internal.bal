@@ -35,4 +35,20 @@ class ArrayIterator {
 isolated function externNext(ArrayIterator iterator) returns record {| Type value; |}? = @java:Method {
     'class: "org.ballerinalang.langlib.array.Next",
     name: "next"
-} external;
\ No newline at end of file
+} external;
+
+# Applies an isolated function to each member of an array, processing consecutive ranges of the members of an
+# immutable array in parallel. This is called instead of `map` for the initializer of a variable annotated with
+# `@parallel`.
+isolated function parallelMap(Type[] arr, @isolatedParam function(Type val) returns Type1 func) returns Type1[] = @java:Method {
+    'class: "org.ballerinalang.langlib.array.Map",
+    name: "parallelMap"
+} external;
+
+# Selects the members of an array for which an isolated function returns true, processing consecutive ranges of the
+# members of an immutable array in parallel. This is called instead of `filter` for the initializer of a variable
+# annotated with `@parallel`.
+isolated function parallelFilter(Type[] arr, @isolatedParam function(Type val) returns boolean func) returns Type[] = @java:Method {
+    'class: "org.ballerinalang.langlib.array.Filter",
+    name: "parallelFilter"
+} external;
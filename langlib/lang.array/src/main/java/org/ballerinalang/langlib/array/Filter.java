@@ -48,6 +48,23 @@ public final class Filter {
                                                                       ARRAY_VERSION, "filter");
 
     public static BArray filter(BArray arr, BFunctionPointer<Object[], Boolean> func) {
+        return filterMembers(arr, func, 1);
+    }
+
+    /**
+     * Filters the members of the given list, processing consecutive ranges of the members of an immutable list in
+     * parallel partitions. This is called instead of {@link #filter(BArray, BFunctionPointer)} for the initializer of
+     * a variable annotated with {@code @array:parallel}.
+     *
+     * @param arr  list whose members are filtered
+     * @param func isolated predicate applied to each member
+     * @return new list containing the selected members in their order
+     */
+    public static BArray parallelFilter(BArray arr, BFunctionPointer<Object[], Boolean> func) {
+        return filterMembers(arr, func, ArrayUtils.getPartitionCount(arr, func));
+    }
+
+    private static BArray filterMembers(BArray arr, BFunctionPointer<Object[], Boolean> func, int partitionCount) {
         BArray newArr;
         Type arrType = TypeUtils.getImpliedType(arr.getType());
         newArr = switch (arrType.getTag()) {
@@ -56,6 +73,20 @@ public final class Filter {
             default -> throw createOpNotSupportedError(arrType, "filter()");
         };
         int size = arr.size();
+        if (partitionCount > 1) {
+            boolean[] results = new boolean[size];
+            AsyncUtils.invokeFunctionPointerAsyncInPartitions(func, null, METADATA, size, partitionCount,
+                    i -> new Object[]{arr.get(i), true}, (result, i) -> results[i] = (boolean) result, () -> {
+                        int newSize = 0;
+                        for (int i = 0; i < size; i++) {
+                            if (results[i]) {
+                                newArr.add(newSize++, arr.get(i));
+                            }
+                        }
+                        return newArr;
+                    }, Scheduler.getStrand().scheduler);
+            return newArr;
+        }
         AtomicInteger newArraySize = new AtomicInteger(-1);
         AtomicInteger index = new AtomicInteger(-1);
         AsyncUtils.invokeFunctionPointerAsyncIteratively(func, null, METADATA, size,
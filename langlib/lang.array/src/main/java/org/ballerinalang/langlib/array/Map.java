@@ -30,6 +30,7 @@ import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.internal.scheduling.AsyncUtils;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
+import org.ballerinalang.langlib.array.utils.ArrayUtils;
 import org.ballerinalang.langlib.array.utils.GetFunction;
 
 import java.util.concurrent.atomic.AtomicInteger;
@@ -59,6 +60,23 @@ public final class Map {
     }
 
     public static BArray map(BArray arr, BFunctionPointer<Object[], Object> func) {
+        return mapMembers(arr, func, 1);
+    }
+
+    /**
+     * Maps the members of the given list, processing consecutive ranges of the members of an immutable list in
+     * parallel partitions. This is called instead of {@link #map(BArray, BFunctionPointer)} for the initializer of a
+     * variable annotated with {@code @array:parallel}.
+     *
+     * @param arr  list whose members are mapped
+     * @param func isolated function applied to each member
+     * @return new list containing the results in the order of the members
+     */
+    public static BArray parallelMap(BArray arr, BFunctionPointer<Object[], Object> func) {
+        return mapMembers(arr, func, ArrayUtils.getPartitionCount(arr, func));
+    }
+
+    private static BArray mapMembers(BArray arr, BFunctionPointer<Object[], Object> func, int partitionCount) {
         Type elemType = ((FunctionType) TypeUtils.getImpliedType(func.getType())).getReturnType();
         Type retArrType = TypeCreator.createArrayType(elemType);
         BArray retArr = ValueCreator.createArrayValue((ArrayType) retArrType);
@@ -71,6 +89,17 @@ public final class Map {
             case TypeTags.TUPLE_TAG -> BArray::getRefValue;
             default -> throw createOpNotSupportedError(arrType, "map()");
         };
+        if (partitionCount > 1) {
+            Object[] results = new Object[size];
+            AsyncUtils.invokeFunctionPointerAsyncInPartitions(func, null, METADATA, size, partitionCount,
+                    i -> new Object[]{getFn.get(arr, i), true}, (result, i) -> results[i] = result, () -> {
+                        for (int i = 0; i < size; i++) {
+                            retArr.add(i, results[i]);
+                        }
+                        return retArr;
+                    }, Scheduler.getStrand().scheduler);
+            return retArr;
+        }
         AtomicInteger index = new AtomicInteger(-1);
         AsyncUtils.invokeFunctionPointerAsyncIteratively(func, null, METADATA, size,
                 () -> new Object[]{getFn.get(arr, index.incrementAndGet()), true},
@@ -24,6 +24,7 @@ import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BIterator;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
 
 /**
  * Native implementation of lang.array.ArrayIterator:next().
@@ -32,13 +33,15 @@ import io.ballerina.runtime.api.values.BObject;
  */
 public final class Next {
 
+    private static final BString ARRAY_FIELD = StringUtils.fromString("m");
+
     private Next() {
     }
 
     //TODO: refactor hard coded values
     public static Object next(BObject m) {
         BIterator<?> arrIterator = (BIterator<?>) m.getNativeData("&iterator&");
-        BArray arr = (BArray) m.get(StringUtils.fromString("m"));
+        BArray arr = (BArray) m.get(ARRAY_FIELD);
         if (arrIterator == null) {
             arrIterator = arr.getIterator();
             m.addNativeData("&iterator&", arrIterator);
@@ -18,6 +18,7 @@
 
 package org.ballerinalang.langlib.array;
 
+import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
@@ -29,6 +30,9 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.ValueComparisonUtils;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+
+import java.util.Arrays;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.internal.errors.ErrorReasons.INVALID_TYPE_TO_SORT;
@@ -49,16 +53,37 @@ public final class Sort {
         checkIsArrayOnlyOperation(TypeUtils.getImpliedType(arr.getType()), "sort()");
         BFunctionPointer<Object, Object> function = (BFunctionPointer<Object, Object>) func;
 
-        Object[][] sortArr = new Object[arr.size()][2];
-        Object[][] sortArrClone = new Object[arr.size()][2];
+        if (function == null) {
+            switch (TypeUtils.getImpliedType(arr.getElementType()).getTag()) {
+                case TypeTags.INT_TAG:
+                case TypeTags.SIGNED32_INT_TAG:
+                case TypeTags.SIGNED16_INT_TAG:
+                case TypeTags.SIGNED8_INT_TAG:
+                case TypeTags.UNSIGNED32_INT_TAG:
+                case TypeTags.UNSIGNED16_INT_TAG:
+                case TypeTags.UNSIGNED8_INT_TAG:
+                    return sortIntArray(arr, direction.toString());
+                case TypeTags.STRING_TAG:
+                case TypeTags.CHAR_STRING_TAG:
+                    return sortStringArray(arr, direction.toString());
+                default:
+                    break;
+            }
+        }
+
+        int size = arr.size();
+        Object[][] sortArr = new Object[size][2];
+        Object[][] sortArrClone = new Object[size][2];
 
         if (function != null) {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = function.call(new Object[]{Scheduler.getStrand(), arr.get(i), true});
-                sortArr[i][1] = arr.get(i);
+            Strand strand = Scheduler.getStrand();
+            for (int i = 0; i < size; i++) {
+                Object value = arr.get(i);
+                sortArr[i][0] = function.call(new Object[]{strand, value, true});
+                sortArr[i][1] = value;
             }
         } else {
-            for (int i = 0; i < arr.size(); i++) {
+            for (int i = 0; i < size; i++) {
                 sortArr[i][0] = sortArr[i][1] = arr.get(i);
             }
         }
@@ -74,6 +99,52 @@ public final class Sort {
         return sortedArray;
     }
 
+    // Equal ints and strings cannot be told apart, hence the arrays of them are sorted with the primitive sorts, which
+    // need not be stable. Arrays.parallelSort only sorts in parallel above its own size threshold.
+    private static BArray sortIntArray(BArray arr, String direction) {
+        long[] values = arr.getIntArray();
+        Arrays.parallelSort(values);
+
+        BArray sortedArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(arr.getElementType()));
+        boolean isAscending = !direction.equals("descending");
+        for (int k = 0; k < values.length; k++) {
+            sortedArray.add(k, values[isAscending ? k : values.length - 1 - k]);
+        }
+        return sortedArray;
+    }
+
+    private static BArray sortStringArray(BArray arr, String direction) {
+        int size = arr.size();
+        BString[] values = new BString[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = arr.getBString(i);
+        }
+        Arrays.parallelSort(values, (lhs, rhs) -> codePointCompare(lhs.getValue(), rhs.getValue()));
+
+        BArray sortedArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(arr.getElementType()));
+        boolean isAscending = !direction.equals("descending");
+        for (int k = 0; k < size; k++) {
+            sortedArray.add(k, values[isAscending ? k : size - 1 - k]);
+        }
+        return sortedArray;
+    }
+
+    // Compares the strings by their code points, as ValueComparisonUtils does, without iterating the code points
+    private static int codePointCompare(String lhs, String rhs) {
+        int length = Math.min(lhs.length(), rhs.length());
+        for (int i = 0; i < length; i++) {
+            char lhsChar = lhs.charAt(i);
+            char rhsChar = rhs.charAt(i);
+            if (lhsChar != rhsChar) {
+                if (Character.isSurrogate(lhsChar) || Character.isSurrogate(rhsChar)) {
+                    return Integer.compare(lhs.codePointAt(i), rhs.codePointAt(i));
+                }
+                return Character.compare(lhsChar, rhsChar);
+            }
+        }
+        return Integer.compare(lhs.length(), rhs.length());
+    }
+
     // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
     private static void mergesort(Object[][] input, Object[][] aux, int lo, int hi, String direction) {
         if (hi <= lo) {
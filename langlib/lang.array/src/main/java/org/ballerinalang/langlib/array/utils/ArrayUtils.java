@@ -23,6 +23,7 @@ import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
 import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.TupleType;
 import io.ballerina.runtime.api.types.Type;
@@ -30,8 +31,10 @@ import io.ballerina.runtime.api.types.UnionType;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.internal.errors.ErrorCodes;
 import io.ballerina.runtime.internal.errors.ErrorHelper;
+import io.ballerina.runtime.internal.scheduling.AsyncUtils;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -39,6 +42,8 @@ import java.util.List;
 import java.util.Set;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_ARRAY_PARALLELISM_ENV_VAR;
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_ARRAY_PARALLELISM_PROPERTY;
 import static io.ballerina.runtime.internal.errors.ErrorReasons.OPERATION_NOT_SUPPORTED_IDENTIFIER;
 import static io.ballerina.runtime.internal.errors.ErrorReasons.getModulePrefixedReason;
 
@@ -49,6 +54,8 @@ import static io.ballerina.runtime.internal.errors.ErrorReasons.getModulePrefixe
  */
 public final class ArrayUtils {
 
+    private static final int MIN_PARTITION_LENGTH = 1024;
+
     @Deprecated
     public static void add(BArray arr, int elemTypeTag, long index, Object value) {
         switch (elemTypeTag) {
@@ -122,6 +129,28 @@ public final class ArrayUtils {
         return ValueCreator.createArrayValue(slicedArrType);
     }
 
+    /**
+     * Returns the number of partitions the invocations of the given function for the members of the given list are
+     * split into, so that the partitions are processed concurrently. Only the lists which are immutable are
+     * partitioned, for isolated functions without defaultable parameters. The maximum number of partitions is the
+     * value of the ballerina.array.parallelism system property or the BALLERINA_ARRAY_PARALLELISM environment
+     * variable, which defaults to the number of available processors.
+     *
+     * @param arr  list whose members are passed to the function
+     * @param func function invoked for each member of the list
+     * @return number of partitions, which is less than two if the members are to be processed sequentially
+     */
+    public static int getPartitionCount(BArray arr, BFunctionPointer<?, ?> func) {
+        if (!(arr.isFrozen() || arr.getType().isReadOnly()) ||
+                !SymbolFlags.isFlagOn(TypeUtils.getImpliedType(func.getType()).getFlags(), SymbolFlags.ISOLATED) ||
+                AsyncUtils.hasDefaultableParams(func)) {
+            return 1;
+        }
+        int parallelism = AsyncUtils.getParallelism(BALLERINA_ARRAY_PARALLELISM_PROPERTY,
+                BALLERINA_ARRAY_PARALLELISM_ENV_VAR, Runtime.getRuntime().availableProcessors());
+        return Math.min(arr.size() / MIN_PARTITION_LENGTH, parallelism);
+    }
+
     private ArrayUtils() {
     }
 }
@@ -88,6 +88,37 @@ function createLimitFunction(function (_Frame _frame) returns int limitFunction)
     return new _LimitFunction(limitFunction);
 }
 
+function addParallelFunction(_StreamPipeline pipeline) {
+    if getParallelism() > 1 {
+        pipeline.addStreamFunction(new _ParallelFunction());
+    }
+}
+
+function getTableMembersByKey(table<map<Type>> key<anydata> tbl, anydata key) returns map<Type>[] {
+    map<Type>? member = tbl[key];
+    return member is () ? [] : [member];
+}
+
+# Processes the members of an immutable list with a function which processes the members from `startIndex` to
+# `endIndex` and returns the list of the results. The members are processed in consecutive partitions in parallel if
+# parallel processing is not disabled and there are enough members, and the results are added to `result` in order.
+# Otherwise, the list returned by the function for all the members is returned as it is.
+function processListInPartitions(Type[] list, function (Type[] list, int startIndex, int endIndex) returns any func,
+        Type[] result) returns any {
+    int length = list.length();
+    int partitionCount = getPartitionCount(length);
+    if partitionCount < 2 {
+        return func(list, 0, length);
+    }
+    any[] partitions = processPartitions(function(int startIndex, int endIndex) returns any {
+        return func(list, startIndex, endIndex);
+    }, length, partitionCount);
+    foreach any partition in partitions {
+        result.push(...<Type[]>partition);
+    }
+    return result;
+}
+
 function addStreamFunction(@tainted _StreamPipeline pipeline, @tainted _StreamFunction streamFunction) {
     pipeline.addStreamFunction(streamFunction);
 }
@@ -328,6 +359,17 @@ function createImmutableValue(any mutableValue) = @java:Method {
     name: "createImmutableValue"
 } external;
 
+function getParallelism() returns int = @java:Method {
+    'class: "org.ballerinalang.langlib.query.ParallelQuery",
+    name: "getParallelism"
+} external;
+
+function processPartitions(function (int startIndex, int endIndex) returns any func, int length,
+        int partitionCount) returns any[] = @java:Method {
+    'class: "org.ballerinalang.langlib.query.ParallelQuery",
+    name: "processPartitions"
+} external;
+
 # Prepare `error` as a distinct `Error`.
 #
 # + err - `error` instance
@@ -128,6 +128,10 @@ class _InitFunction {
     _Iterator? itr;
     boolean resettable = true;
     Type[]|map<Type>|record {}|string|xml|table<map<Type>>|stream<Type, CompletionType>|_Iterable collection;
+    # Members of a list are read by index, without allocating an iterator result record per member.
+    Type[]? list = ();
+    int index = 0;
+    int length = 0;
 
     function init(
             Type[]|map<Type>|record {}|string|xml|table<map<Type>>|stream<Type, CompletionType>|_Iterable collection) {
@@ -138,6 +142,16 @@ class _InitFunction {
     }
 
     public function process() returns _Frame|error? {
+        Type[]? list = self.list;
+        if (list is Type[]) {
+            int index = self.index;
+            if (index == self.length) {
+                return ();
+            }
+            self.index = index + 1;
+            record {|(any|error)...; |} _frame = {value: list[index]};
+            return _frame;
+        }
         _Iterator i = <_Iterator>self.itr;
         record {|(any|error) value;|}|error? v = i.next();
         if (v is record {|(any|error) value;|}) {
@@ -159,9 +173,13 @@ class _InitFunction {
 
     function _getIterator(
             Type[]|map<Type>|record {}|string|xml|table<map<Type>>|stream<Type, CompletionType>|_Iterable collection)
-                returns _Iterator {
+                returns _Iterator? {
         if (collection is Type[]) {
-            return lang_array:iterator(collection);
+            // Iterates the members that are in the list when the iteration starts, as the list iterator does.
+            self.list = collection;
+            self.index = 0;
+            self.length = collection.length();
+            return ();
         } else if (collection is record {}) {
             return lang_map:iterator(collection);
         } else if (collection is map<Type>) {
@@ -629,9 +647,11 @@ class _OrderByFunction {
     }
 }
 
+# A group of frames with the same grouping key. The grouped frame holds the grouping key values and, for each
+# non-grouping key, the sequence of values of the frames added to the group so far.
 type RowGroupedData record {|
     readonly anydata groupingKey;
-    _Frame[] frames;
+    _Frame groupedFrame;
 |};
 
 class _GroupByFunction {
@@ -654,13 +674,18 @@ class _GroupByFunction {
         if (self.groupedStream is ()) {
             _StreamFunction pf = <_StreamFunction>self.prevFunc;
             _Frame? f = check pf.process();
+            // Each frame is added to its group as it is consumed, so only the grouped values are retained.
             while f is _Frame {
                 anydata & readonly key = (check self.getKey(f)).cloneReadOnly();
-                if self.tbl.hasKey(key) {
-                    self.tbl.get(key).frames.push(f);
+                RowGroupedData? group = self.tbl[key];
+                _Frame groupedFrame;
+                if group is RowGroupedData {
+                    groupedFrame = group.groupedFrame;
                 } else {
-                    self.tbl.add({groupingKey: key, frames: [f]});
+                    groupedFrame = self.createGroupedFrame(f);
+                    self.tbl.add({groupingKey: key, groupedFrame});
                 }
+                addToGroupedFrame(groupedFrame, f, self.nonGroupingKeys);
                 f = check pf.process();
             }
             self.groupedStream = self.convertToStream(self.tbl);
@@ -673,6 +698,7 @@ class _GroupByFunction {
 
     public function reset() {
         self.groupedStream = ();
+        self.tbl = table [];
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -687,35 +713,39 @@ class _GroupByFunction {
         return keys;
     }
 
+    private function createGroupedFrame(_Frame firstFrame) returns _Frame {
+        _Frame groupedFrame = {};
+        foreach var key in self.keys {
+            groupedFrame[key] = firstFrame[key];
+        }
+        foreach var nonGroupingKey in self.nonGroupingKeys {
+            groupedFrame[nonGroupingKey] = [];
+        }
+        return groupedFrame;
+    }
+
     private function convertToStream(table<RowGroupedData> key(groupingKey) tbl) returns stream<_Frame> {
         _Frame[] groupedFrames = [];
-
         foreach var entry in tbl {
-            _Frame groupedFrame = {};
-            _Frame firstFrame = entry.frames[0];
-            foreach var key in self.keys {
-                groupedFrame[key] = firstFrame[key];
-            }
-            foreach var nonGroupingKey in self.nonGroupingKeys {
-                groupedFrame[nonGroupingKey] = [];
-            }
-            foreach var f in entry.frames {
-                foreach var nonGroupingKey in self.nonGroupingKeys {
-                    any|error sequenceValue = groupedFrame[nonGroupingKey];
-                    if sequenceValue is any {
-                        any|error val = f[nonGroupingKey];
-                        if val !is () {
-                            (<(any|error)[]> sequenceValue).push(val);
-                        }
-                    }
-                }
-            }
-            groupedFrames.push(groupedFrame);
+            groupedFrames.push(entry.groupedFrame);
         }
         return groupedFrames.toStream();
     }
 }
 
+# Adds the values of the non-grouping keys of a frame to the sequences of the grouped frame.
+function addToGroupedFrame(_Frame groupedFrame, _Frame f, string[] nonGroupingKeys) {
+    foreach var nonGroupingKey in nonGroupingKeys {
+        any|error sequenceValue = groupedFrame[nonGroupingKey];
+        if sequenceValue is any {
+            any|error val = f[nonGroupingKey];
+            if val !is () {
+                (<(any|error)[]> sequenceValue).push(val);
+            }
+        }
+    }
+}
+
 class _CollectFunction {
     *_StreamFunction;
 
@@ -736,15 +766,7 @@ class _CollectFunction {
         _StreamFunction pf = <_StreamFunction>self.prevFunc;
         _Frame? f = check pf.process();
         while f is _Frame {
-            foreach var nonGroupingKey in self.nonGroupingKeys {
-                any|error sequenceValue = groupedFrame[nonGroupingKey];
-                if (sequenceValue is any) {
-                    any|error val = f[nonGroupingKey];
-                    if val !is () {
-                        (<(any|error)[]> sequenceValue).push(val);
-                    }
-                }
-            }
+            addToGroupedFrame(groupedFrame, f, self.nonGroupingKeys);
             f = check pf.process();
         }
         _Frame|error? cFrame = self.collectFunc(groupedFrame);
@@ -916,8 +938,166 @@ class _LimitFunction {
     }
 }
 
+# Denotes that the query expression which initializes the annotated variable is processed in parallel partitions, if
+# it constructs a list from an immutable list or table, and its clauses only call isolated functions.
+public const annotation parallel on source var;
+
+# Minimum number of members processed in a partition, so that processing a partition outweighs scheduling it.
+const int MIN_PARTITION_LENGTH = 1024;
+
+# Returns the number of partitions the members of a list of the given length are processed in, in parallel. The
+# members are processed sequentially if it is less than two.
+function getPartitionCount(int length) returns int {
+    int partitionCount = length / MIN_PARTITION_LENGTH;
+    int parallelism = getParallelism();
+    return partitionCount > parallelism ? parallelism : partitionCount;
+}
+
+class _ParallelFunction {
+    *_StreamFunction;
+
+    # Processes the members of an immutable list or table in consecutive partitions in parallel, when the pipeline
+    # has only input, let, where and select functions and there are enough members. Otherwise, the frames are taken
+    # from the previous function as they are. This is added to the pipeline only for the queries annotated with
+    # `@query:parallel`, if parallel processing is not disabled.
+    # The frames are emitted in the order of the members, followed by the error of the first partition which failed.
+    _Frame[] frames = [];
+    int index = 0;
+    error? err = ();
+    boolean processed = false;
+    boolean sequential = false;
+
+    function init() {
+        self.prevFunc = ();
+    }
+
+    public function process() returns _Frame|error? {
+        if !self.processed {
+            self.processed = true;
+            self.processPartitions();
+        }
+        if self.sequential {
+            _StreamFunction pf = <_StreamFunction>self.prevFunc;
+            return pf.process();
+        }
+        int index = self.index;
+        if index < self.frames.length() {
+            self.index = index + 1;
+            return self.frames[index];
+        }
+        return self.err;
+    }
+
+    function processPartitions() {
+        _StreamFunction[] streamFunctions = [];
+        _StreamFunction? pf = self.prevFunc;
+        while !(pf is _InitFunction) {
+            if !(pf is _InputFunction|_LetFunction|_FilterFunction|_SelectFunction) {
+                self.sequential = true;
+                return;
+            }
+            streamFunctions.unshift(pf);
+            pf = pf.prevFunc;
+        }
+        _InitFunction initFunc = <_InitFunction>pf;
+        Type[]|map<Type>|record {}|string|xml|table<map<Type>>|stream<Type, CompletionType>|_Iterable collection =
+            initFunc.collection;
+        Type[] members;
+        if collection is Type[] && collection is readonly {
+            members = collection;
+        } else if collection is table<map<Type>> && collection is readonly {
+            members = <Type[]>lang_table:toArray(collection);
+        } else {
+            self.sequential = true;
+            return;
+        }
+
+        int length = members.length();
+        int partitionCount = getPartitionCount(length);
+        if partitionCount < 2 {
+            self.sequential = true;
+            return;
+        }
+        any[] partitions = processPartitions(function(int startIndex, int endIndex) returns any {
+            return processPartition(streamFunctions, members, startIndex, endIndex);
+        }, length, partitionCount);
+        foreach any result in partitions {
+            _Partition partition = <_Partition>result;
+            self.frames.push(...partition.frames);
+            error? err = partition.err;
+            if err is error {
+                if partition.panicked {
+                    panic err;
+                }
+                self.err = err;
+                return;
+            }
+        }
+    }
+
+    public function reset() {
+        self.frames = [];
+        self.index = 0;
+        self.err = ();
+        self.processed = false;
+        self.sequential = false;
+        _StreamFunction? pf = self.prevFunc;
+        if (pf is _StreamFunction) {
+            pf.reset();
+        }
+    }
+}
+
+# Processes the members from `startIndex` to `endIndex` with new instances of the given stream functions.
+function processPartition(_StreamFunction[] streamFunctions, Type[] members, int startIndex, int endIndex)
+        returns _Partition {
+    _InitFunction initFunc = new (members);
+    initFunc.index = startIndex;
+    initFunc.length = endIndex;
+    _StreamFunction streamFunction = initFunc;
+    foreach _StreamFunction sf in streamFunctions {
+        _StreamFunction nextFunction = copyStreamFunction(sf);
+        nextFunction.prevFunc = streamFunction;
+        streamFunction = nextFunction;
+    }
+    _Partition partition = {frames: []};
+    // A panic is recorded, so that it is raised only if the previous partitions completed without an error.
+    error? err = trap collectFrames(streamFunction, partition);
+    if err is error {
+        partition.err = err;
+        partition.panicked = true;
+    }
+    return partition;
+}
+
+function collectFrames(_StreamFunction streamFunction, _Partition partition) {
+    _Frame|error? f = streamFunction.process();
+    while f is _Frame {
+        partition.frames.push(f);
+        f = streamFunction.process();
+    }
+    partition.err = f;
+}
+
+function copyStreamFunction(_StreamFunction streamFunction) returns _StreamFunction {
+    if streamFunction is _InputFunction {
+        return new _InputFunction(streamFunction.inputFunc);
+    } else if streamFunction is _LetFunction {
+        return new _LetFunction(streamFunction.letFunc);
+    } else if streamFunction is _FilterFunction {
+        return new _FilterFunction(streamFunction.filterFunc);
+    }
+    return new _SelectFunction((<_SelectFunction>streamFunction).selectFunc);
+}
+
 // ---- helper types ----
 
+type _Partition record {|
+    _Frame[] frames;
+    error? err = ();
+    boolean panicked = false;
+|};
+
 class _FrameMultiMap {
     map<_Frame[]> m;
 
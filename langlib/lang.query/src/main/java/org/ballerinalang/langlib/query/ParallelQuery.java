@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.FunctionType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.internal.scheduling.AsyncUtils;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_BUILTIN_PKG_PREFIX;
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_QUERY_PARALLELISM_ENV_VAR;
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_QUERY_PARALLELISM_PROPERTY;
+import static io.ballerina.runtime.api.constants.RuntimeConstants.QUERY_LANG_LIB;
+
+/**
+ * Implementation of lang.query:getParallelism() and lang.query:processPartitions(func, length, partitionCount).
+ * <p>
+ * Only the queries annotated with {@code @query:parallel} are processed in parallel. The maximum number of partitions
+ * is given by the ballerina.query.parallelism system property or the BALLERINA_QUERY_PARALLELISM environment variable,
+ * and is the number of available processors if neither is set. The queries are processed sequentially if it is one.
+ *
+ * @since 2201.11.0
+ */
+public final class ParallelQuery {
+
+    private static final StrandMetadata METADATA = new StrandMetadata(BALLERINA_BUILTIN_PKG_PREFIX, QUERY_LANG_LIB,
+            "0.0.1", "processPartitions");
+
+    private ParallelQuery() {
+    }
+
+    public static long getParallelism() {
+        return AsyncUtils.getParallelism(BALLERINA_QUERY_PARALLELISM_PROPERTY, BALLERINA_QUERY_PARALLELISM_ENV_VAR,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Invoke the given function concurrently for each of the given number of consecutive partitions of the range
+     * [0, length), with the start index and the end index of the partition.
+     *
+     * @param func           isolated function to be invoked for each partition
+     * @param length         length of the partitioned range
+     * @param partitionCount number of partitions
+     * @return results of the invocations, in the order of the partitions
+     */
+    public static BArray processPartitions(BFunctionPointer<Object[], Object> func, long length,
+                                           long partitionCount) {
+        FunctionType funcType = (FunctionType) TypeUtils.getImpliedType(func.getType());
+        ArrayType resultsType = TypeCreator.createArrayType(funcType.getReturnType());
+        int count = (int) partitionCount;
+        Object[] results = new Object[count];
+        AsyncUtils.invokeFunctionPointerAsyncInPartitions(func, null, METADATA, count, count,
+                index -> new Object[]{length * index / count, true, length * (index + 1) / count, true},
+                (result, index) -> results[index] = result,
+                () -> ValueCreator.createArrayValue(results, resultsType), Scheduler.getStrand().scheduler);
+        return ValueCreator.createArrayValue(resultsType);
+    }
+}
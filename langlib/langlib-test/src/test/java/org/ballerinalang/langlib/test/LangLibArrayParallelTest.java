@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.test;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_ARRAY_PARALLELISM_PROPERTY;
+
+/**
+ * Test cases for the map and filter functions of the lang.array library, when the members of immutable lists are
+ * processed in parallel partitions for the variables annotated with {@code @array:parallel}.
+ *
+ * @since 2201.11.0
+ */
+public class LangLibArrayParallelTest {
+
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        compileResult = BCompileUtil.compile("test-src/arraylib_parallel_test.bal");
+        System.setProperty(BALLERINA_ARRAY_PARALLELISM_PROPERTY, "4");
+    }
+
+    @AfterClass
+    public void tearDown() {
+        System.clearProperty(BALLERINA_ARRAY_PARALLELISM_PROPERTY);
+        compileResult = null;
+    }
+
+    @Test(dataProvider = "parallelFunctionProvider")
+    public void testParallelFunctions(String funcName) {
+        BRunUtil.invoke(compileResult, funcName);
+    }
+
+    @Test
+    public void testMembersAreProcessedInPartitions() {
+        BRunUtil.invoke(compileResult, "testMembersAreProcessedInPartitions");
+    }
+
+    @Test(dataProvider = "parallelFunctionProvider")
+    public void testFunctionsWithParallelismDisabled(String funcName) {
+        System.setProperty(BALLERINA_ARRAY_PARALLELISM_PROPERTY, "1");
+        try {
+            BRunUtil.invoke(compileResult, funcName);
+        } finally {
+            System.setProperty(BALLERINA_ARRAY_PARALLELISM_PROPERTY, "4");
+        }
+    }
+
+    @DataProvider(name = "parallelFunctionProvider")
+    public Object[] getParallelFunctions() {
+        return new Object[]{
+                "testParallelMap",
+                "testParallelFilter",
+                "testForEachOverImmutableArray",
+                "testFunctionWithDefaultableParams",
+                "testPanicInMiddlePartition",
+                "testPanicAtLowestIndexTakesPrecedence"
+        };
+    }
+}
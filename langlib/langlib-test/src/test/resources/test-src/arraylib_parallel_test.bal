@@ -0,0 +1,222 @@
+// Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.array;
+
+// The members are processed in four partitions of 2500 members each when the parallelism is four.
+const LENGTH = 10000;
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+isolated int invocationCount = 0;
+isolated int[] visitedValues = [];
+
+function testParallelMap() {
+    readonly & int[] values = getValues();
+    @array:parallel
+    int[] squares = values.map(square);
+    int[] expected = [];
+    foreach int value in values {
+        expected.push(square(value));
+    }
+    assertValueEquality(expected, squares);
+
+    @array:parallel
+    string[] strings = values.map(isolated function(int value) returns string => value.toString());
+    assertValueEquality(LENGTH, strings.length());
+    assertValueEquality("0", strings[0]);
+    assertValueEquality("9999", strings[LENGTH - 1]);
+}
+
+function testParallelFilter() {
+    readonly & int[] values = getValues();
+    @array:parallel
+    int[] filtered = values.filter(isolated function(int value) returns boolean => value % 3 == 1);
+    int[] expected = [];
+    foreach int value in values {
+        if value % 3 == 1 {
+            expected.push(value);
+        }
+    }
+    assertValueEquality(expected, filtered);
+}
+
+function testForEachOverImmutableArray() {
+    lock {
+        visitedValues = [];
+    }
+    readonly & int[] values = getValues();
+    // The members are visited sequentially, in order, even though the array is immutable and the function is isolated.
+    values.forEach(visit);
+    int[] visited;
+    lock {
+        visited = visitedValues.clone();
+    }
+    assertValueEquality(values, visited);
+}
+
+function testFunctionWithDefaultableParams() {
+    readonly & int[] values = getValues();
+    // The default value of the second parameter is computed, hence the members are processed sequentially.
+    @array:parallel
+    int[] sums = values.map(isolated function(int x, int y = 2) returns int => x + y);
+    assertValueEquality(LENGTH, sums.length());
+    assertValueEquality(2, sums[0]);
+    assertValueEquality(LENGTH + 1, sums[LENGTH - 1]);
+
+    @array:parallel
+    int[] filtered = values.filter(isolated function(int x, int y = 2) returns boolean => x % y == 0);
+    assertValueEquality(LENGTH / 2, filtered.length());
+    assertValueEquality(LENGTH - 2, filtered[filtered.length() - 1]);
+
+    lock {
+        visitedValues = [];
+    }
+    values.forEach(isolated function(int x, int y = 2) {
+        lock {
+            visitedValues.push(x * y);
+        }
+    });
+    int[] visited;
+    lock {
+        visited = visitedValues.clone();
+    }
+    assertValueEquality(LENGTH, visited.length());
+    assertValueEquality(2 * (LENGTH - 1), visited[LENGTH - 1]);
+}
+
+function testMembersAreProcessedInPartitions() {
+    readonly & int[] values = getValues();
+    final readonly & int[] invalidValues = [6000];
+    final isolated function (int value) returns int countedFunc = isolated function(int value) returns int {
+        lock {
+            invocationCount += 1;
+        }
+        return validate(value, invalidValues);
+    };
+
+    // The partition of the members 5000 to 7499 stops at 6000, while the other partitions process all their members.
+    resetInvocationCount();
+    int[]|error mapped = trap mapInParallel(values, countedFunc);
+    assertError("invalid value: 6000", mapped);
+    assertValueEquality(3 * 2500 + 1001, getInvocationCount());
+
+    resetInvocationCount();
+    int[]|error filtered = trap filterInParallel(values, isolated function(int value) returns boolean {
+        return countedFunc(value) % 2 == 0;
+    });
+    assertError("invalid value: 6000", filtered);
+    assertValueEquality(3 * 2500 + 1001, getInvocationCount());
+
+    // Without the annotation, the members are processed sequentially up to the one which panics.
+    resetInvocationCount();
+    mapped = trap values.map(countedFunc);
+    assertError("invalid value: 6000", mapped);
+    assertValueEquality(6001, getInvocationCount());
+}
+
+function testPanicInMiddlePartition() {
+    readonly & int[] values = getValues();
+    final readonly & int[] invalidValues = [6000];
+    int[]|error mapped = trap mapInParallel(values, isolated function(int value) returns int {
+        return validate(value, invalidValues);
+    });
+    assertError("invalid value: 6000", mapped);
+
+    int[]|error filtered = trap filterInParallel(values, isolated function(int value) returns boolean {
+        return validate(value, invalidValues) % 2 == 0;
+    });
+    assertError("invalid value: 6000", filtered);
+}
+
+function testPanicAtLowestIndexTakesPrecedence() {
+    readonly & int[] values = getValues();
+    // The panic at the first member of the last partition is likely to happen before the panic at the last member of
+    // the second partition, but the panic at the lower index is the one which is propagated.
+    final readonly & int[] invalidValues = [7500, 4999];
+    int[]|error mapped = trap mapInParallel(values, isolated function(int value) returns int {
+        return validate(value, invalidValues);
+    });
+    assertError("invalid value: 4999", mapped);
+
+    int[]|error filtered = trap filterInParallel(values, isolated function(int value) returns boolean {
+        return validate(value, invalidValues) % 2 == 0;
+    });
+    assertError("invalid value: 4999", filtered);
+}
+
+function mapInParallel(readonly & int[] values, isolated function (int value) returns int func) returns int[] {
+    @array:parallel
+    int[] mapped = values.map(func);
+    return mapped;
+}
+
+function filterInParallel(readonly & int[] values, isolated function (int value) returns boolean func) returns int[] {
+    @array:parallel
+    int[] filtered = values.filter(func);
+    return filtered;
+}
+
+function resetInvocationCount() {
+    lock {
+        invocationCount = 0;
+    }
+}
+
+function getInvocationCount() returns int {
+    lock {
+        return invocationCount;
+    }
+}
+
+function getValues() returns readonly & int[] {
+    int[] values = [];
+    foreach int i in 0 ..< LENGTH {
+        values.push(i);
+    }
+    return values.cloneReadOnly();
+}
+
+isolated function square(int value) returns int => value * value;
+
+isolated function visit(int value) {
+    lock {
+        visitedValues.push(value);
+    }
+}
+
+isolated function validate(int value, readonly & int[] invalidValues) returns int {
+    if invalidValues.indexOf(value) != () {
+        panic error("invalid value: " + value.toString());
+    }
+    return value;
+}
+
+function assertError(string expectedMessage, any|error actual) {
+    if actual is error {
+        assertValueEquality(expectedMessage, actual.message());
+        return;
+    }
+    panic error(ASSERTION_ERROR_REASON, message = "expected an error, found '" + (typeof actual).toString() + "'");
+}
+
+function assertValueEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+
+    panic error(ASSERTION_ERROR_REASON,
+                message = "expected '" + expected.toString() + "', found '" + actual.toString() + "'");
+}
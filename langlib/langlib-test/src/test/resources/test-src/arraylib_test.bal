@@ -1575,6 +1575,33 @@ function testSort10() {
     assertValueEquality(sortedArr6, []);
 }
 
+function testSort11() {
+    int[] arr = [10, -1, 3, 9223372036854775807, 0, -9223372036854775807 - 1, 3];
+    int[] sortedArr = arr.sort();
+    assertValueEquality([-9223372036854775807 - 1, -1, 0, 3, 3, 10, 9223372036854775807], sortedArr);
+    assertValueEquality([9223372036854775807, 10, 3, 3, 0, -1, -9223372036854775807 - 1],
+        arr.sort(array:DESCENDING));
+    assertValueEquality([10, -1, 3, 9223372036854775807, 0, -9223372036854775807 - 1, 3], arr);
+
+    int:Signed8[] arr2 = [5, -3, 127, -128];
+    int:Signed8[] sortedArr2 = arr2.sort();
+    assertTrue(sortedArr2 is int:Signed8[]);
+    assertValueEquality([-128, -3, 5, 127], sortedArr2);
+
+    string[] arr3 = ["b", "\u{1F600}", "a", "\u{FFFD}", "ab", ""];
+    string[] sortedArr3 = arr3.sort();
+    assertValueEquality(["", "a", "ab", "b", "\u{FFFD}", "\u{1F600}"], sortedArr3);
+    assertValueEquality(["\u{1F600}", "\u{FFFD}", "b", "ab", "a", ""], arr3.sort(array:DESCENDING));
+
+    string:Char[] arr4 = ["z", "A", "m"];
+    string:Char[] sortedArr4 = arr4.sort(array:DESCENDING);
+    assertTrue(sortedArr4 is string:Char[]);
+    assertValueEquality(["z", "m", "A"], sortedArr4);
+
+    int[] arr5 = [];
+    assertValueEquality([], arr5.sort());
+}
+
 function testTupleReverse() {
     [int, string, float] tupleArr = [2, "abc", 2.4];
     anydata[] y = tupleArr.reverse();
@@ -62,6 +62,11 @@ public interface InitializationOptions {
      */
     String KEY_ENABLE_MEMORY_USAGE_MONITOR = "enableMemoryUsageMonitor";
 
+    /**
+     * Whether the LS should evict the compilations of the least recently used projects when the memory usage is high.
+     */
+    String KEY_ENABLE_MEMORY_BUDGET = "enableMemoryBudget";
+
     /**
      * Return if the client support bala URI scheme.
      *
@@ -116,4 +121,12 @@ public interface InitializationOptions {
      * @return True if supported, false otherwise
      */
     boolean isEnableMemoryUsageMonitor();
+
+    /**
+     * Returns if the LS should evict the compilations of the least recently used projects when the memory usage is
+     * high.
+     *
+     * @return True if enabled, false otherwise
+     */
+    boolean isEnableMemoryBudget();
 }
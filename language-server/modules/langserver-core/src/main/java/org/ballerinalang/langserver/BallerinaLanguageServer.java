@@ -37,6 +37,7 @@ import org.ballerinalang.langserver.extensions.AbstractExtendedLanguageServer;
 import org.ballerinalang.langserver.extensions.ExtendedLanguageServer;
 import org.ballerinalang.langserver.semantictokens.SemanticTokensUtils;
 import org.ballerinalang.langserver.util.LSClientUtil;
+import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
 import org.eclipse.lsp4j.CodeActionKind;
 import org.eclipse.lsp4j.CodeActionOptions;
 import org.eclipse.lsp4j.CodeLensOptions;
@@ -226,6 +227,10 @@ public class BallerinaLanguageServer extends AbstractExtendedLanguageServer
         if (lsClientCapabilities.getInitializationOptions().isEnableMemoryUsageMonitor()) {
             MemoryUsageMonitor.getInstance(this.serverContext).start(client);
         }
+        if (lsClientCapabilities.getInitializationOptions().isEnableMemoryBudget()
+                && workspaceManagerProxy.get() instanceof BallerinaWorkspaceManager workspaceManager) {
+            MemoryUsageMonitor.getInstance(this.serverContext).startMemoryBudget(workspaceManager);
+        }
     }
 
     /**
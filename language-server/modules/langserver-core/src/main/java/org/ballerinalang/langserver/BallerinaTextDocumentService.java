@@ -56,6 +56,7 @@ import org.ballerinalang.langserver.hover.HoverUtil;
 import org.ballerinalang.langserver.inlayhint.InlayHintProvider;
 import org.ballerinalang.langserver.references.ReferencesUtil;
 import org.ballerinalang.langserver.rename.RenameUtil;
+import org.ballerinalang.langserver.semantictokens.SemanticTokensCache;
 import org.ballerinalang.langserver.semantictokens.SemanticTokensUtils;
 import org.ballerinalang.langserver.signature.SignatureHelpUtil;
 import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManagerProxy;
@@ -92,7 +93,10 @@ import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.ReferenceParams;
 import org.eclipse.lsp4j.RenameParams;
 import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensDelta;
+import org.eclipse.lsp4j.SemanticTokensDeltaParams;
 import org.eclipse.lsp4j.SemanticTokensParams;
+import org.eclipse.lsp4j.SemanticTokensRangeParams;
 import org.eclipse.lsp4j.SignatureHelp;
 import org.eclipse.lsp4j.SignatureHelpParams;
 import org.eclipse.lsp4j.SymbolInformation;
@@ -127,6 +131,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
     private final BallerinaWorkspaceManagerProxy workspaceManagerProxy;
     private final LanguageServerContext serverContext;
     private final LSClientLogger clientLogger;
+    private final LSRequestScheduler requestScheduler;
 
     BallerinaTextDocumentService(BallerinaLanguageServer languageServer,
                                  BallerinaWorkspaceManagerProxy workspaceManagerProxy,
@@ -135,6 +140,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
         this.languageServer = languageServer;
         this.serverContext = serverContext;
         this.clientLogger = LSClientLogger.getInstance(this.serverContext);
+        this.requestScheduler = LSRequestScheduler.getInstance(this.serverContext);
     }
 
     /**
@@ -148,7 +154,8 @@ class BallerinaTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<Either<List<CompletionItem>, CompletionList>> completion(CompletionParams position) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return this.requestScheduler.schedule(position.getTextDocument().getUri(), LSContextOperation.TXT_COMPLETION,
+                LSRequestScheduler.Priority.INTERACTIVE, (cancelChecker) -> {
             String fileUri = position.getTextDocument().getUri();
             CompletionContext context = ContextBuilder.buildCompletionContext(fileUri,
                     this.workspaceManagerProxy.get(fileUri),
@@ -173,7 +180,8 @@ class BallerinaTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<Hover> hover(HoverParams params) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return this.requestScheduler.schedule(params.getTextDocument().getUri(), LSContextOperation.TXT_HOVER,
+                LSRequestScheduler.Priority.INTERACTIVE, (cancelChecker) -> {
             try {
                 HoverContext context = ContextBuilder.buildHoverContext(
                         PathUtil.convertUriSchemeFromBala(params.getTextDocument().getUri()),
@@ -196,7 +204,8 @@ class BallerinaTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<SignatureHelp> signatureHelp(SignatureHelpParams params) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return this.requestScheduler.schedule(params.getTextDocument().getUri(), LSContextOperation.TXT_SIGNATURE,
+                LSRequestScheduler.Priority.INTERACTIVE, (cancelChecker) -> {
             String uri = params.getTextDocument().getUri();
             Optional<Path> sigFilePath = PathUtil.getPathFromURI(uri);
 
@@ -306,7 +315,8 @@ class BallerinaTextDocumentService implements TextDocumentService {
     @Override
     public CompletableFuture<List<Either<SymbolInformation, DocumentSymbol>>>
     documentSymbol(DocumentSymbolParams params) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return this.requestScheduler.schedule(params.getTextDocument().getUri(), LSContextOperation.TXT_DOC_SYMBOL,
+                LSRequestScheduler.Priority.BACKGROUND, (cancelChecker) -> {
             String fileUri = params.getTextDocument().getUri();
             Optional<Path> docSymbolFilePath = PathUtil.getPathFromURI(fileUri);
 
@@ -334,7 +344,8 @@ class BallerinaTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<List<Either<Command, CodeAction>>> codeAction(CodeActionParams params) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return this.requestScheduler.schedule(params.getTextDocument().getUri(), LSContextOperation.TXT_CODE_ACTION,
+                LSRequestScheduler.Priority.INTERACTIVE, (cancelChecker) -> {
             String fileUri = params.getTextDocument().getUri();
             try {
                 CodeActionContext context = ContextBuilder.buildCodeActionContext(fileUri,
@@ -393,7 +404,8 @@ class BallerinaTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<List<? extends CodeLens>> codeLens(CodeLensParams params) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return this.requestScheduler.schedule(params.getTextDocument().getUri(), LSContextOperation.TXT_CODE_LENS,
+                LSRequestScheduler.Priority.BACKGROUND, (cancelChecker) -> {
             if (!LSCodeLensesProviderHolder.getInstance(this.serverContext).isEnabled()) {
                 // Disabled ballerina codeLens feature
                 clientCapabilities.getTextDocCapabilities().setCodeLens(null);
@@ -596,6 +608,8 @@ class BallerinaTextDocumentService implements TextDocumentService {
     @Override
     public void didChange(DidChangeTextDocumentParams params) {
         String fileUri = params.getTextDocument().getUri();
+        // Results of the requests made before the change are outdated
+        this.requestScheduler.cancelOutdatedRequests(fileUri);
         try {
             // Update content
             DocumentServiceContext context = ContextBuilder.buildDocumentServiceContext(
@@ -626,6 +640,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
                     LSContextOperation.TXT_DID_CLOSE,
                     this.serverContext);
             this.workspaceManagerProxy.didClose(params);
+            SemanticTokensCache.getInstance(this.serverContext).remove(fileUri);
             this.clientLogger.logTrace("Operation '" + LSContextOperation.TXT_DID_CLOSE.getName() +
                     "' {fileUri: '" + fileUri + "'} closed");
         } catch (Throwable e) {
@@ -641,7 +656,8 @@ class BallerinaTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<List<FoldingRange>> foldingRange(FoldingRangeRequestParams params) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return this.requestScheduler.schedule(params.getTextDocument().getUri(), LSContextOperation.TXT_FOLDING_RANGE,
+                LSRequestScheduler.Priority.BACKGROUND, (cancelChecker) -> {
             try {
                 boolean lineFoldingOnly = this.clientCapabilities.getTextDocCapabilities().getFoldingRange() != null &&
                         Boolean.TRUE.equals(this.clientCapabilities.getTextDocCapabilities()
@@ -668,7 +684,9 @@ class BallerinaTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<SemanticTokens> semanticTokensFull(SemanticTokensParams params) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return this.requestScheduler.schedule(params.getTextDocument().getUri(),
+                LSContextOperation.TXT_SEMANTIC_TOKENS_FULL, LSRequestScheduler.Priority.BACKGROUND,
+                (cancelChecker) -> {
             try {
                 SemanticTokensContext context = ContextBuilder.buildSemanticTokensContext(
                         params.getTextDocument().getUri(),
@@ -690,9 +708,63 @@ class BallerinaTextDocumentService implements TextDocumentService {
         });
     }
 
+    @Override
+    public CompletableFuture<Either<SemanticTokens, SemanticTokensDelta>> semanticTokensFullDelta(
+            SemanticTokensDeltaParams params) {
+        return this.requestScheduler.schedule(params.getTextDocument().getUri(),
+                LSContextOperation.TXT_SEMANTIC_TOKENS_FULL_DELTA, LSRequestScheduler.Priority.BACKGROUND,
+                (cancelChecker) -> {
+            try {
+                SemanticTokensContext context = ContextBuilder.buildSemanticTokensContext(
+                        params.getTextDocument().getUri(),
+                        this.workspaceManagerProxy.get(),
+                        this.serverContext,
+                        cancelChecker);
+
+                return SemanticTokensUtils.getSemanticTokensDelta(context, params.getPreviousResultId());
+            } catch (CancellationException ignore) {
+                // Ignore cancellation exception
+            } catch (Throwable e) {
+                String msg = "Operation 'textDocument/semanticTokens/full/delta' failed!";
+                this.clientLogger.logError(LSContextOperation.TXT_SEMANTIC_TOKENS_FULL_DELTA, msg, e,
+                        new TextDocumentIdentifier(params.getTextDocument().getUri()),
+                        (Position) null);
+            }
+
+            return Either.forLeft(new SemanticTokens(new ArrayList<>()));
+        });
+    }
+
+    @Override
+    public CompletableFuture<SemanticTokens> semanticTokensRange(SemanticTokensRangeParams params) {
+        return this.requestScheduler.schedule(params.getTextDocument().getUri(),
+                LSContextOperation.TXT_SEMANTIC_TOKENS_RANGE, LSRequestScheduler.Priority.INTERACTIVE,
+                (cancelChecker) -> {
+            try {
+                SemanticTokensContext context = ContextBuilder.buildSemanticTokensContext(
+                        params.getTextDocument().getUri(),
+                        this.workspaceManagerProxy.get(),
+                        this.serverContext,
+                        cancelChecker);
+
+                return SemanticTokensUtils.getSemanticTokens(context, params.getRange());
+            } catch (CancellationException ignore) {
+                // Ignore cancellation exception
+            } catch (Throwable e) {
+                String msg = "Operation 'textDocument/semanticTokens/range' failed!";
+                this.clientLogger.logError(LSContextOperation.TXT_SEMANTIC_TOKENS_RANGE, msg, e,
+                        new TextDocumentIdentifier(params.getTextDocument().getUri()),
+                        (Position) null);
+            }
+
+            return new SemanticTokens(new ArrayList<>());
+        });
+    }
+
     @Override
     public CompletableFuture<List<InlayHint>> inlayHint(InlayHintParams params) {
-        return CompletableFutures.computeAsync((cancelChecker) -> {
+        return this.requestScheduler.schedule(params.getTextDocument().getUri(), LSContextOperation.TXT_INLAY_HINT,
+                LSRequestScheduler.Priority.BACKGROUND, (cancelChecker) -> {
             try {
                 InlayHintContext context = ContextBuilder.buildInlayHintContext(
                         params.getTextDocument().getUri(),
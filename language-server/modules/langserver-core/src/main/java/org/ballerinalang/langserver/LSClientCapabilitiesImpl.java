@@ -173,6 +173,10 @@ public class LSClientCapabilitiesImpl implements LSClientCapabilities {
                 Boolean.parseBoolean(String.valueOf(memoryUsageMonitor));
         initializationOptions.setEnableMemoryUsageMonitor(enableMemoryUsageMonitor);
 
+        Object memoryBudget = initOptions.get(InitializationOptions.KEY_ENABLE_MEMORY_BUDGET);
+        boolean enableMemoryBudget = memoryBudget != null && Boolean.parseBoolean(String.valueOf(memoryBudget));
+        initializationOptions.setEnableMemoryBudget(enableMemoryBudget);
+
         return initializationOptions;
     }
 
@@ -226,6 +230,7 @@ public class LSClientCapabilitiesImpl implements LSClientCapabilities {
         private boolean enableInlayHints = false;
         private boolean enableIndexPackages = false;
         private boolean enableMemoryUsageMonitor = false;
+        private boolean enableMemoryBudget = false;
 
         @Override
         public boolean isBalaSchemeSupported() {
@@ -297,5 +302,14 @@ public class LSClientCapabilitiesImpl implements LSClientCapabilities {
         public void setEnableMemoryUsageMonitor(boolean enableMemoryUsageMonitor) {
             this.enableMemoryUsageMonitor = enableMemoryUsageMonitor;
         }
+
+        @Override
+        public boolean isEnableMemoryBudget() {
+            return enableMemoryBudget;
+        }
+
+        public void setEnableMemoryBudget(boolean enableMemoryBudget) {
+            this.enableMemoryBudget = enableMemoryBudget;
+        }
     }
 }
@@ -44,6 +44,8 @@ public enum LSContextOperation implements LSOperation {
     TXT_IMPL("text/implementation"),
     TXT_FOLDING_RANGE("text/foldingRange"),
     TXT_SEMANTIC_TOKENS_FULL("text/semanticTokens/full"),
+    TXT_SEMANTIC_TOKENS_FULL_DELTA("text/semanticTokens/full/delta"),
+    TXT_SEMANTIC_TOKENS_RANGE("text/semanticTokens/range"),
     WS_SYMBOL("workspace/symbol"),
     WS_EXEC_CMD("workspace/executeCommand"),
     WS_WF_CHANGED("workspace/didChangeWatchedFiles"),
@@ -0,0 +1,217 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.langserver;
+
+import org.ballerinalang.langserver.commons.LSOperation;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+/**
+ * Schedules the language server requests on a pool of worker threads.
+ * <p>
+ * Requests are executed in the order of their priority, so that latency-sensitive requests such as completion and
+ * hover are not queued behind background requests such as code lenses and semantic tokens. Requests that are made
+ * for a document are cancelled once the document is changed, since their results are outdated by then. The queueing
+ * and execution times of the requests are recorded per operation.
+ *
+ * @since 2201.11.0
+ */
+public class LSRequestScheduler {
+
+    private static final LanguageServerContext.Key<LSRequestScheduler> REQUEST_SCHEDULER_KEY =
+            new LanguageServerContext.Key<>();
+
+    private final ThreadPoolExecutor executor;
+    private final LSClientLogger clientLogger;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, Set<CompletableFuture<?>>> pendingRequests = new ConcurrentHashMap<>();
+    private final Map<String, RequestStats> requestStats = new ConcurrentHashMap<>();
+
+    /**
+     * Priority of a request. Requests with a higher priority are executed first.
+     */
+    public enum Priority {
+        INTERACTIVE,
+        BACKGROUND
+    }
+
+    public static LSRequestScheduler getInstance(LanguageServerContext serverContext) {
+        LSRequestScheduler requestScheduler = serverContext.get(REQUEST_SCHEDULER_KEY);
+        if (requestScheduler == null) {
+            requestScheduler = new LSRequestScheduler(serverContext,
+                    Math.max(2, Runtime.getRuntime().availableProcessors() - 1));
+        }
+        return requestScheduler;
+    }
+
+    public LSRequestScheduler(LanguageServerContext serverContext, int threadCount) {
+        serverContext.put(REQUEST_SCHEDULER_KEY, this);
+        this.clientLogger = LSClientLogger.getInstance(serverContext);
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threadCount, threadCount, 0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(11, Comparator.comparing(runnable -> (ScheduledRequest) runnable)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ls-request-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Schedules the given request.
+     *
+     * @param documentUri URI of the document the request is made for, or null if the request should not be cancelled
+     *                    when a document changes
+     * @param operation   operation of the request
+     * @param priority    priority of the request
+     * @param request     request to execute, which should check the given cancel checker in between steps
+     * @param <T>         type of the result
+     * @return future of the result, which can also be used to cancel the request
+     */
+    public <T> CompletableFuture<T> schedule(@Nullable String documentUri, LSOperation operation, Priority priority,
+                                             Function<CancelChecker, T> request) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        if (documentUri != null) {
+            Set<CompletableFuture<?>> documentRequests =
+                    pendingRequests.computeIfAbsent(documentUri, uri -> ConcurrentHashMap.newKeySet());
+            documentRequests.add(result);
+            result.whenComplete((value, throwable) -> documentRequests.remove(result));
+        }
+
+        CancelChecker cancelChecker = new CompletableFutures.FutureCancelChecker(result);
+        long scheduledTime = System.nanoTime();
+        executor.execute(new ScheduledRequest(priority, sequence.getAndIncrement(), () -> {
+            long startTime = System.nanoTime();
+            // Requests cancelled while waiting in the queue are not executed at all
+            if (!result.isDone()) {
+                try {
+                    result.complete(request.apply(cancelChecker));
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            }
+            recordStats(operation, startTime - scheduledTime, System.nanoTime() - startTime, result.isCancelled());
+        }));
+        return result;
+    }
+
+    /**
+     * Cancels the requests made for the given document that are not completed yet.
+     *
+     * @param documentUri URI of the changed document
+     */
+    public void cancelOutdatedRequests(String documentUri) {
+        Set<CompletableFuture<?>> documentRequests = pendingRequests.get(documentUri);
+        if (documentRequests == null) {
+            return;
+        }
+        for (CompletableFuture<?> documentRequest : documentRequests) {
+            documentRequest.cancel(true);
+        }
+    }
+
+    /**
+     * Returns the timing statistics of the requests, keyed by the operation name.
+     *
+     * @return request statistics
+     */
+    public Map<String, RequestStats> requestStats() {
+        return Collections.unmodifiableMap(requestStats);
+    }
+
+    private void recordStats(LSOperation operation, long queuedTime, long executionTime, boolean cancelled) {
+        requestStats.computeIfAbsent(operation.getName(), name -> new RequestStats())
+                .record(queuedTime, executionTime, cancelled);
+        clientLogger.logTrace("Operation '" + operation.getName() + "' " + (cancelled ? "cancelled" : "completed") +
+                " in " + TimeUnit.NANOSECONDS.toMillis(executionTime) + "ms after waiting " +
+                TimeUnit.NANOSECONDS.toMillis(queuedTime) + "ms in the queue");
+    }
+
+    /**
+     * Timing statistics of the requests of an operation.
+     */
+    public static class RequestStats {
+
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong cancelledCount = new AtomicLong();
+        private final AtomicLong totalQueuedTime = new AtomicLong();
+        private final AtomicLong totalExecutionTime = new AtomicLong();
+        private final AtomicLong maxExecutionTime = new AtomicLong();
+
+        private void record(long queuedTime, long executionTime, boolean cancelled) {
+            count.incrementAndGet();
+            if (cancelled) {
+                cancelledCount.incrementAndGet();
+            }
+            totalQueuedTime.addAndGet(queuedTime);
+            totalExecutionTime.addAndGet(executionTime);
+            maxExecutionTime.accumulateAndGet(executionTime, Math::max);
+        }
+
+        public long count() {
+            return count.get();
+        }
+
+        public long cancelledCount() {
+            return cancelledCount.get();
+        }
+
+        public long totalQueuedTimeNanos() {
+            return totalQueuedTime.get();
+        }
+
+        public long totalExecutionTimeNanos() {
+            return totalExecutionTime.get();
+        }
+
+        public long maxExecutionTimeNanos() {
+            return maxExecutionTime.get();
+        }
+    }
+
+    private record ScheduledRequest(Priority priority, long sequence, Runnable task)
+            implements Runnable, Comparable<ScheduledRequest> {
+
+        @Override
+        public void run() {
+            task.run();
+        }
+
+        @Override
+        public int compareTo(ScheduledRequest other) {
+            int result = priority.compareTo(other.priority);
+            // Requests of the same priority are executed in the order they are made
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package org.ballerinalang.langserver;
 
 import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
 import org.eclipse.lsp4j.MessageParams;
 import org.eclipse.lsp4j.MessageType;
 import org.eclipse.lsp4j.services.LanguageClient;
@@ -23,15 +24,24 @@ import org.eclipse.lsp4j.services.LanguageClient;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
 import java.lang.management.MemoryUsage;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Monitors the memory usage and notifies the user if the memory usage is high.
+ * <p>
+ * When the memory budget is enabled, the compilations of the least recently used projects are evicted whenever the
+ * heap usage exceeds the budget.
  *
  * @since 2201.9.0
  */
 public class MemoryUsageMonitor {
 
+    private static final double MEMORY_BUDGET_RATIO = 0.75;
+    private static final long MEMORY_BUDGET_CHECK_INTERVAL = 10000;
+
     private final MemoryMXBean memoryMXBean;
+    private final AtomicLong evictionCount = new AtomicLong();
+    private volatile boolean memoryBudgetEnabled;
     public MemoryUsageMonitor(MemoryMXBean memoryMXBean) {
         this.memoryMXBean = memoryMXBean;
     }
@@ -76,4 +86,69 @@ public class MemoryUsageMonitor {
         usageMonitor.setDaemon(true);
         usageMonitor.start();
     }
+
+    /**
+     * Starts evicting the compilations of the least recently used projects of the given workspace, whenever the heap
+     * usage exceeds the memory budget. One project is evicted at a time, so that the heap usage is checked again after
+     * the memory of the evicted project is reclaimed.
+     *
+     * @param workspaceManager workspace manager to evict the projects of
+     */
+    public void startMemoryBudget(BallerinaWorkspaceManager workspaceManager) {
+        this.memoryBudgetEnabled = true;
+        Thread budgetMonitor = new Thread(() -> {
+            while (true) {
+                try {
+                    MemoryUsage heapMemoryUsage = memoryMXBean.getHeapMemoryUsage();
+                    if (heapMemoryUsage == null) {
+                        return;
+                    }
+                    long memoryBudget = memoryBudget(heapMemoryUsage);
+                    if (memoryBudget > 0 && heapMemoryUsage.getUsed() >= memoryBudget
+                            && workspaceManager.evictLeastRecentlyUsedCompilation()) {
+                        evictionCount.incrementAndGet();
+                    }
+                    Thread.sleep(MEMORY_BUDGET_CHECK_INTERVAL);
+                } catch (InterruptedException e) {
+                    // ignore
+                }
+            }
+        });
+        budgetMonitor.setDaemon(true);
+        budgetMonitor.start();
+    }
+
+    /**
+     * Returns the current heap memory usage.
+     *
+     * @return heap memory usage
+     */
+    public MemoryUsage heapMemoryUsage() {
+        return memoryMXBean.getHeapMemoryUsage();
+    }
+
+    /**
+     * Returns the amount of heap memory the language server tries to stay within, or -1 if the maximum heap size is
+     * not defined.
+     *
+     * @param heapMemoryUsage heap memory usage
+     * @return memory budget in bytes
+     */
+    public long memoryBudget(MemoryUsage heapMemoryUsage) {
+        long maxMemory = heapMemoryUsage.getMax();
+        return maxMemory > 0 ? (long) (maxMemory * MEMORY_BUDGET_RATIO) : -1;
+    }
+
+    public boolean isMemoryBudgetEnabled() {
+        return memoryBudgetEnabled;
+    }
+
+    /**
+     * Returns the number of project compilations evicted to stay within the memory budget.
+     *
+     * @return eviction count
+     */
+    public long evictionCount() {
+        return evictionCount.get();
+    }
 }
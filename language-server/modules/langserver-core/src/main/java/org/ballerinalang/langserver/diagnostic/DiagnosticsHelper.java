@@ -20,6 +20,7 @@ import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectKind;
 import io.ballerina.tools.text.LineRange;
 import org.ballerinalang.langserver.LSContextOperation;
+import org.ballerinalang.langserver.LSRequestScheduler;
 import org.ballerinalang.langserver.command.CommandUtil;
 import org.ballerinalang.langserver.common.utils.PathUtil;
 import org.ballerinalang.langserver.commons.DocumentServiceContext;
@@ -65,6 +66,7 @@ public class DiagnosticsHelper {
     private final Map<Path, Map<String, List<Diagnostic>>> lastDiagnosticMap;
     private CompletableFuture<Boolean> latestScheduled = null;
     private final Deque<String> cyclicDependencyErrors;
+    private final LSRequestScheduler requestScheduler;
 
     public static DiagnosticsHelper getInstance(LanguageServerContext serverContext) {
         DiagnosticsHelper diagnosticsHelper = serverContext.get(DIAGNOSTICS_HELPER_KEY);
@@ -79,6 +81,7 @@ public class DiagnosticsHelper {
         serverContext.put(DIAGNOSTICS_HELPER_KEY, this);
         this.lastDiagnosticMap = new HashMap<>();
         this.cyclicDependencyErrors = new ConcurrentLinkedDeque<>();
+        this.requestScheduler = LSRequestScheduler.getInstance(serverContext);
     }
 
     /**
@@ -260,8 +263,11 @@ public class DiagnosticsHelper {
         Executor delayedExecutor = CompletableFuture.delayedExecutor(DIAGNOSTIC_DELAY, TimeUnit.SECONDS);
         CompletableFuture<Boolean> scheduledFuture = CompletableFuture.supplyAsync(() -> true, delayedExecutor);
         latestScheduled = scheduledFuture;
+        // Compilation for the diagnostics is run in the background, so that it does not delay the interactive requests
         scheduledFuture
-                .thenApplyAsync((bool) -> workspaceManager.waitAndGetPackageCompilation(projectRoot))
+                .thenCompose((bool) -> requestScheduler.schedule(null, LSContextOperation.DIAGNOSTICS,
+                        LSRequestScheduler.Priority.BACKGROUND,
+                        (cancelChecker) -> workspaceManager.waitAndGetPackageCompilation(projectRoot)))
                 .thenAccept(compilation ->
                         compilation.ifPresent(pkgCompilation ->
                                 compileAndSendDiagnostics(client, projectRoot, pkgCompilation, workspaceManager)));
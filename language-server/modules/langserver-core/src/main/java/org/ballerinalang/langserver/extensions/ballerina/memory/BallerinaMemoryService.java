@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.langserver.extensions.ballerina.memory;
+
+import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.MemoryUsageMonitor;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManagerProxy;
+import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
+import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
+import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
+import org.eclipse.lsp4j.services.LanguageServer;
+
+import java.lang.management.MemoryUsage;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Ballerina memory service, which exposes the memory usage of the language server.
+ *
+ * @since 2201.11.0
+ */
+@JavaSPIService("org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService")
+@JsonSegment("ballerinaMemory")
+public class BallerinaMemoryService implements ExtendedLanguageServerService {
+
+    private WorkspaceManagerProxy workspaceManagerProxy;
+    private LanguageServerContext serverContext;
+
+    @Override
+    public void init(LanguageServer langServer, WorkspaceManagerProxy workspaceManagerProxy,
+                     LanguageServerContext serverContext) {
+        this.workspaceManagerProxy = workspaceManagerProxy;
+        this.serverContext = serverContext;
+    }
+
+    @JsonRequest
+    public CompletableFuture<MemoryUsageResponse> usage() {
+        return CompletableFuture.supplyAsync(() -> {
+            MemoryUsageMonitor memoryUsageMonitor = MemoryUsageMonitor.getInstance(this.serverContext);
+            MemoryUsageResponse response = new MemoryUsageResponse();
+            MemoryUsage heapMemoryUsage = memoryUsageMonitor.heapMemoryUsage();
+            response.setHeapUsed(heapMemoryUsage.getUsed());
+            response.setHeapCommitted(heapMemoryUsage.getCommitted());
+            response.setHeapMax(heapMemoryUsage.getMax());
+            response.setMemoryBudgetEnabled(memoryUsageMonitor.isMemoryBudgetEnabled());
+            response.setMemoryBudget(memoryUsageMonitor.memoryBudget(heapMemoryUsage));
+            response.setEvictionCount(memoryUsageMonitor.evictionCount());
+
+            WorkspaceManager workspaceManager = this.workspaceManagerProxy.get();
+            if (workspaceManager instanceof BallerinaWorkspaceManager ballerinaWorkspaceManager) {
+                response.setLoadedProjects(ballerinaWorkspaceManager.loadedProjectCount());
+                response.setEvictedProjects(ballerinaWorkspaceManager.evictedProjectCount());
+            }
+            return response;
+        });
+    }
+
+    @Override
+    public Class<?> getRemoteInterface() {
+        return getClass();
+    }
+}
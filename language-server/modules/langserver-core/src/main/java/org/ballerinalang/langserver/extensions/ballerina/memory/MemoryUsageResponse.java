@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.langserver.extensions.ballerina.memory;
+
+/**
+ * Represents the memory usage of the language server.
+ *
+ * @since 2201.11.0
+ */
+public class MemoryUsageResponse {
+
+    private long heapUsed;
+
+    private long heapCommitted;
+
+    private long heapMax;
+
+    private boolean memoryBudgetEnabled;
+
+    private long memoryBudget;
+
+    private int loadedProjects;
+
+    private int evictedProjects;
+
+    private long evictionCount;
+
+    public long getHeapUsed() {
+        return heapUsed;
+    }
+
+    public void setHeapUsed(long heapUsed) {
+        this.heapUsed = heapUsed;
+    }
+
+    public long getHeapCommitted() {
+        return heapCommitted;
+    }
+
+    public void setHeapCommitted(long heapCommitted) {
+        this.heapCommitted = heapCommitted;
+    }
+
+    public long getHeapMax() {
+        return heapMax;
+    }
+
+    public void setHeapMax(long heapMax) {
+        this.heapMax = heapMax;
+    }
+
+    public boolean isMemoryBudgetEnabled() {
+        return memoryBudgetEnabled;
+    }
+
+    public void setMemoryBudgetEnabled(boolean memoryBudgetEnabled) {
+        this.memoryBudgetEnabled = memoryBudgetEnabled;
+    }
+
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    public void setMemoryBudget(long memoryBudget) {
+        this.memoryBudget = memoryBudget;
+    }
+
+    public int getLoadedProjects() {
+        return loadedProjects;
+    }
+
+    public void setLoadedProjects(int loadedProjects) {
+        this.loadedProjects = loadedProjects;
+    }
+
+    public int getEvictedProjects() {
+        return evictedProjects;
+    }
+
+    public void setEvictedProjects(int evictedProjects) {
+        this.evictedProjects = evictedProjects;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public void setEvictionCount(long evictionCount) {
+        this.evictionCount = evictionCount;
+    }
+}
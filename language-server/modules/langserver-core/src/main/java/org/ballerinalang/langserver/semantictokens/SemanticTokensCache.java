@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.langserver.semantictokens;
+
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.eclipse.lsp4j.SemanticTokens;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the last semantic tokens sent to the client for each document, so that the subsequent requests can be
+ * answered with the edits to those tokens.
+ *
+ * @since 2201.11.0
+ */
+public class SemanticTokensCache {
+
+    private static final LanguageServerContext.Key<SemanticTokensCache> SEMANTIC_TOKENS_CACHE_KEY =
+            new LanguageServerContext.Key<>();
+
+    private final AtomicLong resultIdCounter = new AtomicLong();
+    private final Map<String, CachedTokens> cachedTokens = new ConcurrentHashMap<>();
+
+    public static SemanticTokensCache getInstance(LanguageServerContext serverContext) {
+        SemanticTokensCache semanticTokensCache = serverContext.get(SEMANTIC_TOKENS_CACHE_KEY);
+        if (semanticTokensCache == null) {
+            semanticTokensCache = new SemanticTokensCache(serverContext);
+        }
+        return semanticTokensCache;
+    }
+
+    private SemanticTokensCache(LanguageServerContext serverContext) {
+        serverContext.put(SEMANTIC_TOKENS_CACHE_KEY, this);
+    }
+
+    /**
+     * Assigns a new result ID to the given semantic tokens and keeps them as the last result of the document.
+     *
+     * @param fileUri        URI of the document
+     * @param semanticTokens semantic tokens of the document
+     */
+    public void put(String fileUri, SemanticTokens semanticTokens) {
+        String resultId = String.valueOf(resultIdCounter.incrementAndGet());
+        semanticTokens.setResultId(resultId);
+        cachedTokens.put(fileUri, new CachedTokens(resultId, semanticTokens.getData()));
+    }
+
+    /**
+     * Returns the semantic token data of the document, if they are the last result sent with the given result ID.
+     *
+     * @param fileUri  URI of the document
+     * @param resultId result ID of the semantic tokens
+     * @return semantic token data
+     */
+    public Optional<List<Integer>> get(String fileUri, String resultId) {
+        CachedTokens tokens = cachedTokens.get(fileUri);
+        if (tokens == null || !tokens.resultId().equals(resultId)) {
+            return Optional.empty();
+        }
+        return Optional.of(tokens.data());
+    }
+
+    /**
+     * Removes the last result of the document.
+     *
+     * @param fileUri URI of the document
+     */
+    public void remove(String fileUri) {
+        cachedTokens.remove(fileUri);
+    }
+
+    private record CachedTokens(String resultId, List<Integer> data) {
+    }
+}
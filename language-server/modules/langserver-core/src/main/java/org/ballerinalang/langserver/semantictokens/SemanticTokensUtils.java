@@ -19,16 +19,21 @@ import io.ballerina.projects.Document;
 import org.ballerinalang.langserver.common.utils.PathUtil;
 import org.ballerinalang.langserver.commons.SemanticTokensContext;
 import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.Registration;
 import org.eclipse.lsp4j.RegistrationParams;
 import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensDelta;
+import org.eclipse.lsp4j.SemanticTokensEdit;
 import org.eclipse.lsp4j.SemanticTokensLegend;
 import org.eclipse.lsp4j.SemanticTokensServerFull;
 import org.eclipse.lsp4j.SemanticTokensWithRegistrationOptions;
 import org.eclipse.lsp4j.Unregistration;
 import org.eclipse.lsp4j.UnregistrationParams;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -60,8 +65,82 @@ public final class SemanticTokensUtils {
         if (document.isEmpty()) {
             return new SemanticTokens(Collections.emptyList());
         }
-        return new SemanticTokensVisitor(semanticTokensContext).getSemanticTokens(document.get().syntaxTree()
-                .rootNode());
+        SemanticTokens semanticTokens = new SemanticTokensVisitor(semanticTokensContext)
+                .getSemanticTokens(document.get().syntaxTree().rootNode());
+        SemanticTokensCache.getInstance(semanticTokensContext.languageServercontext()).put(fileUri, semanticTokens);
+        return semanticTokens;
+    }
+
+    /**
+     * Returns the edits to the semantic tokens of the given result ID, for a given context. If the semantic tokens of
+     * the result ID are no longer available, the full semantic tokens are returned instead.
+     *
+     * @param semanticTokensContext context
+     * @param previousResultId      result ID of the semantic tokens the client has
+     * @return {@link SemanticTokens} or {@link SemanticTokensDelta}
+     */
+    public static Either<SemanticTokens, SemanticTokensDelta> getSemanticTokensDelta(
+            SemanticTokensContext semanticTokensContext, String previousResultId) {
+        Optional<List<Integer>> previousData = SemanticTokensCache
+                .getInstance(semanticTokensContext.languageServercontext())
+                .get(semanticTokensContext.fileUri(), previousResultId);
+        SemanticTokens semanticTokens = getSemanticTokens(semanticTokensContext);
+        if (previousData.isEmpty() || semanticTokens.getResultId() == null) {
+            return Either.forLeft(semanticTokens);
+        }
+        return Either.forRight(new SemanticTokensDelta(computeEdits(previousData.get(), semanticTokens.getData()),
+                semanticTokens.getResultId()));
+    }
+
+    /**
+     * Returns the semantic tokens within the given range, for a given context. Only the parts of the syntax tree that
+     * overlap with the range are visited.
+     *
+     * @param semanticTokensContext context
+     * @param range                 range to return the semantic tokens of
+     * @return {@link SemanticTokens}
+     */
+    public static SemanticTokens getSemanticTokens(SemanticTokensContext semanticTokensContext, Range range) {
+        Optional<Path> filePath = PathUtil.getPathFromURI(semanticTokensContext.fileUri());
+        if (filePath.isEmpty()) {
+            return new SemanticTokens(Collections.emptyList());
+        }
+        Optional<Document> document = semanticTokensContext.currentDocument();
+        if (document.isEmpty()) {
+            return new SemanticTokens(Collections.emptyList());
+        }
+        return new SemanticTokensVisitor(semanticTokensContext, range)
+                .getSemanticTokens(document.get().syntaxTree().rootNode());
+    }
+
+    /**
+     * Computes the edits that transform the previous semantic token data to the current data. Since an edit to a
+     * document usually changes a single region, the data is compared from both ends and the differing part in the
+     * middle is replaced with a single edit.
+     *
+     * @param previousData previous semantic token data
+     * @param currentData  current semantic token data
+     * @return edits to the previous data
+     */
+    static List<SemanticTokensEdit> computeEdits(List<Integer> previousData, List<Integer> currentData) {
+        int prefixLength = 0;
+        int maxLength = Math.min(previousData.size(), currentData.size());
+        while (prefixLength < maxLength && previousData.get(prefixLength).equals(currentData.get(prefixLength))) {
+            prefixLength++;
+        }
+        if (prefixLength == previousData.size() && prefixLength == currentData.size()) {
+            return Collections.emptyList();
+        }
+
+        int suffixLength = 0;
+        while (suffixLength < maxLength - prefixLength && previousData.get(previousData.size() - suffixLength - 1)
+                .equals(currentData.get(currentData.size() - suffixLength - 1))) {
+            suffixLength++;
+        }
+        List<Integer> insertedData =
+                new ArrayList<>(currentData.subList(prefixLength, currentData.size() - suffixLength));
+        return List.of(new SemanticTokensEdit(prefixLength, previousData.size() - suffixLength - prefixLength,
+                insertedData));
     }
 
     /**
@@ -93,7 +172,8 @@ public final class SemanticTokensUtils {
      */
     public static SemanticTokensWithRegistrationOptions getSemanticTokensRegistrationOptions() {
         SemanticTokensLegend semanticTokensLegend = new SemanticTokensLegend(getTokenTypes(), getTokenTypeModifiers());
-        return new SemanticTokensWithRegistrationOptions(semanticTokensLegend, new SemanticTokensServerFull(false));
+        return new SemanticTokensWithRegistrationOptions(semanticTokensLegend, new SemanticTokensServerFull(true),
+                true);
     }
 
     /**
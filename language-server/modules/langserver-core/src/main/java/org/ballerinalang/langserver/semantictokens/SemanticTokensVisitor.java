@@ -48,6 +48,7 @@ import io.ballerina.compiler.syntax.tree.MethodDeclarationNode;
 import io.ballerina.compiler.syntax.tree.NamedArgumentNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
 import io.ballerina.compiler.syntax.tree.ObjectFieldNode;
 import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.RecordFieldNode;
@@ -69,14 +70,18 @@ import io.ballerina.tools.text.LineRange;
 import org.ballerinalang.langserver.commons.SemanticTokensContext;
 import org.ballerinalang.langserver.commons.SemanticTokensContext.TokenTypeModifiers;
 import org.ballerinalang.langserver.commons.SemanticTokensContext.TokenTypes;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.SemanticTokens;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
 
 /**
@@ -89,10 +94,19 @@ public class SemanticTokensVisitor extends NodeVisitor {
     // Sorted tree of semantic tokens
     private final Set<SemanticToken> semanticTokens;
     private final SemanticTokensContext semanticTokensContext;
+    // Range to collect the semantic tokens of, or null to collect the tokens of the whole document
+    private final Range range;
+    // Whether only the declarations of the visited nodes are processed, skipping their subtrees
+    private boolean visitingDeclarations;
 
     public SemanticTokensVisitor(SemanticTokensContext semanticTokensContext) {
+        this(semanticTokensContext, null);
+    }
+
+    public SemanticTokensVisitor(SemanticTokensContext semanticTokensContext, Range range) {
         this.semanticTokens = new TreeSet<>(SemanticToken.semanticTokenComparator);
         this.semanticTokensContext = semanticTokensContext;
+        this.range = range;
     }
 
     /**
@@ -104,14 +118,111 @@ public class SemanticTokensVisitor extends NodeVisitor {
      */
     public SemanticTokens getSemanticTokens(Node node) {
         List<Integer> data = new ArrayList<>();
+        if (this.range != null && node instanceof NonTerminalNode rootNode) {
+            visitDeclarationsBeforeRange(rootNode);
+        }
         visitSyntaxNode(node);
         SemanticToken previousToken = null;
         for (SemanticToken semanticToken : this.semanticTokens) {
+            // References of the visited declarations can be outside the range
+            if (this.range != null && !isWithinRange(semanticToken)) {
+                continue;
+            }
             previousToken = semanticToken.processSemanticToken(data, previousToken);
         }
         return new SemanticTokens(data);
     }
 
+    @Override
+    protected void visitSyntaxNode(Node node) {
+        if (this.visitingDeclarations) {
+            return;
+        }
+        if (this.range == null || node instanceof Token) {
+            super.visitSyntaxNode(node);
+            return;
+        }
+
+        // Skip the subtrees that do not overlap with the range
+        for (Node child : ((NonTerminalNode) node).children()) {
+            if (overlapsRange(child)) {
+                child.accept(this);
+            }
+        }
+    }
+
+    /**
+     * Visits the declarations that are before the range, of the symbols referred to within the range. A declaration
+     * sets the type and modifiers of its references when it is visited, but the declarations outside the range are
+     * skipped in range mode. Hence, these declarations are located through the semantic model and visited in the
+     * order of the document, without visiting their subtrees.
+     *
+     * @param rootNode Root node
+     */
+    private void visitDeclarationsBeforeRange(NonTerminalNode rootNode) {
+        Optional<SemanticModel> semanticModel = this.semanticTokensContext.currentSemanticModel();
+        Optional<Document> document = this.semanticTokensContext.currentDocument();
+        if (semanticModel.isEmpty() || document.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, NonTerminalNode> declarations = new TreeMap<>();
+        collectDeclarationsBeforeRange(rootNode, rootNode, semanticModel.get(), document.get(), declarations);
+        this.visitingDeclarations = true;
+        try {
+            declarations.values().forEach(declaration -> declaration.accept(this));
+        } finally {
+            this.visitingDeclarations = false;
+        }
+    }
+
+    private void collectDeclarationsBeforeRange(Node node, NonTerminalNode rootNode, SemanticModel semanticModel,
+                                                Document document, Map<Integer, NonTerminalNode> declarations) {
+        if (!(node instanceof Token token)) {
+            for (Node child : ((NonTerminalNode) node).children()) {
+                if (overlapsRange(child)) {
+                    collectDeclarationsBeforeRange(child, rootNode, semanticModel, document, declarations);
+                }
+            }
+            return;
+        }
+        if (token.kind() != SyntaxKind.IDENTIFIER_TOKEN) {
+            return;
+        }
+
+        Optional<Location> location = semanticModel.symbol(document, token.lineRange().startLine())
+                .flatMap(Symbol::getLocation);
+        if (location.isEmpty() || !location.get().lineRange().fileName().equals(document.name()) ||
+                location.get().lineRange().startLine().line() >= this.range.getStart().getLine()) {
+            return;
+        }
+        NonTerminalNode declaration = rootNode.findNode(location.get().textRange(), true);
+        if (declaration.kind() == SyntaxKind.IMPORT_PREFIX) {
+            declaration = declaration.parent();
+        }
+        // Declarations that overlap with the range are visited along with the range
+        if (!overlapsRange(declaration)) {
+            declarations.putIfAbsent(declaration.textRange().startOffset(), declaration);
+        }
+    }
+
+    private boolean overlapsRange(Node node) {
+        LineRange lineRange = node.lineRange();
+        return lineRange.endLine().line() >= this.range.getStart().getLine() &&
+                lineRange.startLine().line() <= this.range.getEnd().getLine();
+    }
+
+    private boolean isWithinRange(SemanticToken semanticToken) {
+        Position start = this.range.getStart();
+        Position end = this.range.getEnd();
+        int line = semanticToken.getLine();
+        int column = semanticToken.getColumn();
+        if (line < start.getLine() || (line == start.getLine() && column < start.getCharacter())) {
+            return false;
+        }
+        return line < end.getLine() || (line == end.getLine() && column < end.getCharacter());
+    }
+
     @Override
     public void visit(ImportDeclarationNode importDeclarationNode) {
         Optional<ImportPrefixNode> importPrefixNode = importDeclarationNode.prefix();
@@ -75,6 +75,7 @@ import org.eclipse.lsp4j.RenameCapabilities;
 import org.eclipse.lsp4j.RenameParams;
 import org.eclipse.lsp4j.SemanticTokensCapabilities;
 import org.eclipse.lsp4j.SemanticTokensParams;
+import org.eclipse.lsp4j.SemanticTokensRangeParams;
 import org.eclipse.lsp4j.SignatureHelpCapabilities;
 import org.eclipse.lsp4j.SignatureHelpParams;
 import org.eclipse.lsp4j.SignatureInformationCapabilities;
@@ -164,6 +165,8 @@ public final class TestUtil {
 
     private static final String SEMANTIC_TOKENS_FULL = "textDocument/semanticTokens/full";
 
+    private static final String SEMANTIC_TOKENS_RANGE = "textDocument/semanticTokens/range";
+
     private static final Gson GSON = new Gson();
 
     private TestUtil() {
@@ -514,6 +517,20 @@ public final class TestUtil {
         return getResponseString(serviceEndpoint.request(SEMANTIC_TOKENS_FULL, semanticTokensParams));
     }
 
+    /**
+     * Returns semanticTokensRange API response.
+     *
+     * @param serviceEndpoint Language Server Service endpoint
+     * @param filePath        File path to evaluate semantic tokens
+     * @param range           Range to evaluate semantic tokens
+     * @return {@link String} Semantic tokens response of the range
+     */
+    public static String getSemanticTokensRangeResponse(Endpoint serviceEndpoint, String filePath, Range range) {
+        SemanticTokensRangeParams semanticTokensRangeParams =
+                new SemanticTokensRangeParams(getTextDocumentIdentifier(filePath), range);
+        return getResponseString(serviceEndpoint.request(SEMANTIC_TOKENS_RANGE, semanticTokensRangeParams));
+    }
+
     /**
      * Open a document.
      *
@@ -89,6 +89,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -611,7 +612,14 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         if (packageCompilation.isEmpty()) {
             return Optional.empty();
         }
-        JBallerinaBackend jBallerinaBackend = execBackend(projectContext, packageCompilation.get());
+        PackageCompilation compilation = packageCompilation.get();
+        if (pkg.hasReusedModuleCompilations()) {
+            // Modules that import an edited module are kept as they are if the edit does not change the declarations
+            // of the module. Such modules are fine for editing, but the code should be generated from a fresh
+            // compilation of the whole package.
+            compilation = project.duplicate().currentPackage().getCompilation();
+        }
+        JBallerinaBackend jBallerinaBackend = execBackend(projectContext, compilation);
         Collection<Diagnostic> diagnostics = jBallerinaBackend.diagnosticResult().diagnostics(false);
         if (diagnostics.stream().anyMatch(BallerinaWorkspaceManager::isError)) {
             String msg = "Run command execution aborted due to compilation errors: " + diagnostics;
@@ -1362,7 +1370,67 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
     }
 
     private Optional<ProjectContext> projectContext(Path projectRoot) {
-        return Optional.ofNullable(sourceRootToProject.get(projectRoot));
+        ProjectContext projectContext = sourceRootToProject.get(projectRoot);
+        if (projectContext == null) {
+            return Optional.empty();
+        }
+        projectContext.markAccessed();
+        return Optional.of(projectContext);
+    }
+
+    /**
+     * Drops the compilation of the least recently used project, so that the memory held by its syntax trees, symbols
+     * and semantic models can be reclaimed. The sources of the project, including the unsaved changes, are kept and
+     * the project is compiled again when it is accessed next. The most recently used project is never evicted.
+     *
+     * @return true if the compilation of a project was dropped, false if there was no project to evict
+     */
+    public boolean evictLeastRecentlyUsedCompilation() {
+        List<ProjectContext> projectContexts = new ArrayList<>(sourceRootToProject.values());
+        projectContexts.sort(Comparator.comparingLong(ProjectContext::lastAccessTime));
+        for (int i = 0; i < projectContexts.size() - 1; i++) {
+            ProjectContext projectContext = projectContexts.get(i);
+            // Projects that are being used at the moment are not worth evicting
+            Lock lock = projectContext.locker();
+            if (projectContext.isCompilationEvicted() || !lock.tryLock()) {
+                continue;
+            }
+            Project project = projectContext.project();
+            try {
+                projectContext.setProject(project.duplicate());
+                projectContext.setCompilationEvicted(true);
+                clientLogger.logTrace("Compilation of project '" + project.sourceRoot().toUri() +
+                        "' evicted to reduce memory usage");
+                return true;
+            } catch (ProjectException e) {
+                clientLogger.logTrace("Failed to evict compilation of project '" + project.sourceRoot().toUri() +
+                        "': " + e.getMessage());
+            } finally {
+                lock.unlock();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of projects that are loaded in the workspace.
+     *
+     * @return number of loaded projects
+     */
+    public int loadedProjectCount() {
+        return sourceRootToProject.size();
+    }
+
+    /**
+     * Returns the number of projects of which the compilation was dropped to reduce memory usage and which are not
+     * accessed since then.
+     *
+     * @return number of evicted projects
+     */
+    public int evictedProjectCount() {
+        return (int) new ArrayList<>(sourceRootToProject.values()).stream()
+                .filter(ProjectContext::isCompilationEvicted)
+                .count();
     }
 
     private Optional<ProjectContext> createProjectContext(Path filePath, String operationName) {
@@ -1382,6 +1450,7 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
             BuildOptions options = BuildOptions.builder()
                     .setOffline(CommonUtil.COMPILE_OFFLINE)
                     .setSticky(true)
+                    .setIncrementalCompilation(true)
                     .build();
             if (projectKind == ProjectKind.BUILD_PROJECT) {
                 project = BuildProject.load(projectRoot, options);
@@ -1495,10 +1564,15 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
 
         private boolean projectCrashed;
 
+        private volatile long lastAccessTime;
+
+        private volatile boolean compilationEvicted;
+
         private ProjectContext(Project project, Lock lock) {
             this.project = project;
             this.lock = lock;
             this.compilationCrashed = false;
+            this.lastAccessTime = System.nanoTime();
         }
 
         public static ProjectContext from(Project project) {
@@ -1601,6 +1675,27 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         public void removeProcess() {
             this.process = null;
         }
+
+        /**
+         * Record that the project is accessed, which also means that the project will be compiled again if its
+         * compilation was evicted.
+         */
+        void markAccessed() {
+            this.lastAccessTime = System.nanoTime();
+            this.compilationEvicted = false;
+        }
+
+        long lastAccessTime() {
+            return this.lastAccessTime;
+        }
+
+        boolean isCompilationEvicted() {
+            return this.compilationEvicted;
+        }
+
+        void setCompilationEvicted(boolean compilationEvicted) {
+            this.compilationEvicted = compilationEvicted;
+        }
     }
 
     /**
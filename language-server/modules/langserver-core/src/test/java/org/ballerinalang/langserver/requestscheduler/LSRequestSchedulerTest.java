@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.langserver.requestscheduler;
+
+import org.ballerinalang.langserver.LSContextOperation;
+import org.ballerinalang.langserver.LSRequestScheduler;
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests {@link LSRequestScheduler}.
+ *
+ * @since 2201.11.0
+ */
+public class LSRequestSchedulerTest {
+
+    private static final String DOCUMENT_URI = "file:///tmp/main.bal";
+
+    @Test
+    public void testInteractiveRequestsRunFirst() throws Exception {
+        LSRequestScheduler scheduler = new LSRequestScheduler(new LanguageServerContextImpl(), 1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        List<String> executionOrder = new CopyOnWriteArrayList<>();
+
+        // Occupy the only worker so that the following requests are queued
+        CompletableFuture<Boolean> blocking = scheduler.schedule(null, LSContextOperation.TXT_HOVER,
+                LSRequestScheduler.Priority.INTERACTIVE, (cancelChecker) -> await(blocker));
+        CompletableFuture<String> codeLens = scheduler.schedule(DOCUMENT_URI, LSContextOperation.TXT_CODE_LENS,
+                LSRequestScheduler.Priority.BACKGROUND, (cancelChecker) -> record(executionOrder, "codeLens"));
+        CompletableFuture<String> semanticTokens = scheduler.schedule(DOCUMENT_URI,
+                LSContextOperation.TXT_SEMANTIC_TOKENS_FULL, LSRequestScheduler.Priority.BACKGROUND,
+                (cancelChecker) -> record(executionOrder, "semanticTokens"));
+        CompletableFuture<String> completion = scheduler.schedule(DOCUMENT_URI, LSContextOperation.TXT_COMPLETION,
+                LSRequestScheduler.Priority.INTERACTIVE, (cancelChecker) -> record(executionOrder, "completion"));
+        blocker.countDown();
+
+        CompletableFuture.allOf(blocking, codeLens, semanticTokens, completion).get(10, TimeUnit.SECONDS);
+        Assert.assertEquals(executionOrder, List.of("completion", "codeLens", "semanticTokens"));
+        Assert.assertEquals(scheduler.requestStats().get(LSContextOperation.TXT_COMPLETION.getName()).count(), 1);
+    }
+
+    @Test
+    public void testOutdatedRequestsAreCancelled() throws Exception {
+        LSRequestScheduler scheduler = new LSRequestScheduler(new LanguageServerContextImpl(), 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocker = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> running = scheduler.schedule(DOCUMENT_URI, LSContextOperation.TXT_CODE_LENS,
+                LSRequestScheduler.Priority.BACKGROUND, (cancelChecker) -> {
+                    started.countDown();
+                    await(blocker);
+                    cancelChecker.checkCanceled();
+                    return true;
+                });
+        CompletableFuture<Boolean> queued = scheduler.schedule(DOCUMENT_URI, LSContextOperation.TXT_CODE_LENS,
+                LSRequestScheduler.Priority.BACKGROUND, (cancelChecker) -> {
+                    Assert.fail("cancelled request should not be executed");
+                    return true;
+                });
+        CompletableFuture<Boolean> otherDocument = scheduler.schedule("file:///tmp/other.bal",
+                LSContextOperation.TXT_CODE_LENS, LSRequestScheduler.Priority.BACKGROUND, (cancelChecker) -> true);
+
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+        scheduler.cancelOutdatedRequests(DOCUMENT_URI);
+        blocker.countDown();
+
+        Assert.assertTrue(running.isCancelled());
+        Assert.assertTrue(queued.isCancelled());
+        Assert.assertTrue(otherDocument.get(10, TimeUnit.SECONDS));
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String record(List<String> executionOrder, String request) {
+        executionOrder.add(request);
+        return request;
+    }
+}
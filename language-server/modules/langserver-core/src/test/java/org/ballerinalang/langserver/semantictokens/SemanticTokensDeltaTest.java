@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.langserver.semantictokens;
+
+import org.eclipse.lsp4j.SemanticTokensEdit;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests computing the edits of the semantic tokens delta.
+ *
+ * @since 2201.11.0
+ */
+public class SemanticTokensDeltaTest {
+
+    @Test(dataProvider = "semantictokens-delta-data-provider")
+    public void testComputeEdits(List<Integer> previousData, List<Integer> currentData) {
+        List<SemanticTokensEdit> edits = SemanticTokensUtils.computeEdits(previousData, currentData);
+        Assert.assertTrue(edits.size() <= 1);
+
+        List<Integer> editedData = new ArrayList<>(previousData);
+        for (SemanticTokensEdit edit : edits) {
+            editedData.subList(edit.getStart(), edit.getStart() + edit.getDeleteCount()).clear();
+            editedData.addAll(edit.getStart(), edit.getData());
+        }
+        Assert.assertEquals(editedData, currentData);
+    }
+
+    @Test
+    public void testUnchangedTokensHaveNoEdits() {
+        List<Integer> data = List.of(0, 4, 3, 11, 1, 2, 8, 5, 8, 1);
+        Assert.assertTrue(SemanticTokensUtils.computeEdits(data, new ArrayList<>(data)).isEmpty());
+    }
+
+    @Test
+    public void testEditCoversOnlyChangedTokens() {
+        List<Integer> previousData = List.of(0, 4, 3, 11, 1, 2, 8, 5, 8, 1, 1, 4, 5, 8, 0);
+        List<Integer> currentData = List.of(0, 4, 3, 11, 1, 2, 8, 7, 8, 1, 1, 4, 5, 8, 0);
+        List<SemanticTokensEdit> edits = SemanticTokensUtils.computeEdits(previousData, currentData);
+        Assert.assertEquals(edits.size(), 1);
+        Assert.assertEquals(edits.get(0).getStart(), 7);
+        Assert.assertEquals(edits.get(0).getDeleteCount(), 1);
+        Assert.assertEquals(edits.get(0).getData(), List.of(7));
+    }
+
+    @DataProvider(name = "semantictokens-delta-data-provider")
+    public Object[][] getDataProvider() {
+        return new Object[][]{
+                {List.of(), List.of(0, 4, 3, 11, 1)},
+                {List.of(0, 4, 3, 11, 1), List.of()},
+                {List.of(0, 4, 3, 11, 1), List.of(0, 4, 3, 11, 1, 2, 8, 5, 8, 1)},
+                {List.of(0, 4, 3, 11, 1, 2, 8, 5, 8, 1), List.of(2, 8, 5, 8, 1)},
+                {List.of(0, 4, 3, 11, 1, 2, 8, 5, 8, 1), List.of(0, 4, 3, 11, 1, 1, 2, 3, 9, 0, 2, 8, 5, 8, 1)},
+                {List.of(1, 1, 1, 1, 1), List.of(1, 1, 1, 1, 1, 1, 1, 1, 1, 1)},
+        };
+    }
+}
@@ -4,6 +4,8 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonParser;
 import org.ballerinalang.langserver.util.FileUtils;
 import org.ballerinalang.langserver.util.TestUtil;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.jsonrpc.Endpoint;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
@@ -49,6 +51,47 @@ public class SemanticTokensTest {
         compareResponse(expected, response);
     }
 
+    @Test(description = "Test semantic tokens of a range", dataProvider = "semantictokens-range-data-provider")
+    public void semanticTokensRangeTestCase(String[] filePaths, Range range) throws IOException {
+        Path sourcePath = RESOURCE_ROOT.resolve(CONFIG);
+        for (String file : filePaths) {
+            sourcePath = sourcePath.resolve(file);
+        }
+        TestUtil.openDocument(serviceEndpoint, sourcePath);
+        String fullResponse = TestUtil.getSemanticTokensResponse(serviceEndpoint,
+                sourcePath.toAbsolutePath().toString());
+        String rangeResponse = TestUtil.getSemanticTokensRangeResponse(serviceEndpoint,
+                sourcePath.toAbsolutePath().toString(), range);
+        TestUtil.closeDocument(serviceEndpoint, sourcePath);
+
+        // The tokens of the range should be the same as the tokens of the whole document within the range
+        JsonArray fullDecoded = decodeIntArray(getData(fullResponse));
+        JsonArray expected = new JsonArray();
+        for (int i = 0; i < fullDecoded.size(); i = i + 5) {
+            if (isWithinRange(fullDecoded.get(i).getAsInt(), fullDecoded.get(i + 1).getAsInt(), range)) {
+                for (int j = i; j < i + 5; j++) {
+                    expected.add(fullDecoded.get(j));
+                }
+            }
+        }
+        Assert.assertFalse(expected.isEmpty());
+        Assert.assertEquals(decodeIntArray(getData(rangeResponse)), expected,
+                "SemanticTokensTest fails for the range " + range + ".");
+    }
+
+    private static JsonArray getData(String response) {
+        return JsonParser.parseString(response).getAsJsonObject().getAsJsonObject(RESULT).getAsJsonArray(DATA);
+    }
+
+    private static boolean isWithinRange(int line, int column, Range range) {
+        Position start = range.getStart();
+        Position end = range.getEnd();
+        if (line < start.getLine() || (line == start.getLine() && column < start.getCharacter())) {
+            return false;
+        }
+        return line < end.getLine() || (line == end.getLine() && column < end.getCharacter());
+    }
+
     /**
      * Compares actual response and expected response.
      *
@@ -128,4 +171,20 @@ public class SemanticTokensTest {
                 {new String[]{"single-file", "record.bal"}, "record_expected.json"}
         };
     }
+
+    @DataProvider(name = "semantictokens-range-data-provider")
+    public Object[][] getRangeDataProvider() {
+        return new Object[][]{
+                // Body of a function, referring to the declarations above it
+                {new String[]{"single-file", "range.bal"}, new Range(new Position(25, 0), new Position(34, 0))},
+                // Statements referring to parameters and local variables declared outside the range
+                {new String[]{"single-file", "range.bal"}, new Range(new Position(29, 4), new Position(33, 30))},
+                // Methods of a class referring to the fields of the class
+                {new String[]{"single-file", "range.bal"}, new Range(new Position(11, 0), new Position(17, 0))},
+                // Whole document
+                {new String[]{"single-file", "range.bal"}, new Range(new Position(0, 0), new Position(37, 0))},
+                {new String[]{"single-file", "main.bal"}, new Range(new Position(60, 0), new Position(80, 0))},
+                {new String[]{"single-file", "main.bal"}, new Range(new Position(84, 0), new Position(115, 0))},
+        };
+    }
 }
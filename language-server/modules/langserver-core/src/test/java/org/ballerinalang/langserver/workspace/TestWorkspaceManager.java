@@ -167,6 +167,33 @@ public class TestWorkspaceManager {
         Assert.assertEquals(document.get().syntaxTree().textDocument().toString(), dummyDidChangeContent);
     }
 
+    @Test
+    public void testEvictLeastRecentlyUsedCompilation() throws WorkspaceDocumentException {
+        Path singleFile = RESOURCE_DIRECTORY.resolve("single-file").resolve("main.bal").toAbsolutePath();
+        Path projectFile = RESOURCE_DIRECTORY.resolve("myproject").resolve("main.bal").toAbsolutePath();
+        openFile(singleFile);
+        openFile(projectFile);
+        Path singleFileRoot = workspaceManager.projectRoot(singleFile);
+        Assert.assertTrue(workspaceManager.waitAndGetPackageCompilation(singleFile).isPresent());
+        Assert.assertTrue(workspaceManager.waitAndGetPackageCompilation(projectFile).isPresent());
+
+        // The single file project is the least recently used one
+        Assert.assertTrue(workspaceManager.evictLeastRecentlyUsedCompilation());
+        Assert.assertEquals(workspaceManager.loadedProjectCount(), 2);
+        Assert.assertEquals(workspaceManager.evictedProjectCount(), 1);
+        Assert.assertTrue(workspaceManager.sourceRootToProject.get(singleFileRoot).isCompilationEvicted());
+
+        // The most recently used project is never evicted
+        Assert.assertFalse(workspaceManager.evictLeastRecentlyUsedCompilation());
+
+        // The evicted project is compiled again when accessed, keeping the unsaved content
+        Optional<Document> document = workspaceManager.document(singleFile);
+        Assert.assertTrue(document.isPresent());
+        Assert.assertEquals(document.get().syntaxTree().textDocument().toString(), dummyContent);
+        Assert.assertTrue(workspaceManager.semanticModel(singleFile).isPresent());
+        Assert.assertEquals(workspaceManager.evictedProjectCount(), 0);
+    }
+
     @Test
     public void testWSEventsCreateBalSource() throws WorkspaceDocumentException, IOException {
         Path filePath = RESOURCE_DIRECTORY.resolve("myproject").resolve("main.bal").toAbsolutePath();
@@ -0,0 +1,37 @@
+const MAX = 10;
+
+type Point readonly & record {|
+    int x;
+    int y;
+|};
+
+readonly class Counter {
+    final int start;
+
+    function init(int start) {
+        self.start = start;
+    }
+
+    function next(int step) returns int {
+        return self.start + step;
+    }
+}
+
+enum Direction {
+    NORTH,
+    SOUTH
+}
+
+function sum(int a, readonly & int[] values) returns int {
+    int total = a;
+    foreach int value in values {
+        total += value;
+    }
+    Counter counter = new (total);
+    Point point = {x: counter.next(MAX), y: total};
+    Direction direction = NORTH;
+    string name = direction == SOUTH ? "south" : "north";
+    return point.x + point.y + name.length() + scale(total);
+}
+
+function scale(int value) returns int => value * MAX;
@@ -30,6 +30,7 @@ import org.ballerinalang.debugadapter.breakpoint.TemplateLogMessage;
 import org.ballerinalang.debugadapter.config.ClientConfigHolder;
 import org.ballerinalang.debugadapter.config.ClientLaunchConfigHolder;
 import org.ballerinalang.debugadapter.evaluation.BExpressionValue;
+import org.ballerinalang.debugadapter.evaluation.CompiledExpressionCache;
 import org.ballerinalang.debugadapter.evaluation.DebugExpressionEvaluator;
 import org.ballerinalang.debugadapter.evaluation.EvaluationException;
 import org.ballerinalang.debugadapter.evaluation.EvaluationExceptionKind;
@@ -69,6 +70,7 @@ public class BreakpointProcessor {
     private final ExecutionContext context;
     private final JDIEventProcessor jdiEventProcessor;
     private final Map<String, LinkedHashMap<Integer, BalBreakpoint>> userBreakpoints = new HashMap<>();
+    private final SourceClassIndex sourceClassIndex = new SourceClassIndex();
     private static final Logger LOGGER = LoggerFactory.getLogger(BreakpointProcessor.class);
 
     public BreakpointProcessor(ExecutionContext context, JDIEventProcessor jdiEventProcessor) {
@@ -178,27 +180,54 @@ public class BreakpointProcessor {
 
         context.getEventManager().deleteAllBreakpoints();
         if (instruction == DebugInstruction.CONTINUE || instruction == DebugInstruction.STEP_OVER) {
-            context.getDebuggeeVM().allClasses().forEach(referenceType ->
-                    activateUserBreakPoints(referenceType, false));
+            activateUserBreakPoints();
+        }
+    }
+
+    /**
+     * Processes a class loaded in the remote VM. The class is added to the index used to resolve the classes of the
+     * breakpoint sources, and the user breakpoints of its source are activated in it if required.
+     *
+     * @param referenceType       represent the type of an object in the remote VM
+     * @param activateBreakpoints if true, activates the user breakpoints of the source of the class
+     */
+    void processClassPrepare(ReferenceType referenceType, boolean activateBreakpoints) {
+        // avoids indexing classes if the server is running in 'no-debug' mode, as break points are never set.
+        if (isNoDebugMode()) {
+            return;
+        }
+        String qualifiedClassName = getQualifiedClassName(referenceType);
+        sourceClassIndex.add(qualifiedClassName, referenceType);
+        if (activateBreakpoints) {
+            activateUserBreakPoints(referenceType, qualifiedClassName, true);
+        }
+    }
+
+    /**
+     * Activates all the user-configured source breakpoints in the program VM, in the classes generated for their
+     * sources.
+     */
+    void activateUserBreakPoints() {
+        if (isNoDebugMode()) {
+            return;
+        }
+        for (String qualifiedClassName : new ArrayList<>(userBreakpoints.keySet())) {
+            sourceClassIndex.getClasses(context.getDebuggeeVM(), qualifiedClassName)
+                    .forEach(referenceType -> activateUserBreakPoints(referenceType, qualifiedClassName, false));
         }
     }
 
     /**
      * Activates user-configured source breakpoints in the program VM, via Java Debug Interface(JDI).
      *
-     * @param referenceType represent the type of an object in the remote VM
-     * @param shouldNotify  if true, notifies the debugger frontend with the user breakpoint verification information
+     * @param referenceType      represent the type of an object in the remote VM
+     * @param qualifiedClassName full-qualified class name derived from the source of the class
+     * @param shouldNotify       if true, notifies the debugger frontend with the user breakpoint verification
+     *                           information
      */
-    void activateUserBreakPoints(ReferenceType referenceType, boolean shouldNotify) {
+    private void activateUserBreakPoints(ReferenceType referenceType, String qualifiedClassName,
+                                         boolean shouldNotify) {
         try {
-            // avoids setting break points if the server is running in 'no-debug' mode.
-            ClientConfigHolder configHolder = context.getAdapter().getClientConfigHolder();
-            if (configHolder instanceof ClientLaunchConfigHolder
-                    && ((ClientLaunchConfigHolder) configHolder).isNoDebugMode()) {
-                return;
-            }
-
-            String qualifiedClassName = getQualifiedClassName(referenceType);
             if (!userBreakpoints.containsKey(qualifiedClassName)) {
                 return;
             }
@@ -226,6 +255,12 @@ public class BreakpointProcessor {
         }
     }
 
+    private boolean isNoDebugMode() {
+        ClientConfigHolder configHolder = context.getAdapter().getClientConfigHolder();
+        return configHolder instanceof ClientLaunchConfigHolder
+                && ((ClientLaunchConfigHolder) configHolder).isNoDebugMode();
+    }
+
     /**
      * Activates dynamic/temporary breakpoints (which will be used to process the STEP-OVER instruction) via Java Debug
      * Interface(JDI).
@@ -305,7 +340,15 @@ public class BreakpointProcessor {
                                                                    int lineNumber) {
         return CompletableFuture.supplyAsync(() -> {
             try {
+                long startTime = System.nanoTime();
                 BExpressionValue evaluatorResult = evaluateExpressionSafely(expression, threadReference);
+                if (LOGGER.isDebugEnabled()) {
+                    CompiledExpressionCache cache = context.getCompiledExpressionCache();
+                    LOGGER.debug(String.format("Evaluated breakpoint condition '%s' at line: %d in %d ms " +
+                                    "(compiled expression cache hits: %d, misses: %d)", expression, lineNumber,
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), cache.getHitCount(),
+                            cache.getMissCount()));
+                }
                 String condition = evaluatorResult.getStringValue();
                 if (evaluatorResult.getType() != BVariableType.BOOLEAN) {
                     String errorMessage = String.format(EvaluationExceptionKind.TYPE_MISMATCH.getReason(),
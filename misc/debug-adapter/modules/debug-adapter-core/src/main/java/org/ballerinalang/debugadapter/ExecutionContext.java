@@ -18,6 +18,7 @@ package org.ballerinalang.debugadapter;
 
 import com.sun.jdi.request.EventRequestManager;
 import io.ballerina.projects.Project;
+import org.ballerinalang.debugadapter.evaluation.CompiledExpressionCache;
 import org.ballerinalang.debugadapter.jdi.VirtualMachineProxyImpl;
 import org.eclipse.lsp4j.debug.services.IDebugProtocolClient;
 
@@ -38,6 +39,7 @@ public class ExecutionContext {
     private Project sourceProject;
     private String sourceProjectRoot;
     private final DebugProjectCache projectCache;
+    private final CompiledExpressionCache compiledExpressionCache;
     private Process launchedProcess;
     private DebugInstruction lastInstruction;
     private boolean terminateRequestReceived;
@@ -46,6 +48,7 @@ public class ExecutionContext {
     ExecutionContext(JBallerinaDebugServer adapter) {
         this.adapter = adapter;
         this.projectCache = new DebugProjectCache();
+        this.compiledExpressionCache = new CompiledExpressionCache();
         this.lastInstruction = DebugInstruction.CONTINUE;
     }
 
@@ -140,8 +143,14 @@ public class ExecutionContext {
         return projectCache;
     }
 
+    public CompiledExpressionCache getCompiledExpressionCache() {
+        return compiledExpressionCache;
+    }
+
     public void updateProjectCache(Project project) {
         this.projectCache.addProject(project);
+        // Compiled expressions hold the imports resolved against the previous project instances
+        this.compiledExpressionCache.clear();
     }
 
     public String getSourceProjectRoot() {
@@ -100,9 +100,8 @@ public class JDIEventProcessor {
 
     private void processEvent(EventSet eventSet, Event event) {
         if (event instanceof ClassPrepareEvent evt) {
-            if (context.getLastInstruction() != DebugInstruction.STEP_OVER) {
-                breakpointProcessor.activateUserBreakPoints(evt.referenceType(), true);
-            }
+            breakpointProcessor.processClassPrepare(evt.referenceType(),
+                    context.getLastInstruction() != DebugInstruction.STEP_OVER);
             eventSet.resume();
         } else if (event instanceof BreakpointEvent bpEvent) {
             breakpointProcessor.processBreakpointEvent(bpEvent);
@@ -129,8 +128,7 @@ public class JDIEventProcessor {
         if (context.getDebuggeeVM() != null) {
             // Setting breakpoints to a already running debug session.
             context.getEventManager().deleteAllBreakpoints();
-            context.getDebuggeeVM().allClasses().forEach(referenceType ->
-                    breakpointProcessor.activateUserBreakPoints(referenceType, false));
+            breakpointProcessor.activateUserBreakPoints();
         }
     }
 
@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.debugadapter;
+
+import com.sun.jdi.ReferenceType;
+import org.ballerinalang.debugadapter.jdi.VirtualMachineProxyImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.ballerinalang.debugadapter.utils.PackageUtils.getQualifiedClassName;
+
+/**
+ * Index of the classes loaded in the remote VM, against the full-qualified class names derived from their Ballerina
+ * sources.
+ * <p>
+ * The classes that are already loaded are indexed once when the index is first used, and the classes that are loaded
+ * afterwards are indexed as their class prepare events are received. Hence, resolving the classes of a source does
+ * not require going through all the loaded classes.
+ *
+ * @since 2201.11.0
+ */
+class SourceClassIndex {
+
+    private final Map<String, Set<ReferenceType>> sourceClasses = new ConcurrentHashMap<>();
+    private VirtualMachineProxyImpl indexedVM;
+
+    /**
+     * Adds the given class to the index.
+     *
+     * @param qualifiedClassName full-qualified class name derived from the source of the class
+     * @param referenceType      class loaded in the remote VM
+     */
+    void add(String qualifiedClassName, ReferenceType referenceType) {
+        sourceClasses.computeIfAbsent(qualifiedClassName, name -> ConcurrentHashMap.newKeySet()).add(referenceType);
+    }
+
+    /**
+     * Returns the classes generated for the Ballerina source with the given full-qualified class name.
+     *
+     * @param debuggeeVM         remote VM
+     * @param qualifiedClassName full-qualified class name of the source
+     * @return classes generated for the source
+     */
+    List<ReferenceType> getClasses(VirtualMachineProxyImpl debuggeeVM, String qualifiedClassName) {
+        indexLoadedClasses(debuggeeVM);
+        Set<ReferenceType> classes = sourceClasses.get(qualifiedClassName);
+        return classes == null ? List.of() : new ArrayList<>(classes);
+    }
+
+    private synchronized void indexLoadedClasses(VirtualMachineProxyImpl debuggeeVM) {
+        if (indexedVM == debuggeeVM) {
+            return;
+        }
+        // Classes of a previous remote VM are no longer valid
+        if (indexedVM != null) {
+            sourceClasses.clear();
+        }
+        debuggeeVM.allClasses().forEach(referenceType -> add(getQualifiedClassName(referenceType), referenceType));
+        indexedVM = debuggeeVM;
+    }
+}
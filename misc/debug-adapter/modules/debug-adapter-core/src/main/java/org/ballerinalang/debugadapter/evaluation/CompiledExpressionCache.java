@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.debugadapter.evaluation;
+
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of the expressions that are already parsed, validated and resolved against a debug point.
+ * <p>
+ * Conditional breakpoints and logpoints evaluate the same expressions at the same debug point on every hit. Since
+ * the parsed expression and the imports it uses only depend on the expression and the source location, they are
+ * reused across the hits, and only the evaluation against the current stack frame is repeated.
+ *
+ * @since 2201.11.0
+ */
+public class CompiledExpressionCache {
+
+    private static final int MAX_CACHED_EXPRESSIONS = 128;
+
+    private final Map<Key, CompiledExpression> compiledExpressions = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, CompiledExpression> eldest) {
+            return size() > MAX_CACHED_EXPRESSIONS;
+        }
+    };
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Returns the compiled expression for the given expression at the given debug point, if it is cached.
+     *
+     * @param expression expression string
+     * @param sourcePath source path of the debug point
+     * @param lineNumber line number of the debug point
+     * @return compiled expression
+     */
+    public synchronized Optional<CompiledExpression> get(String expression, Path sourcePath, int lineNumber) {
+        CompiledExpression compiledExpression = compiledExpressions.get(new Key(expression, sourcePath, lineNumber));
+        if (compiledExpression == null) {
+            missCount.incrementAndGet();
+            return Optional.empty();
+        }
+        hitCount.incrementAndGet();
+        return Optional.of(compiledExpression);
+    }
+
+    /**
+     * Caches the compiled expression for the given expression at the given debug point.
+     *
+     * @param expression         expression string
+     * @param sourcePath         source path of the debug point
+     * @param lineNumber         line number of the debug point
+     * @param compiledExpression compiled expression
+     */
+    public synchronized void put(String expression, Path sourcePath, int lineNumber,
+                                 CompiledExpression compiledExpression) {
+        compiledExpressions.put(new Key(expression, sourcePath, lineNumber), compiledExpression);
+    }
+
+    /**
+     * Returns the compiled expression for the given expression at the given debug point, compiling and caching it if
+     * it is not cached.
+     *
+     * @param expression expression string
+     * @param sourcePath source path of the debug point
+     * @param lineNumber line number of the debug point
+     * @param compiler   compiles the expression against the debug point
+     * @return compiled expression
+     * @throws EvaluationException if the expression cannot be compiled
+     */
+    public CompiledExpression getOrCompile(String expression, Path sourcePath, int lineNumber,
+                                           ExpressionCompiler compiler) throws EvaluationException {
+        Optional<CompiledExpression> cachedExpression = get(expression, sourcePath, lineNumber);
+        if (cachedExpression.isPresent()) {
+            return cachedExpression.get();
+        }
+        CompiledExpression compiledExpression = compiler.compile();
+        put(expression, sourcePath, lineNumber, compiledExpression);
+        return compiledExpression;
+    }
+
+    /**
+     * Removes all the cached expressions. This is used when the source project changes, since the cached imports are
+     * resolved against the semantic model of the previous project.
+     */
+    public synchronized void clear() {
+        compiledExpressions.clear();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * An expression that is parsed, validated and resolved against a debug point.
+     *
+     * @param expression      parsed expression, with its identifiers encoded
+     * @param resolvedImports imports visible at the debug point, against their module prefix/alias
+     */
+    public record CompiledExpression(ExpressionNode expression, Map<String, BImport> resolvedImports) {
+    }
+
+    /**
+     * Compiles an expression against a debug point.
+     */
+    @FunctionalInterface
+    public interface ExpressionCompiler {
+
+        CompiledExpression compile() throws EvaluationException;
+    }
+
+    private record Key(String expression, Path sourcePath, int lineNumber) {
+    }
+}
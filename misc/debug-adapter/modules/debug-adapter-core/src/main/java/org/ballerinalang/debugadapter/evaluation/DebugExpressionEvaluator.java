@@ -18,10 +18,13 @@ package org.ballerinalang.debugadapter.evaluation;
 
 import io.ballerina.compiler.syntax.tree.ExpressionNode;
 import org.ballerinalang.debugadapter.EvaluationContext;
+import org.ballerinalang.debugadapter.evaluation.CompiledExpressionCache.CompiledExpression;
 import org.ballerinalang.debugadapter.evaluation.engine.Evaluator;
 import org.ballerinalang.debugadapter.evaluation.validator.SerialExpressionValidator;
 
+import java.nio.file.Path;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.ballerinalang.debugadapter.evaluation.EvaluationException.createEvaluationException;
 
@@ -50,22 +53,19 @@ public class DebugExpressionEvaluator extends Evaluator {
     @Override
     public BExpressionValue evaluate() throws EvaluationException {
         try {
-            // Parses the given string expression.
-            SerialExpressionValidator expressionValidator = new SerialExpressionValidator();
-            ExpressionNode parsedExpression = expressionValidator.validateAndParse(expression);
+            // Reuses the parsed expression and the resolved imports, if the same expression has already been
+            // evaluated at the same debug point.
+            CompiledExpressionCache cache = context.getExecutionContext().getCompiledExpressionCache();
+            Optional<Path> sourcePath = context.getBreakPointSourcePath(context.getProject());
+            int lineNumber = context.getLineNumber();
 
-            EvaluationImportResolver importResolver = new EvaluationImportResolver(context);
-            Map<String, BImport> resolvedImports = importResolver.getAllImports();
-            evaluationContext.setResolvedImports(resolvedImports);
-            evaluationContext.setExpression(expression);
-            // Validates the import prefixes (qualified name references) within the expression.
-            importResolver.detectUsedImports(parsedExpression);
-
-            // Uses `ExpressionIdentifierModifier` to modify and encode all the identifiers within the expression.
-            parsedExpression = (ExpressionNode) parsedExpression.apply(new IdentifierModifier());
+            CompiledExpression compiledExpression = sourcePath.isPresent() ?
+                    cache.getOrCompile(expression, sourcePath.get(), lineNumber, this::compile) : compile();
 
+            evaluationContext.setResolvedImports(compiledExpression.resolvedImports());
+            evaluationContext.setExpression(expression);
             EvaluatorBuilder evaluatorBuilder = new EvaluatorBuilder(evaluationContext);
-            Evaluator evaluator = evaluatorBuilder.build(parsedExpression);
+            Evaluator evaluator = evaluatorBuilder.build(compiledExpression.expression());
             return evaluator.evaluate();
         } catch (EvaluationException e) {
             throw e;
@@ -73,4 +73,22 @@ public class DebugExpressionEvaluator extends Evaluator {
             throw createEvaluationException("internal error");
         }
     }
+
+    /**
+     * Parses and validates the expression, and resolves the imports it uses at the current debug point.
+     */
+    private CompiledExpression compile() throws EvaluationException {
+        // Parses the given string expression.
+        SerialExpressionValidator expressionValidator = new SerialExpressionValidator();
+        ExpressionNode parsedExpression = expressionValidator.validateAndParse(expression);
+
+        EvaluationImportResolver importResolver = new EvaluationImportResolver(context);
+        Map<String, BImport> resolvedImports = importResolver.getAllImports();
+        // Validates the import prefixes (qualified name references) within the expression.
+        importResolver.detectUsedImports(parsedExpression);
+
+        // Uses `ExpressionIdentifierModifier` to modify and encode all the identifiers within the expression.
+        parsedExpression = (ExpressionNode) parsedExpression.apply(new IdentifierModifier());
+        return new CompiledExpression(parsedExpression, resolvedImports);
+    }
 }
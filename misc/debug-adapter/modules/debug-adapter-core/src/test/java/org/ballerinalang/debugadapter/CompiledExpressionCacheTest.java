@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.debugadapter;
+
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.projects.Project;
+import org.ballerinalang.debugadapter.evaluation.CompiledExpressionCache;
+import org.ballerinalang.debugadapter.evaluation.CompiledExpressionCache.CompiledExpression;
+import org.ballerinalang.debugadapter.evaluation.EvaluationException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests reusing the compiled debugger expressions through the {@link CompiledExpressionCache}.
+ *
+ * @since 2201.11.0
+ */
+public class CompiledExpressionCacheTest {
+
+    private static final Path SOURCE_PATH = Path.of("/tmp/project/main.bal");
+
+    @Test
+    public void testExpressionIsCompiledOncePerDebugPoint() throws EvaluationException {
+        ExecutionContext context = new ExecutionContext(mock(JBallerinaDebugServer.class));
+        CompiledExpressionCache cache = context.getCompiledExpressionCache();
+        AtomicInteger compileCount = new AtomicInteger();
+
+        CompiledExpression compiledExpression = compile(cache, "a + b", 10, compileCount);
+        Assert.assertSame(compile(cache, "a + b", 10, compileCount), compiledExpression);
+        Assert.assertEquals(compileCount.get(), 1);
+        Assert.assertEquals(cache.getHitCount(), 1);
+        Assert.assertEquals(cache.getMissCount(), 1);
+
+        // The same expression at another line and another expression at the same line are compiled separately
+        Assert.assertNotSame(compile(cache, "a + b", 11, compileCount), compiledExpression);
+        Assert.assertNotSame(compile(cache, "a - b", 10, compileCount), compiledExpression);
+        Assert.assertEquals(compileCount.get(), 3);
+    }
+
+    @Test
+    public void testCacheIsClearedWhenProjectChanges() throws EvaluationException {
+        ExecutionContext context = new ExecutionContext(mock(JBallerinaDebugServer.class));
+        CompiledExpressionCache cache = context.getCompiledExpressionCache();
+        AtomicInteger compileCount = new AtomicInteger();
+
+        context.setSourceProject(mockProject());
+        CompiledExpression compiledExpression = compile(cache, "a + b", 10, compileCount);
+        Assert.assertSame(compile(cache, "a + b", 10, compileCount), compiledExpression);
+        Assert.assertEquals(compileCount.get(), 1);
+
+        context.setSourceProject(mockProject());
+        Assert.assertNotSame(compile(cache, "a + b", 10, compileCount), compiledExpression);
+        Assert.assertEquals(compileCount.get(), 2);
+        Assert.assertEquals(cache.getMissCount(), 2);
+    }
+
+    private static CompiledExpression compile(CompiledExpressionCache cache, String expression, int lineNumber,
+                                              AtomicInteger compileCount) throws EvaluationException {
+        return cache.getOrCompile(expression, SOURCE_PATH, lineNumber, () -> {
+            compileCount.incrementAndGet();
+            return new CompiledExpression(NodeParser.parseExpression(expression), Map.of());
+        });
+    }
+
+    private static Project mockProject() {
+        Project project = mock(Project.class);
+        when(project.sourceRoot()).thenReturn(SOURCE_PATH.getParent());
+        return project;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.debugadapter;
+
+import com.sun.jdi.AbsentInformationException;
+import com.sun.jdi.ReferenceType;
+import org.ballerinalang.debugadapter.jdi.VirtualMachineProxyImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.ballerinalang.debugadapter.utils.PackageUtils.getQualifiedClassName;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests resolving the classes of Ballerina sources through the {@link SourceClassIndex}.
+ *
+ * @since 2201.11.0
+ */
+public class SourceClassIndexTest {
+
+    @Test
+    public void testLoadedClassesAreIndexedOnce() throws AbsentInformationException {
+        ReferenceType mainClass = mockClass("testorg.pkg.1.main", "testorg/pkg/1/main.bal");
+        ReferenceType mainLambdaClass = mockClass("testorg.pkg.1.main$lambdas$", "testorg/pkg/1/main.bal");
+        ReferenceType utilClass = mockClass("testorg.pkg.1.util", "testorg/pkg/1/util.bal");
+        VirtualMachineProxyImpl debuggeeVM = mockVM(mainClass, mainLambdaClass, utilClass);
+
+        SourceClassIndex sourceClassIndex = new SourceClassIndex();
+        Assert.assertEquals(Set.copyOf(sourceClassIndex.getClasses(debuggeeVM, getQualifiedClassName(mainClass))),
+                Set.of(mainClass, mainLambdaClass));
+        Assert.assertEquals(sourceClassIndex.getClasses(debuggeeVM, getQualifiedClassName(utilClass)),
+                List.of(utilClass));
+        verify(debuggeeVM, times(1)).allClasses();
+    }
+
+    @Test
+    public void testClassesLoadedAfterIndexing() throws AbsentInformationException {
+        ReferenceType mainClass = mockClass("testorg.pkg.1.main", "testorg/pkg/1/main.bal");
+        ReferenceType utilClass = mockClass("testorg.pkg.1.util", "testorg/pkg/1/util.bal");
+        VirtualMachineProxyImpl debuggeeVM = mockVM(mainClass);
+
+        SourceClassIndex sourceClassIndex = new SourceClassIndex();
+        String utilClassName = getQualifiedClassName(utilClass);
+        Assert.assertTrue(sourceClassIndex.getClasses(debuggeeVM, utilClassName).isEmpty());
+
+        sourceClassIndex.add(utilClassName, utilClass);
+        Assert.assertEquals(sourceClassIndex.getClasses(debuggeeVM, utilClassName), List.of(utilClass));
+        verify(debuggeeVM, times(1)).allClasses();
+    }
+
+    @Test
+    public void testClassesOfPreviousVMAreDropped() throws AbsentInformationException {
+        ReferenceType mainClass = mockClass("testorg.pkg.1.main", "testorg/pkg/1/main.bal");
+        ReferenceType newMainClass = mockClass("testorg.pkg.1.main", "testorg/pkg/1/main.bal");
+        VirtualMachineProxyImpl debuggeeVM = mockVM(mainClass);
+        VirtualMachineProxyImpl newDebuggeeVM = mockVM(newMainClass);
+
+        SourceClassIndex sourceClassIndex = new SourceClassIndex();
+        String mainClassName = getQualifiedClassName(mainClass);
+        Assert.assertEquals(sourceClassIndex.getClasses(debuggeeVM, mainClassName), List.of(mainClass));
+        Assert.assertEquals(sourceClassIndex.getClasses(newDebuggeeVM, mainClassName), List.of(newMainClass));
+    }
+
+    @Test
+    public void testClassesWithoutBallerinaSources() throws AbsentInformationException {
+        ReferenceType javaClass = mockClass("java.lang.Object", "java/lang/Object.java");
+        VirtualMachineProxyImpl debuggeeVM = mockVM(javaClass);
+
+        SourceClassIndex sourceClassIndex = new SourceClassIndex();
+        Assert.assertEquals(sourceClassIndex.getClasses(debuggeeVM, "java.lang.Object"), List.of(javaClass));
+        Assert.assertTrue(sourceClassIndex.getClasses(debuggeeVM, "java.lang.Object.java").isEmpty());
+    }
+
+    private static ReferenceType mockClass(String className, String sourcePath) throws AbsentInformationException {
+        ReferenceType referenceType = mock(ReferenceType.class);
+        when(referenceType.name()).thenReturn(className);
+        when(referenceType.sourcePaths(null)).thenReturn(List.of(sourcePath));
+        when(referenceType.sourceNames(null)).thenReturn(List.of(sourcePath.substring(sourcePath.lastIndexOf('/')
+                + 1)));
+        return referenceType;
+    }
+
+    private static VirtualMachineProxyImpl mockVM(ReferenceType... loadedClasses) {
+        VirtualMachineProxyImpl debuggeeVM = mock(VirtualMachineProxyImpl.class);
+        when(debuggeeVM.allClasses()).thenReturn(List.of(loadedClasses));
+        return debuggeeVM;
+    }
+}
@@ -194,7 +194,9 @@ public final class Formatter {
         FormattingTreeModifier treeModifier = new FormattingTreeModifier(options, range);
         ModulePartNode modulePartNode = syntaxTree.rootNode();
         try {
-            return syntaxTree.modifyWith(treeModifier.transform(modulePartNode));
+            ModulePartNode newModulePartNode = range == null ? treeModifier.transform(modulePartNode) :
+                    treeModifier.transformInRange(modulePartNode);
+            return syntaxTree.modifyWith(newModulePartNode);
         } catch (Exception e) {
             throw new FormatterException("Error while formatting: " + e.getMessage(), e.getCause());
         }
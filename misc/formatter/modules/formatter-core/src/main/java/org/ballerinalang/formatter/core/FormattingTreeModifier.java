@@ -3929,31 +3929,12 @@ public class FormattingTreeModifier extends TreeModifier {
 
         boolean nodeModified = false;
         int size = members.size();
-
-        if (options.spacingFormattingOptions().alignConsecutiveDefinitions()) {
-            env.maxConstDefWidth = members.stream()
-                    .filter(member -> member.kind() == SyntaxKind.CONST_DECLARATION)
-                    .mapToInt(member -> getConstDefWidth((ConstantDeclarationNode) member))
-                    .max()
-                    .orElse(1);
-        }
+        setMaxConstDefWidth(members);
 
         Node[] newNodes = new Node[size];
         for (int index = 0; index < size; index++) {
             T currentMember = members.get(index);
-            Node nextMember = null;
-            if (index < size - 1) {
-                nextMember = members.get(index + 1);
-            }
-
-            // We need to do this check, because different kinds of children needs
-            // different number of newlines in-between.
-            int itemTrailingNL = 1;
-            if (filter.test(currentMember) || filter.test(nextMember)) {
-                itemTrailingNL++;
-            }
-
-            T newMember = formatListItem(0, itemTrailingNL, 0, 1, size, index,
+            T newMember = formatListItem(0, getMemberTrailingNL(members, index, filter), 0, 1, size, index,
                     currentMember);
             if (currentMember != newMember) {
                 nodeModified = true;
@@ -3968,6 +3949,112 @@ public class FormattingTreeModifier extends TreeModifier {
         return (NodeList<T>) NodeFactory.createNodeList(newNodes);
     }
 
+    /**
+     * Format only the module members and the EOF token that fall within the formatting range, and splice them back
+     * into the module part. Module members are formatted at the top-level indentation, hence the members outside the
+     * range are neither visited nor rebuilt. Falls back to formatting the whole module part, if the range overlaps the
+     * imports, since the imports are rearranged as a whole.
+     *
+     * @param modulePartNode Module part to be formatted
+     * @return Module part with the formatted members
+     */
+    ModulePartNode transformInRange(ModulePartNode modulePartNode) {
+        NodeList<ImportDeclarationNode> imports = modulePartNode.imports();
+        if (lineRange == null || hasImportsInRange(imports)) {
+            return transform(modulePartNode);
+        }
+
+        NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
+        int size = members.size();
+        setMaxConstDefWidth(members);
+
+        // The formatting state before a member only depends on whether the previous node ended with a newline
+        Node prevNode = imports.isEmpty() ? null : imports.get(imports.size() - 1);
+        ModuleMemberDeclarationNode[] newMembers = null;
+        boolean isRangeVisited = false;
+        boolean isRangeEndReached = false;
+        for (int index = 0; index < size; index++) {
+            ModuleMemberDeclarationNode member = members.get(index);
+            if (!isInlineRange(member, lineRange)) {
+                if (isRangeVisited || isAfterRange(member)) {
+                    isRangeEndReached = true;
+                    break;
+                }
+                prevNode = member;
+                continue;
+            }
+
+            if (!isRangeVisited && prevNode != null) {
+                checkForNewline(prevNode);
+            }
+            isRangeVisited = true;
+            ModuleMemberDeclarationNode newMember = formatListItem(0,
+                    getMemberTrailingNL(members, index, this::isMultilineModuleMember), 0, 1, size, index, member);
+            if (newMember != member) {
+                if (newMembers == null) {
+                    newMembers = members.stream().toArray(ModuleMemberDeclarationNode[]::new);
+                }
+                newMembers[index] = newMember;
+            }
+        }
+
+        Token eofToken = modulePartNode.eofToken();
+        if (!isRangeEndReached && isInlineRange(eofToken, lineRange)) {
+            if (!isRangeVisited && prevNode != null) {
+                checkForNewline(prevNode);
+            }
+            eofToken = formatToken(eofToken, 0, 0);
+        }
+
+        if (newMembers == null && eofToken == modulePartNode.eofToken()) {
+            return modulePartNode;
+        }
+        return modulePartNode.modify()
+                .withMembers(newMembers == null ? members : NodeFactory.createNodeList(newMembers))
+                .withEofToken(eofToken)
+                .apply();
+    }
+
+    private boolean hasImportsInRange(NodeList<ImportDeclarationNode> imports) {
+        if (imports.isEmpty()) {
+            return false;
+        }
+        LinePosition importsEnd = imports.get(imports.size() - 1).lineRange().endLine();
+        LinePosition rangeStart = lineRange.startLine();
+        boolean isBeforeRange = importsEnd.line() < rangeStart.line() ||
+                (importsEnd.line() == rangeStart.line() && importsEnd.offset() <= rangeStart.offset());
+        return !isBeforeRange && !isAfterRange(imports.get(0));
+    }
+
+    private boolean isAfterRange(Node node) {
+        LinePosition nodeStart = node.lineRange().startLine();
+        LinePosition rangeEnd = lineRange.endLine();
+        return nodeStart.line() > rangeEnd.line() ||
+                (nodeStart.line() == rangeEnd.line() && nodeStart.offset() >= rangeEnd.offset());
+    }
+
+    private <T extends Node> void setMaxConstDefWidth(NodeList<T> members) {
+        if (options.spacingFormattingOptions().alignConsecutiveDefinitions()) {
+            env.maxConstDefWidth = members.stream()
+                    .filter(member -> member.kind() == SyntaxKind.CONST_DECLARATION)
+                    .mapToInt(member -> getConstDefWidth((ConstantDeclarationNode) member))
+                    .max()
+                    .orElse(1);
+        }
+    }
+
+    private <T extends Node> int getMemberTrailingNL(NodeList<T> members, int index, Predicate<Node> filter) {
+        Node nextMember = index < members.size() - 1 ? members.get(index + 1) : null;
+
+        // We need to do this check, because different kinds of children needs
+        // different number of newlines in-between.
+        int itemTrailingNL = 1;
+        if (filter.test(members.get(index)) || filter.test(nextMember)) {
+            itemTrailingNL++;
+        }
+        return itemTrailingNL;
+    }
+
     private <T extends Node> boolean isMultilineModuleMember(T node) {
         if (node == null) {
             return false;
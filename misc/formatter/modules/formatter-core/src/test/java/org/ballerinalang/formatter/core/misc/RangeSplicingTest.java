@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.formatter.core.misc;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
+import io.ballerina.tools.text.TextDocuments;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test that range formatting only rewrites the module members within the range.
+ *
+ * @since 2201.11.0
+ */
+public class RangeSplicingTest {
+
+    private static final String UNFORMATTED_FUNCTION = """
+            function foo( ) {
+            int   a=1;
+            }
+            """;
+    private static final String FORMATTED_FUNCTION = """
+            function foo() {
+                int a = 1;
+            }
+            """;
+    private static final String UNFORMATTED_MEMBERS = """
+
+            function bar( ) {
+            int   b=2;
+            }
+
+            const   C=3;
+            """;
+
+    @Test
+    public void testMembersOutsideRangeAreUnchanged() throws FormatterException {
+        String imports = "import ballerina/io;\nimport ballerina/http;\n\n";
+        String source = imports + UNFORMATTED_FUNCTION + UNFORMATTED_MEMBERS;
+        SyntaxTree formattedTree = Formatter.format(parse(source), getRange(7, 0, 9, 1));
+        Assert.assertEquals(formattedTree.toSourceCode(), imports + UNFORMATTED_FUNCTION +
+                "\nfunction bar() {\n    int b = 2;\n}\n\nconst   C=3;\n");
+    }
+
+    @Test
+    public void testRangeFormattingMatchesFullFormatting() throws FormatterException {
+        String source = FORMATTED_FUNCTION + UNFORMATTED_MEMBERS;
+        SyntaxTree formattedTree = Formatter.format(parse(source), getRange(4, 0, 8, 11));
+        Assert.assertEquals(formattedTree.toSourceCode(), Formatter.format(source));
+    }
+
+    @Test
+    public void testRangeWithoutMembers() throws FormatterException {
+        String source = FORMATTED_FUNCTION + "\n\n\n" + UNFORMATTED_FUNCTION;
+        SyntaxTree syntaxTree = parse(source);
+        Assert.assertEquals(Formatter.format(syntaxTree, getRange(4, 0, 4, 0)).toSourceCode(), source);
+    }
+
+    private static SyntaxTree parse(String source) {
+        return SyntaxTree.from(TextDocuments.from(source));
+    }
+
+    private static LineRange getRange(int startLine, int startOffset, int endLine, int endOffset) {
+        return LineRange.from("main.bal", LinePosition.from(startLine, startOffset),
+                LinePosition.from(endLine, endOffset));
+    }
+}
@@ -72,6 +72,7 @@ public final class TesterinaConstants {
     public static final String COVERAGE_FILE = "module_coverage.json";
     public static final String RESULTS_JSON_FILE = "test_results.json";
     public static final String RERUN_TEST_JSON_FILE = "rerun_test.json";
+    public static final String TEST_IMPACT_JSON_FILE = "test_impact.json";
     public static final String RESULTS_HTML_FILE = "index.html";
     public static final String REPORT_XML_FILE = "coverage-report.xml";
     public static final String TOOLS_DIR_NAME = "tools";
@@ -61,6 +61,7 @@ import io.ballerina.projects.util.ProjectUtils;
 import io.ballerina.toml.semantic.ast.TomlTableArrayNode;
 import io.ballerina.toml.semantic.ast.TomlTableNode;
 import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.Location;
 import io.ballerina.tools.text.LinePosition;
 import org.apache.commons.io.FileUtils;
 import org.ballerinalang.test.BCompileUtil;
@@ -71,12 +72,14 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import org.wso2.ballerinalang.compiler.PackageCache;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.util.RepoUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
+import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -86,6 +89,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -1389,6 +1393,147 @@ public class TestBuildProject extends BaseTest {
                 .contains("unknown type 'PersonalDetails'"));
     }
 
+    @Test
+    public void testEditFunctionBodyWithIncrementalCompilation() {
+        Path projectPath = tempResourceDir.resolve("projects_for_edit_api_tests/package_with_dependencies");
+        String updatedBodyStr = """
+                public function concatStrings(string a, string b) returns string {
+                \treturn b + a;
+                }
+                """;
+        String updatedMultiLineBodyStr = """
+                public function concatStrings(string a, string b) returns string {
+                \tstring result = b + a;
+
+                \treturn result;
+                }
+                """;
+        String updatedSignatureStr = """
+                public function concatStrings(string a, string b, string c) returns string {
+                \treturn b + a;
+                }
+                """;
+
+        // 1) Initialize the project instance with incremental compilation
+        BuildProject project = loadBuildProject(projectPath,
+                BuildOptions.builder().setIncrementalCompilation(true).build());
+
+        // 2) Compile the package
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        Assert.assertEquals(compilation.diagnosticResult().diagnosticCount(), 0);
+        Assert.assertFalse(project.currentPackage().hasReusedModuleCompilations());
+        BLangPackage defaultModuleBLangPackage = compilation.defaultModuleBLangPackage();
+
+        // 3) Edit only the function body of a module that is used by another module
+        Module module = project.currentPackage().module(ModuleName.from(PackageName.from("myproject"), "util"));
+        DocumentId documentId = module.documentIds().stream().findFirst().get();
+        module.document(documentId).modify().withContent(updatedBodyStr).apply();
+
+        // 4) The dependant module should not be recompiled
+        PackageCompilation compilation1 = project.currentPackage().getCompilation();
+        Assert.assertEquals(compilation1.diagnosticResult().diagnosticCount(), 0);
+        Assert.assertSame(compilation1.defaultModuleBLangPackage(), defaultModuleBLangPackage);
+        Assert.assertTrue(project.currentPackage().hasReusedModuleCompilations());
+
+        // 5) Edit the function body adding new lines, which moves the declarations that follow it
+        module = project.currentPackage().module(ModuleName.from(PackageName.from("myproject"), "util"));
+        module.document(documentId).modify().withContent(updatedMultiLineBodyStr).apply();
+
+        PackageCompilation multiLineCompilation = project.currentPackage().getCompilation();
+        Assert.assertEquals(multiLineCompilation.diagnosticResult().diagnosticCount(), 0);
+        Assert.assertSame(multiLineCompilation.defaultModuleBLangPackage(), defaultModuleBLangPackage);
+
+        // 6) Edit the function signature, which should recompile the dependant module
+        module = project.currentPackage().module(ModuleName.from(PackageName.from("myproject"), "util"));
+        module.document(documentId).modify().withContent(updatedSignatureStr).apply();
+
+        PackageCompilation compilation2 = project.currentPackage().getCompilation();
+        DiagnosticResult diagnosticResult = compilation2.diagnosticResult();
+        Assert.assertNotSame(compilation2.defaultModuleBLangPackage(), defaultModuleBLangPackage);
+        Assert.assertFalse(project.currentPackage().hasReusedModuleCompilations());
+        Assert.assertEquals(diagnosticResult.diagnosticCount(), 1);
+        Assert.assertTrue(diagnosticResult.diagnostics().stream().findAny().get().message()
+                .contains("missing required parameter 'c'"));
+    }
+
+    @Test
+    public void testFindReferencesAcrossModulesAfterAddingLinesToBody() {
+        Path projectPath = tempResourceDir.resolve("projects_for_edit_api_tests/package_with_dependencies");
+        String utilStr = """
+                public function concatStrings(string a, string b) returns string {
+                \treturn a + b;
+                }
+
+                public function joinStrings(string a, string b) returns string {
+                \treturn a + b;
+                }
+                """;
+        String updatedMultiLineBodyStr = """
+                public function concatStrings(string a, string b) returns string {
+                \tstring result = b + a;
+
+                \treturn result;
+                }
+
+                public function joinStrings(string a, string b) returns string {
+                \treturn a + b;
+                }
+                """;
+        String mainStr = """
+                import myproject.util;
+
+                public function main() {
+                    string _ = util:joinStrings("my", "project");
+                }
+                """;
+
+        // 1) Initialize the project instance with incremental compilation, with a module which refers to a function
+        // declared after another function of the imported module
+        BuildProject project = loadBuildProject(projectPath,
+                BuildOptions.builder().setIncrementalCompilation(true).build());
+        Module utilModule = project.currentPackage().module(ModuleName.from(PackageName.from("myproject"), "util"));
+        DocumentId utilDocumentId = utilModule.documentIds().stream().findFirst().get();
+        utilModule.document(utilDocumentId).modify().withContent(utilStr).apply();
+        Module defaultModule = project.currentPackage().getDefaultModule();
+        DocumentId mainDocumentId = defaultModule.documentIds().stream().findFirst().get();
+        defaultModule.document(mainDocumentId).modify().withContent(mainStr).apply();
+
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        Assert.assertEquals(compilation.diagnosticResult().diagnosticCount(), 0);
+        Assert.assertEquals(getReferencedSymbolLine(project, mainDocumentId), 4);
+
+        // 2) Edit the body of the first function adding new lines, which moves the declaration of the referred function
+        utilModule = project.currentPackage().module(utilModule.moduleId());
+        utilModule.document(utilDocumentId).modify().withContent(updatedMultiLineBodyStr).apply();
+
+        // 3) The dependant module should be recompiled, so that the references point to the new location
+        PackageCompilation compilation1 = project.currentPackage().getCompilation();
+        Assert.assertEquals(compilation1.diagnosticResult().diagnosticCount(), 0);
+        Assert.assertNotSame(compilation1.defaultModuleBLangPackage(), compilation.defaultModuleBLangPackage());
+        Assert.assertFalse(project.currentPackage().hasReusedModuleCompilations());
+        Assert.assertEquals(getReferencedSymbolLine(project, mainDocumentId), 6);
+
+        SemanticModel utilSemanticModel = compilation1.getSemanticModel(utilModule.moduleId());
+        Document utilDocument = project.currentPackage().module(utilModule.moduleId()).document(utilDocumentId);
+        Symbol joinStrings = utilSemanticModel.symbol(utilDocument, LinePosition.from(6, 17)).orElseThrow();
+        SemanticModel semanticModel = compilation1.getSemanticModel(defaultModule.moduleId());
+        List<Location> references = semanticModel.references(joinStrings);
+        Assert.assertTrue(references.stream().anyMatch(location -> location.lineRange().fileName().equals("main.bal")
+                && location.lineRange().startLine().line() == 3));
+        Assert.assertTrue(utilSemanticModel.references(joinStrings).stream()
+                .anyMatch(location -> location.lineRange().startLine().line() == 6));
+    }
+
+    private static int getReferencedSymbolLine(BuildProject project, DocumentId mainDocumentId) {
+        Module defaultModule = project.currentPackage().getDefaultModule();
+        SemanticModel semanticModel = project.currentPackage().getCompilation()
+                .getSemanticModel(defaultModule.moduleId());
+        Symbol symbol = semanticModel.symbol(defaultModule.document(mainDocumentId), LinePosition.from(3, 22))
+                .orElseThrow();
+        Assert.assertEquals(symbol.getName().orElseThrow(), "joinStrings");
+        return symbol.getLocation().orElseThrow().lineRange().startLine().line();
+    }
+
     @Test
     public void testEditPackageWithCyclicDependency() {
         Path projectPath = tempResourceDir
@@ -1721,6 +1866,30 @@ public class TestBuildProject extends BaseTest {
         }
     }
 
+    @Test
+    public void testThinExecutableJar() throws IOException {
+        Path projectPath = tempResourceDir.resolve("projects_for_resources_tests/package_e");
+        BuildProject buildProject = loadBuildProject(projectPath);
+
+        PackageCompilation compilation = buildProject.currentPackage().getCompilation();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_17);
+        Path execPath = buildProject.sourceRoot().resolve(TARGET_DIR_NAME).resolve("temp-thin.jar");
+        EmitResult emitResult = jBallerinaBackend.emit(JBallerinaBackend.OutputType.THIN_EXEC, execPath);
+        Assert.assertTrue(emitResult.successful());
+
+        try (JarFile execJar = new JarFile(execPath.toString())) {
+            // Only the manifest is written to a thin jar
+            Assert.assertEquals(execJar.size(), 1);
+            Attributes attributes = execJar.getManifest().getMainAttributes();
+            Assert.assertNotNull(attributes.getValue(Attributes.Name.MAIN_CLASS));
+            String[] classPath = attributes.getValue(Attributes.Name.CLASS_PATH).split(" ");
+            Assert.assertTrue(classPath.length > 1);
+            for (String jarUri : classPath) {
+                Assert.assertTrue(Files.exists(Path.of(URI.create(jarUri))), jarUri);
+            }
+        }
+    }
+
     @Test (enabled = false)
     public void testAddResources() throws IOException {
         // 1. load the project
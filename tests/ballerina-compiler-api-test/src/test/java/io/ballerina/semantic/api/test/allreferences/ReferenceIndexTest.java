@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.semantic.api.test.allreferences;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.impl.ReferenceFinder;
+import io.ballerina.compiler.api.impl.ReferenceIndex;
+import io.ballerina.compiler.api.impl.symbols.BallerinaSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
+import org.ballerinalang.test.BCompileUtil;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static io.ballerina.semantic.api.test.util.SemanticAPITestUtils.getDefaultModulesSemanticModel;
+import static io.ballerina.semantic.api.test.util.SemanticAPITestUtils.getDocumentForSingleSource;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+/**
+ * Test cases to verify that the reference index of a module returns the same references as walking the module with
+ * the reference finder.
+ *
+ * @since 2201.11.0
+ */
+public class ReferenceIndexTest {
+
+    private SemanticModel model;
+    private Document srcFile;
+    private BLangPackage bLangPackage;
+    private ReferenceIndex referenceIndex;
+
+    @BeforeClass
+    public void setup() {
+        Project project = BCompileUtil.loadProject("test-src/reference-index-project");
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        assertEquals(compilation.diagnosticResult().errorCount(), 0);
+        model = getDefaultModulesSemanticModel(project);
+        srcFile = getDocumentForSingleSource(project);
+        bLangPackage = compilation.defaultModuleBLangPackage();
+        CompilerContext context = project.projectEnvironmentContext().getService(CompilerContext.class);
+        referenceIndex = ReferenceIndex.getInstance(bLangPackage, context);
+    }
+
+    @Test(dataProvider = "SymbolProvider")
+    public void testReferenceParityWithDefinition(String name, BSymbol symbol) {
+        assertEquals(lineRanges(referenceIndex.references(symbol, true)),
+                lineRanges(new ReferenceFinder(true).findReferences(bLangPackage, symbol)), name);
+    }
+
+    @Test(dataProvider = "SymbolProvider")
+    public void testReferenceParityWithoutDefinition(String name, BSymbol symbol) {
+        assertEquals(lineRanges(referenceIndex.references(symbol, false)),
+                lineRanges(new ReferenceFinder(false).findReferences(bLangPackage, symbol)), name);
+    }
+
+    @Test(dataProvider = "ReferenceCountProvider")
+    public void testReferenceCount(int line, int col, int expCount) {
+        Optional<Symbol> symbol = model.symbol(srcFile, LinePosition.from(line, col));
+        assertFalse(symbol.isEmpty());
+        BSymbol internalSymbol = ((BallerinaSymbol) symbol.get()).getInternalSymbol();
+        assertEquals(referenceIndex.references(internalSymbol, true).size(), expCount);
+        assertEquals(referenceIndex.references(internalSymbol, false).size(),
+                internalSymbol.pkgID.equals(bLangPackage.packageID) ? expCount - 1 : expCount);
+    }
+
+    @DataProvider(name = "ReferenceCountProvider")
+    public Object[][] getReferenceCounts() {
+        return new Object[][]{
+                // Module level symbols of the same module
+                {18, 6, 2}, // SEPARATOR
+                {20, 5, 2}, // Name
+                {22, 6, 2}, // Counter
+                {48, 9, 3}, // factorial, which refers to itself
+                // Symbols of the imported module, which are defined outside this module
+                {38, 21, 2}, // util:concat
+                {38, 33, 1}, // util:GREETING
+                {39, 9, 1}, // util:Node
+                {40, 19, 1}, // util:length
+                // Members of the class referred through self
+                {23, 8, 5}, // count
+                {25, 13, 3}, // increment
+        };
+    }
+
+    @DataProvider(name = "SymbolProvider")
+    public Object[][] getSymbols() {
+        Map<BSymbol, String> symbols = new IdentityHashMap<>();
+        List<Token> tokens = new ArrayList<>();
+        collectTokens(srcFile.syntaxTree().rootNode(), tokens);
+        for (Token token : tokens) {
+            if (token.kind() != SyntaxKind.IDENTIFIER_TOKEN && token.kind() != SyntaxKind.SELF_KEYWORD) {
+                continue;
+            }
+            model.symbol(srcFile, token.lineRange().startLine()).ifPresent(symbol -> symbols.putIfAbsent(
+                    ((BallerinaSymbol) symbol).getInternalSymbol(), token.text() + " at " + token.lineRange()));
+        }
+
+        Object[][] data = new Object[symbols.size()][];
+        int i = 0;
+        for (Map.Entry<BSymbol, String> entry : symbols.entrySet()) {
+            data[i++] = new Object[]{entry.getValue(), entry.getKey()};
+        }
+        return data;
+    }
+
+    private static void collectTokens(Node node, List<Token> tokens) {
+        if (node instanceof Token token) {
+            tokens.add(token);
+            return;
+        }
+        for (Node child : ((NonTerminalNode) node).children()) {
+            collectTokens(child, tokens);
+        }
+    }
+
+    private static List<LineRange> lineRanges(List<Location> locations) {
+        List<LineRange> lineRanges = new ArrayList<>(locations.size());
+        for (Location location : locations) {
+            lineRanges.add(location.lineRange());
+        }
+        return lineRanges;
+    }
+
+    @AfterClass
+    public void tearDown() {
+        model = null;
+        srcFile = null;
+        bLangPackage = null;
+        referenceIndex = null;
+    }
+}
@@ -0,0 +1,49 @@
+// Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import refindex.util;
+
+const SEPARATOR = ", ";
+
+type Name string;
+
+class Counter {
+    int count = 0;
+
+    function increment() returns int {
+        self.count = self.count + 1;
+        return self.count;
+    }
+
+    function reset() {
+        self.count = 0;
+        _ = self.increment();
+    }
+}
+
+@util:Doc
+public function main() {
+    Name name = util:concat(util:GREETING, SEPARATOR);
+    util:Node node = {value: 1, next: {value: 2}};
+    int len = util:length(node) + factorial(3);
+    util:Color color = util:RED;
+    Counter counter = new;
+    _ = counter.increment();
+    string greeting = util:concat(name, color) + len.toString();
+    _ = greeting;
+}
+
+function factorial(int n) returns int => n <= 1 ? 1 : n * factorial(n - 1);
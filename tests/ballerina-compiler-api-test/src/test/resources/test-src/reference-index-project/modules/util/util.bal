@@ -0,0 +1,38 @@
+// Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+public const GREETING = "Hello";
+
+public type Node record {|
+    int value;
+    Node? next = ();
+|};
+
+public enum Color {
+    RED,
+    GREEN
+}
+
+public annotation Doc on function;
+
+public function concat(string s1, string s2) returns string => s1 + s2;
+
+public function length(Node? node) returns int {
+    if node is () {
+        return 0;
+    }
+    return 1 + length(node.next);
+}
@@ -0,0 +1,79 @@
+// Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.array;
+
+// The members of immutable lists are processed in parallel partitions by the `map` and `filter` calls which initialize
+// variables annotated with `@array:parallel`, for isolated functions. The ballerina.array.parallelism system property
+// or the BALLERINA_ARRAY_PARALLELISM environment variable sets the maximum number of partitions. Run these benchmarks
+// with different values to measure the scaling.
+
+isolated function getImmutableIntArray(int size) returns readonly & int[] {
+    int[] arr = [];
+    int i = 0;
+    while (i < size) {
+        arr.push(i);
+        i += 1;
+    }
+    return arr.cloneReadOnly();
+}
+
+isolated function collatzSteps(int n) returns int {
+    int value = n + 1;
+    int steps = 0;
+    while (value != 1) {
+        value = value % 2 == 0 ? value / 2 : 3 * value + 1;
+        steps += 1;
+    }
+    return steps;
+}
+
+isolated function hasEvenCollatzSteps(int n) returns boolean => collatzSteps(n) % 2 == 0;
+
+public function benchmarkArrayMapOnImmutableArray(int warmupCount, int benchmarkCount) returns int {
+    // warmup exec
+    @array:parallel
+    int[] warmupSteps = getImmutableIntArray(warmupCount).map(collatzSteps);
+
+    readonly & int[] arr = getImmutableIntArray(benchmarkCount);
+    int startTime = nanoTime();
+    @array:parallel
+    int[] steps = arr.map(collatzSteps);
+    return nanoTime() - startTime;
+}
+
+public function benchmarkArrayFilterOnImmutableArray(int warmupCount, int benchmarkCount) returns int {
+    // warmup exec
+    @array:parallel
+    int[] warmupFiltered = getImmutableIntArray(warmupCount).filter(hasEvenCollatzSteps);
+
+    readonly & int[] arr = getImmutableIntArray(benchmarkCount);
+    int startTime = nanoTime();
+    @array:parallel
+    int[] filtered = arr.filter(hasEvenCollatzSteps);
+    return nanoTime() - startTime;
+}
+
+public function benchmarkArrayMapOnMutableArray(int warmupCount, int benchmarkCount) returns int {
+    // warmup exec
+    int[] warmupArr = [...getImmutableIntArray(warmupCount)];
+    int[] _ = warmupArr.map(collatzSteps);
+
+    int[] arr = [...getImmutableIntArray(benchmarkCount)];
+    int startTime = nanoTime();
+    int[] _ = arr.map(collatzSteps);
+    return nanoTime() - startTime;
+}
@@ -36,6 +36,9 @@ public function registerSingleExecFunctions() {
     addSingleExecFunction("benchmarkJoinWithQuery", benchmarkJoinWithQuery);
     addSingleExecFunction("benchmarkJoinWithForeach", benchmarkJoinWithForeach);
     addSingleExecFunction("benchmarkJoinWithWhile", benchmarkJoinWithWhile);
+    addSingleExecFunction("benchmarkArrayMapOnImmutableArray", benchmarkArrayMapOnImmutableArray);
+    addSingleExecFunction("benchmarkArrayFilterOnImmutableArray", benchmarkArrayFilterOnImmutableArray);
+    addSingleExecFunction("benchmarkArrayMapOnMutableArray", benchmarkArrayMapOnMutableArray);
 }
 
 public function registerMultiExecFunctions() {
@@ -22,6 +22,7 @@ import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.Future;
 import io.ballerina.runtime.api.PredefinedTypes;
 import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.async.MethodInvoker;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.types.MethodType;
 import io.ballerina.runtime.api.types.ObjectType;
@@ -86,6 +87,16 @@ public final class Async {
         return 0;
     }
 
+    public static long getFieldValWithRequiredArgUsingInvoker(Environment env, BObject obj, long num) {
+        invokeUsingMethodInvoker(env, obj, "getFieldValWithRequiredArg", num, true);
+        return 0;
+    }
+
+    public static long getFieldValWithMultipleOptionalArgsDefaultValUsingInvoker(Environment env, BObject obj) {
+        invokeUsingMethodInvoker(env, obj, "getFieldValWithMultipleOptionalArgs", 0, false, 0, false, 0, false);
+        return 0;
+    }
+
     public static long getA(Environment env, BObject obj) {
         invokeAsync(env, obj, "getA");
         return 0;
@@ -114,6 +125,16 @@ public final class Async {
         return objectType.isIsolated() && objectType.isIsolated(method.getValue());
     }
 
+    public static long isolatedGetAUsingInvoker(Environment env, BObject obj) {
+        invokeUsingMethodInvoker(env, obj, "getA");
+        return 0;
+    }
+
+    public static boolean isIsolatedInvoker(Environment env, BObject obj, BString method) {
+        return env.getRuntime().getMethodInvoker(obj, method.getValue(), null, null, PredefinedTypes.TYPE_INT)
+                .isIsolated();
+    }
+
     public static long nonIsolatedGetA(Environment env, BObject obj) {
         invokeMethodAsyncSequentially(env, obj, "getA");
         return 0;
@@ -178,6 +199,11 @@ public final class Async {
         return 0;
     }
 
+    public static Object callInvokerInvalidObjectMethod(Environment env, BObject obj) {
+        invokeUsingMethodInvoker(env, obj, "foo");
+        return 0;
+    }
+
     public static Object callAsyncNullObjectSequentially(Environment env) {
         invokeAsync(env, null, "getA");
         return 0;
@@ -238,6 +264,23 @@ public final class Async {
         }, null, PredefinedTypes.TYPE_INT, args);
     }
 
+    private static void invokeUsingMethodInvoker(Environment env, BObject obj, String methodName, Object... args) {
+        MethodInvoker invoker = env.getRuntime().getMethodInvoker(obj, methodName, null, null,
+                PredefinedTypes.TYPE_INT);
+        Future future = env.markAsync();
+        invoker.invoke(new Callback() {
+            @Override
+            public void notifySuccess(Object result) {
+                future.complete(result);
+            }
+
+            @Override
+            public void notifyFailure(BError error) {
+                future.complete(error);
+            }
+        }, null, args);
+    }
+
     private static void invokeAsync(Environment env, BObject obj, String methodName) {
         Future future = env.markAsync();
         Object result = env.getRuntime().invokeMethodAsync(obj, methodName, null, null, new Callback() {
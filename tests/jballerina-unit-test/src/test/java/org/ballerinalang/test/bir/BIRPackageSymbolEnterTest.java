@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.test.bir;
+
+import io.ballerina.projects.NullBackend;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.test.BCompileUtil;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.BIRPackageSymbolEnter;
+import org.wso2.ballerinalang.compiler.semantics.model.Scope;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.Names;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests the lazy definition of module level function symbols of packages loaded from BIR.
+ *
+ * @since 2201.11.0
+ */
+public class BIRPackageSymbolEnterTest {
+
+    private BIRPackageSymbolEnter birPackageSymbolEnter;
+    private PackageID pkgId;
+    private byte[] birBinary;
+
+    @BeforeClass
+    public void setup() {
+        Project project = BCompileUtil.loadProject("test-src/bir/lazy_function_symbols.bal");
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        Assert.assertFalse(NullBackend.from(compilation).hasErrors());
+        BPackageSymbol pkgSymbol = compilation.defaultModuleBLangPackage().symbol;
+        pkgId = pkgSymbol.pkgID;
+        birBinary = pkgSymbol.birPackageFile.pkgBirBinaryContent;
+        CompilerContext compilerContext = project.projectEnvironmentContext().getService(CompilerContext.class);
+        birPackageSymbolEnter = BIRPackageSymbolEnter.getInstance(compilerContext);
+    }
+
+    @Test
+    public void testLookupOfFunction() {
+        BPackageSymbol pkgSymbol = birPackageSymbolEnter.definePackage(pkgId, birBinary);
+        Scope.ScopeEntry entry = pkgSymbol.scope.lookup(Names.fromString("multiply"));
+        Assert.assertTrue(entry.symbol instanceof BInvokableSymbol);
+        Assert.assertEquals(entry.symbol.name.value, "multiply");
+        Assert.assertEquals(((BInvokableSymbol) entry.symbol).params.size(), 2);
+        Assert.assertSame(pkgSymbol.scope.lookup(Names.fromString("multiply")).symbol, entry.symbol);
+        Assert.assertSame(pkgSymbol.scope.lookup(Names.fromString("undefined")), Scope.NOT_FOUND_ENTRY);
+    }
+
+    @Test
+    public void testIterationDefinesAllFunctions() {
+        BPackageSymbol pkgSymbol = birPackageSymbolEnter.definePackage(pkgId, birBinary);
+        List<String> names = getEntryNames(pkgSymbol);
+        Assert.assertTrue(names.containsAll(List.of("LIMIT", "Counter", "total", "add", "subtract", "accumulate",
+                "multiply", "Tag")), names.toString());
+        for (String function : List.of("add", "subtract", "accumulate", "multiply")) {
+            Assert.assertTrue(pkgSymbol.scope.lookup(Names.fromString(function)).symbol instanceof BInvokableSymbol,
+                    function);
+        }
+    }
+
+    @Test
+    public void testEntryOrderIsIndependentOfLookupOrder() {
+        List<String> expectedNames = getEntryNames(birPackageSymbolEnter.definePackage(pkgId, birBinary));
+
+        BPackageSymbol pkgSymbol = birPackageSymbolEnter.definePackage(pkgId, birBinary);
+        pkgSymbol.scope.lookup(Names.fromString("multiply"));
+        pkgSymbol.scope.lookup(Names.fromString("accumulate"));
+        Assert.assertEquals(getEntryNames(pkgSymbol), expectedNames);
+
+        pkgSymbol = birPackageSymbolEnter.definePackage(pkgId, birBinary);
+        for (String function : List.of("multiply", "accumulate", "subtract", "add")) {
+            pkgSymbol.scope.lookup(Names.fromString(function));
+        }
+        Assert.assertEquals(getEntryNames(pkgSymbol), expectedNames);
+        Assert.assertTrue(expectedNames.indexOf("add") < expectedNames.indexOf("multiply"));
+        Assert.assertTrue(expectedNames.indexOf("multiply") < expectedNames.indexOf("Tag"));
+    }
+
+    private static List<String> getEntryNames(BPackageSymbol pkgSymbol) {
+        List<String> names = new ArrayList<>();
+        for (Name name : pkgSymbol.scope.entries.keySet()) {
+            names.add(name.value);
+        }
+        return names;
+    }
+
+    @AfterClass
+    public void tearDown() {
+        birPackageSymbolEnter = null;
+        birBinary = null;
+    }
+}
@@ -166,6 +166,7 @@ public class GroupByClauseTest {
                 "testEnumInInput",
                 "testEmptyGroups",
                 "testErrorSeq",
+                "testGroupByWithUnreferencedNonGroupingKeys",
                 "testGroupByExpressionAndSelectWithNonGroupingKeys1",
                 "testGroupByExpressionAndSelectWithGroupingKeys10",
                 "testGroupByExpressionAndSelectWithGroupingKeys11",
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.query;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_QUERY_PARALLELISM_PROPERTY;
+
+/**
+ * Test cases to verify that the queries over immutable lists and tables which are annotated with
+ * {@code @query:parallel} are processed in parallel partitions.
+ *
+ * @since 2201.11.0
+ */
+public class ParallelQueryTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/query/parallel-query.bal");
+        System.setProperty(BALLERINA_QUERY_PARALLELISM_PROPERTY, "4");
+    }
+
+    @Test(dataProvider = "dataToTestParallelQuery")
+    public void testParallelQuery(String functionName) {
+        BRunUtil.invoke(result, functionName);
+    }
+
+    @Test
+    public void testQueryIsProcessedInPartitions() {
+        BRunUtil.invoke(result, "testQueryIsProcessedInPartitions");
+    }
+
+    @Test(dataProvider = "dataToTestParallelQuery")
+    public void testQueryWithParallelismDisabled(String functionName) {
+        System.setProperty(BALLERINA_QUERY_PARALLELISM_PROPERTY, "1");
+        try {
+            BRunUtil.invoke(result, functionName);
+        } finally {
+            System.setProperty(BALLERINA_QUERY_PARALLELISM_PROPERTY, "4");
+        }
+    }
+
+    @DataProvider
+    public Object[] dataToTestParallelQuery() {
+        return new Object[]{
+                "testParallelQueryOverImmutableList",
+                "testParallelQueryOverImmutableTable",
+                "testParallelQueryOverSmallImmutableList",
+                "testParallelQueryWithDestructuredVariables",
+                "testPanicInMiddlePartition",
+                "testPanicInLowestPartitionTakesPrecedence"
+        };
+    }
+
+    @AfterClass
+    public void tearDown() {
+        System.clearProperty(BALLERINA_QUERY_PARALLELISM_PROPERTY);
+        result = null;
+    }
+}
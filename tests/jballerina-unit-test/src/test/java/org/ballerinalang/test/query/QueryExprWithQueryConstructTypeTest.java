@@ -531,6 +531,11 @@ public class QueryExprWithQueryConstructTypeTest {
         BRunUtil.invoke(result, "testInnerQueryConstructedWithCEP");
     }
 
+    @Test
+    public void testQueryOverKeyedTableWithKeyCondition() {
+        BRunUtil.invoke(result, "testQueryOverKeyedTableWithKeyCondition");
+    }
+
     @AfterClass
     public void tearDown() {
         result = null;
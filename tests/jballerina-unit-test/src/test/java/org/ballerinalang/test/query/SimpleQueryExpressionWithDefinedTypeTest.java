@@ -388,6 +388,21 @@ public class SimpleQueryExpressionWithDefinedTypeTest {
         BRunUtil.invoke(result, "testQueryExprWithLangLibCallsWithArrowFunctions");
     }
 
+    @Test
+    public void testQueryExprOverListMutatedDuringIteration() {
+        BRunUtil.invoke(result, "testQueryExprOverListMutatedDuringIteration");
+    }
+
+    @Test
+    public void testListQueryWithWhereAndLetClauses() {
+        BRunUtil.invoke(result, "testListQueryWithWhereAndLetClauses");
+    }
+
+    @Test
+    public void testQueryOverImmutableListWithIsolatedClauses() {
+        BRunUtil.invoke(result, "testQueryOverImmutableListWithIsolatedClauses");
+    }
+
     @AfterClass
     public void tearDown() {
         result = null;
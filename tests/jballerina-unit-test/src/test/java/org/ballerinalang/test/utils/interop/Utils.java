@@ -45,6 +45,10 @@ public final class Utils {
         EXECUTOR.schedule(() -> balFuture.complete(null), delayMillis, TimeUnit.MILLISECONDS);
     }
 
+    public static long getStrandId(Environment env) {
+        return env.getStrandId();
+    }
+
     public static void print(Object... values) {
         PrintStream out = System.out;
         if (values == null) {
@@ -0,0 +1,43 @@
+// Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const LIMIT = 10;
+
+type Counter object {
+    int count;
+
+    function increment() returns int;
+};
+
+int total = 0;
+
+public function add(int a, int b) returns int => a + b;
+
+function subtract(int a, int b) returns int => a - b;
+
+function accumulate(int value) {
+    total += value;
+}
+
+public function multiply(int a, int b) returns int {
+    int result = 0;
+    foreach int i in 0 ..< b {
+        result = add(result, a);
+    }
+    return result;
+}
+
+annotation Tag on function;
@@ -2239,6 +2239,34 @@ function testErrorSeq() {
     
 }
 
+function testGroupByWithUnreferencedNonGroupingKeys() {
+    var input = [{name: "Saman", price1: 11, price2: 11},
+                    {name: "Saman", price1: 12, price2: 12},
+                    {name: "Kamal", price1: 10, price2: 13},
+                    {name: "Amal", price1: 11, price2: 15}];
+
+    string[] x1 = from var {name, price1, price2} in input
+                group by name
+                select name;
+    assertEquality(["Saman", "Kamal", "Amal"], x1);
+
+    int[] x2 = from var {name, price1, price2} in input
+                group by name
+                select sum(price1);
+    assertEquality([23, 10, 11], x2);
+
+    int[][] x3 = from var {name, price1, price2} in input
+                group by name
+                let int total = sum(price1), int n = [price2].length()
+                group by n
+                select [n, ...[total]];
+    assertEquality([[2, 23], [1, 10, 11]], x3);
+
+    int x4 = from var {name, price1, price2} in input
+                collect [name].length();
+    assertEquality(4, x4);
+}
+
 function assertEquality(anydata expected, anydata actual) {
     if expected == actual {
         return;
@@ -0,0 +1,237 @@
+// Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/lang.query;
+
+// The members are processed in four partitions of 2500 members each when the parallelism is four.
+const LENGTH = 10000;
+const FACTOR = 3;
+
+type Entry record {|
+    readonly int id;
+    int value;
+|};
+
+function testParallelQueryOverImmutableList() {
+    readonly & int[] values = getValues();
+    final int offset = 7;
+    @query:parallel
+    int[] result = from int value in values
+        where value % 3 != 0
+        let int scaled = value * FACTOR + offset
+        select square(scaled);
+
+    int[] expected = [];
+    foreach int value in values {
+        if value % 3 != 0 {
+            expected.push(square(value * FACTOR + offset));
+        }
+    }
+    assertEquality(expected, result);
+
+    int[] squares = getSquares(values, 2);
+    assertEquality(LENGTH / 2, squares.length());
+    assertEquality(0, squares[0]);
+    assertEquality(square(LENGTH - 2), squares[LENGTH / 2 - 1]);
+}
+
+function getSquares(readonly & int[] values, int divisor) returns int[] {
+    @query:parallel
+    int[] squares = from int value in values
+        where value % divisor == 0
+        select square(value);
+    return squares;
+}
+
+function testParallelQueryOverImmutableTable() {
+    table<Entry> key(id) & readonly entries = getEntries();
+    final int offset = 7;
+    @query:parallel
+    int[] result = from Entry entry in entries
+        where entry.value % 3 != 0
+        select square(entry.value + offset);
+
+    int[] expected = [];
+    foreach Entry entry in entries {
+        if entry.value % 3 != 0 {
+            expected.push(square(entry.value + offset));
+        }
+    }
+    assertEquality(expected, result);
+}
+
+function testParallelQueryOverSmallImmutableList() {
+    readonly & int[] values = [1, 2, 3, 4, 5];
+    @query:parallel
+    int[] result = from int value in values
+        where value % 2 == 1
+        select square(value);
+    assertEquality([1, 9, 25], result);
+}
+
+function testParallelQueryWithDestructuredVariables() {
+    readonly & Entry[] entries = getEntries().toArray().cloneReadOnly();
+    @query:parallel
+    int[] result = from var {id, value} in entries
+        let int sum = id + value, [int, int] [low, high] = [sum / 2, sum * FACTOR]
+        where sum % 3 != 0
+        select square(high - low);
+
+    int[] expected = [];
+    foreach Entry entry in entries {
+        int sum = entry.id + entry.value;
+        if sum % 3 != 0 {
+            expected.push(square(sum * FACTOR - sum / 2));
+        }
+    }
+    assertEquality(expected, result);
+}
+
+function testPanicInMiddlePartition() {
+    readonly & int[] values = getValues();
+    final readonly & int[] invalidValues = [6000];
+    int[]|error result = trap validateValues(values, invalidValues);
+    assertError("invalid value: 6000", result);
+
+    result = trap validateEntries(getEntries(), invalidValues);
+    assertError("invalid value: 6000", result);
+}
+
+function testPanicInLowestPartitionTakesPrecedence() {
+    readonly & int[] values = getValues();
+    // The panic at the first member of the last partition is likely to happen before the panic at the last member of
+    // the second partition, but the panic of the lower partition is the one which is propagated.
+    final readonly & int[] invalidValues = [7500, 4999];
+    int[]|error result = trap validateOddValues(values, invalidValues);
+    assertError("invalid value: 4999", result);
+
+    result = trap validateOddEntries(getEntries(), invalidValues);
+    assertError("invalid value: 4999", result);
+}
+
+function testQueryIsProcessedInPartitions() {
+    readonly & int[] values = getValues();
+    @query:parallel
+    int[] strandIds = from int value in values
+        select getStrandId();
+    assertProcessedInPartitions(strandIds);
+
+    table<Entry> key(id) & readonly entries = getEntries();
+    @query:parallel
+    int[] entryStrandIds = from Entry entry in entries
+        select getStrandId();
+    assertProcessedInPartitions(entryStrandIds);
+
+    // A query which is not annotated is processed on the current strand.
+    int currentStrandId = getStrandId();
+    int[] sequentialStrandIds = from int value in values
+        where value % 2 == 0
+        select getStrandId();
+    assertEquality(LENGTH / 2, sequentialStrandIds.length());
+    foreach int strandId in sequentialStrandIds {
+        assertEquality(currentStrandId, strandId);
+    }
+}
+
+function validateValues(readonly & int[] values, readonly & int[] invalidValues) returns int[] {
+    @query:parallel
+    int[] result = from int value in values
+        select validate(value, invalidValues);
+    return result;
+}
+
+function validateOddValues(readonly & int[] values, readonly & int[] invalidValues) returns int[] {
+    @query:parallel
+    int[] result = from int value in values
+        where value % 2 == 1 || value == 7500
+        select validate(value, invalidValues);
+    return result;
+}
+
+function validateEntries(table<Entry> key(id) & readonly entries, readonly & int[] invalidValues) returns int[] {
+    @query:parallel
+    int[] result = from Entry entry in entries
+        select validate(entry.value, invalidValues);
+    return result;
+}
+
+function validateOddEntries(table<Entry> key(id) & readonly entries, readonly & int[] invalidValues) returns int[] {
+    @query:parallel
+    int[] result = from Entry entry in entries
+        where entry.value % 2 == 1 || entry.value == 7500
+        select validate(entry.value, invalidValues);
+    return result;
+}
+
+// The members are processed in four partitions, each on its own strand, which is not the current strand.
+function assertProcessedInPartitions(int[] strandIds) {
+    int partitionLength = LENGTH / 4;
+    int[] partitionStrandIds = [];
+    foreach int i in 0 ..< 4 {
+        int strandId = strandIds[i * partitionLength];
+        foreach int j in i * partitionLength ..< (i + 1) * partitionLength {
+            assertEquality(strandId, strandIds[j]);
+        }
+        assertEquality((), partitionStrandIds.indexOf(strandId));
+        partitionStrandIds.push(strandId);
+    }
+    assertEquality((), partitionStrandIds.indexOf(getStrandId()));
+}
+
+function getValues() returns readonly & int[] {
+    int[] values = [];
+    foreach int i in 0 ..< LENGTH {
+        values.push(i);
+    }
+    return values.cloneReadOnly();
+}
+
+function getEntries() returns table<Entry> key(id) & readonly {
+    table<Entry> key(id) entries = table [];
+    foreach int i in 0 ..< LENGTH {
+        entries.add({id: i, value: i});
+    }
+    return entries.cloneReadOnly();
+}
+
+isolated function square(int i) returns int => i * i;
+
+isolated function getStrandId() returns int = @java:Method {
+    'class: "org.ballerinalang.test.utils.interop.Utils"
+} external;
+
+isolated function validate(int value, readonly & int[] invalidValues) returns int {
+    if invalidValues.indexOf(value) != () {
+        panic error("invalid value: " + value.toString());
+    }
+    return value;
+}
+
+function assertError(string expectedMessage, any|error actual) {
+    if actual is error {
+        assertEquality(expectedMessage, actual.message());
+        return;
+    }
+    panic error("expected an error, found: " + (typeof actual).toString());
+}
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+    panic error("expected '" + expected.toString() + "', found '" + actual.toString() + "'");
+}
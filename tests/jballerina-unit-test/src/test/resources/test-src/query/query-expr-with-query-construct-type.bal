@@ -1934,6 +1934,83 @@ function testMapConstructQueryWithConflictingKeys() {
     assertEqual(result is map<anydata>, true);
 }
 
+const USER_ID = 2;
+
+function testQueryOverKeyedTableWithKeyCondition() {
+    table<User> key(id) users = table [
+        {id: 1, firstName: "John", lastName: "Doe", age: 25},
+        {id: 2, firstName: "Jane", lastName: "Doe", age: 30},
+        {id: 3, firstName: "Anne", lastName: "Frank", age: 65}
+    ];
+
+    string[] names = from var user in users
+                     where user.id == 2
+                     select user.firstName;
+    assertEqual(names, ["Jane"]);
+
+    names = from var user in users
+            where USER_ID == user.id
+            select user.firstName;
+    assertEqual(names, ["Jane"]);
+
+    final int id = 3;
+    names = from var user in users
+            where user.id == id && user.age < 60
+            select user.firstName;
+    assertEqual(names, []);
+
+    names = from var user in users
+            where (user.id == id && user.age > 20) && user.lastName == "Frank"
+            select user.firstName;
+    assertEqual(names, ["Anne"]);
+
+    // The key comparison is not the leftmost operand, so the other members are still checked
+    int[] checkedIds = [];
+    names = from var user in users
+            where isAdult(user, checkedIds) && user.id == id
+            select user.firstName;
+    assertEqual(names, ["Anne"]);
+    assertEqual(checkedIds, [1, 2, 3]);
+
+    string[]|error result = from var user in users
+                            where check validateUser(user) && user.id == 1
+                            select user.firstName;
+    assertEqual(result is error, true);
+    assertEqual((<error>result).message(), "invalid user: 3");
+
+    names = from var user in users
+            where user.id == 4
+            select user.firstName;
+    assertEqual(names, []);
+
+    assertEqual(getUserNamesById(users, 1), ["John"]);
+    assertEqual(getUserNamesById(users, 5), []);
+
+    int mutableId = 1;
+    names = from var user in users
+            where user.id == mutableId
+            select user.firstName;
+    assertEqual(names, ["John"]);
+}
+
+function isAdult(User user, int[] checkedIds) returns boolean {
+    checkedIds.push(user.id);
+    return user.age > 20;
+}
+
+function validateUser(User user) returns boolean|error {
+    if user.age > 60 {
+        return error(string `invalid user: ${user.id}`);
+    }
+    return true;
+}
+
+function getUserNamesById(table<User> key(id) users, int id) returns string[] {
+    return from var user in users
+           where user.id == id
+           select user.firstName;
+}
+
 function assertEqual(anydata|error actual, anydata|error expected) {
     anydata expectedValue = (expected is error)? (<error> expected).message() : expected;
     anydata actualValue = (actual is error)? (<error> actual).message() : actual;
@@ -750,6 +750,90 @@ function testQueryExprWithLangLibCallsWithArrowFunctions() {
     assertEquality(true, filteredPersons == [[{"firstName":"John", "lastName":"David", "age":50}]]);
 }
 
+function testQueryExprOverListMutatedDuringIteration() {
+    int[] list = [1, 2, 3];
+    int[] result = from int i in list
+        select appendAndGet(list, i);
+    assertEquality(true, result == [1, 2, 3]);
+    assertEquality(true, list == [1, 2, 3, 10, 20, 30]);
+
+    [int, string, int...] tuple = [1, "a", 2, 3];
+    (int|string)[] tupleResult = from int|string member in tuple
+        select member;
+    assertEquality(true, tupleResult == [1, "a", 2, 3]);
+
+    int[] empty = [];
+    int[] emptyResult = from int i in empty
+        select i;
+    assertEquality(true, emptyResult == []);
+}
+
+function testListQueryWithWhereAndLetClauses() {
+    (int|string?)[] values = [1, "two", (), 4, "five", 6];
+    int[] doubled = from int|string? value in values
+        where value is int
+        let int twice = value * 2
+        where twice > 2
+        select twice;
+    assertEquality(true, doubled == [8, 12]);
+
+    string[] strings = from var value in values
+        where value is string
+        let string upper = value.toUpperAscii(), int length = upper.length()
+        select upper + length.toString();
+    assertEquality(true, strings == ["TWO3", "FIVE4"]);
+
+    Person[] personList = [{firstName: "Alex", lastName: "George", age: 23},
+        {firstName: "Ranjan", lastName: "Fonseka", age: 30}];
+    [string, int][] names = from Person {firstName, age} in personList
+        where age > 25
+        select [firstName, age];
+    assertEquality(true, names == [["Ranjan", 30]]);
+}
+
+const FACTOR = 3;
+
+function testQueryOverImmutableListWithIsolatedClauses() {
+    int[] values = [];
+    foreach int i in 0 ..< 5000 {
+        values.push(i);
+    }
+    final readonly & int[] immutableValues = values.cloneReadOnly();
+    final int offset = 7;
+    int[] result = from int value in immutableValues
+        where value % 2 == 0
+        let int scaled = value * FACTOR + offset
+        select square(scaled);
+    assertEquality(2500, result.length());
+    assertEquality(square(offset), result[0]);
+    assertEquality(square(4998 * FACTOR + offset), result[2499]);
+
+    int[] expected = [];
+    foreach int value in values {
+        if value % 2 == 0 {
+            expected.push(square(value * FACTOR + offset));
+        }
+    }
+    assertEquality(true, result == expected);
+
+    table<Person> key(firstName) & readonly personTable = table [
+        {firstName: "Alex", lastName: "George", age: 23},
+        {firstName: "Ranjan", lastName: "Fonseka", age: 30},
+        {firstName: "John", lastName: "David", age: 33}
+    ];
+    string[] names = from Person person in personTable
+        where person.age > 25
+        select person.firstName.toUpperAscii();
+    assertEquality(true, names == ["RANJAN", "JOHN"]);
+}
+
+isolated function square(int i) returns int => i * i;
+
+function appendAndGet(int[] list, int i) returns int {
+    list.push(i * 10);
+    return i;
+}
+
 function assertEquality(any|error expected, any|error actual) {
     if expected is anydata && actual is anydata && expected == actual {
         return;
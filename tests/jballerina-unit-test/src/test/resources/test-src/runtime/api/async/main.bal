@@ -97,6 +97,16 @@ public class ObjectMethodsCallClass {
         name: "getFieldValWithDefaultValSpecialCharsAsync",
         'class: "org.ballerinalang.nativeimpl.jvm.runtime.api.tests.Async"
     } external;
+
+    public function callGetFieldValWithRequiredArgUsingInvoker(int num) returns int = @java:Method {
+        name: "getFieldValWithRequiredArgUsingInvoker",
+        'class: "org.ballerinalang.nativeimpl.jvm.runtime.api.tests.Async"
+    } external;
+
+    public function callGetFieldValWithMultipleOptionalArgsDefaultValUsingInvoker() returns int = @java:Method {
+        name: "getFieldValWithMultipleOptionalArgsDefaultValUsingInvoker",
+        'class: "org.ballerinalang.nativeimpl.jvm.runtime.api.tests.Async"
+    } external;
 }
 
 public isolated class IsolatedClass {
@@ -112,6 +122,16 @@ public isolated class IsolatedClass {
         'class: "org.ballerinalang.nativeimpl.jvm.runtime.api.tests.Async"
     } external;
 
+    public function callGetAUsingInvoker() returns int = @java:Method {
+        name: "isolatedGetAUsingInvoker",
+        'class: "org.ballerinalang.nativeimpl.jvm.runtime.api.tests.Async"
+    } external;
+
+    public function isIsolatedInvoker(string method) returns boolean = @java:Method {
+        name: "isIsolatedInvoker",
+        'class: "org.ballerinalang.nativeimpl.jvm.runtime.api.tests.Async"
+    } external;
+
     public function asyncGetA() returns int = @java:Method {
         name: "getA",
         'class: "org.ballerinalang.nativeimpl.jvm.runtime.api.tests.Async"
@@ -147,6 +167,11 @@ class NonIsolatedClass {
         'class: "org.ballerinalang.nativeimpl.jvm.runtime.api.tests.Async"
     } external;
 
+    public function isIsolatedInvoker(string method) returns boolean = @java:Method {
+        name: "isIsolatedInvoker",
+        'class: "org.ballerinalang.nativeimpl.jvm.runtime.api.tests.Async"
+    } external;
+
     public function asyncGetA() returns int = @java:Method {
         name: "getA",
         'class: "org.ballerinalang.nativeimpl.jvm.runtime.api.tests.Async"
@@ -266,6 +291,10 @@ public function callAsyncInvalidObjectMethodConcurrently(IsolatedClass s) return
 } external;
 
 
+public function callInvokerInvalidObjectMethod(IsolatedClass s) returns int|error = @java:Method {
+    'class: "org.ballerinalang.nativeimpl.jvm.runtime.api.tests.Async"
+} external;
+
 public function callAsyncNullObject() returns int|error = @java:Method {
     'class: "org.ballerinalang.nativeimpl.jvm.runtime.api.tests.Async"
 } external;
@@ -317,6 +346,8 @@ public function main() {
     test:assertEquals(objectMethodsCallClass.callGetFieldValWithProvidedOptionalArgVal("not a field"), -1);
     test:assertEquals(objectMethodsCallClass.callGetFieldValWithDefaultValSpecialChars(), 12);
     test:assertEquals(objectMethodsCallClass.callGetFieldValWithDefaultValSpecialCharsAsync(), 12);
+    test:assertEquals(objectMethodsCallClass.callGetFieldValWithRequiredArgUsingInvoker(5), 20);
+    test:assertEquals(objectMethodsCallClass.callGetFieldValWithMultipleOptionalArgsDefaultValUsingInvoker(), 12);
 
     IsolatedClass isolatedClass = new ();
     test:assertEquals(isolatedClass.callGetA(), 1);
@@ -324,6 +355,8 @@ public function main() {
     test:assertTrue(isolatedClass.isIsolated());
     test:assertTrue(isolatedClass.isIsolatedFunction());
     test:assertTrue(isolatedClass.isIsolatedFunctionWithName("getA"));
+    test:assertEquals(isolatedClass.callGetAUsingInvoker(), 1);
+    test:assertTrue(isolatedClass.isIsolatedInvoker("getA"));
 
     NonIsolatedClass nonIsolatedClass = new ();
     test:assertEquals(nonIsolatedClass.callGetA(), 2);
@@ -331,6 +364,7 @@ public function main() {
     test:assertFalse(nonIsolatedClass.isIsolated());
     test:assertFalse(nonIsolatedClass.isIsolatedFunction());
     test:assertFalse(nonIsolatedClass.isIsolatedFunctionWithName("getA"));
+    test:assertFalse(nonIsolatedClass.isIsolatedInvoker("getA"));
 
     IsolatedServiceClass isolatedServiceClass = new ();
     test:assertEquals(isolatedServiceClass.callGetA(), 3);
@@ -395,6 +429,11 @@ public function main() {
     error e9 = <error> r9;
     test:assertEquals(e9.message(), "No such method: foo");
 
+    error|int r10 = trap callInvokerInvalidObjectMethod(isolatedClass);
+    test:assertTrue(r10 is error);
+    error e10 = <error> r10;
+    test:assertEquals(e10.message(), "No such method: foo");
+
     testNonIsolatedSequentialCall();
 }
 